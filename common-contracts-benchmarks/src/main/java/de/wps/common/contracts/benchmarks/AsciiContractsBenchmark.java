@@ -0,0 +1,129 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.AsciiContracts;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Character class contracts on bytes (eight at a time), on a direct buffer and on a string compared to a loop over
+ * the bytes and to a precompiled regular expression, for inputs from 16 bytes to 1 MB. All inputs meet the contracts,
+ * so every contract reads the whole input.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AsciiContractsBenchmark {
+    private static final Pattern DIGITS = Pattern.compile("[0-9]*");
+    private static final Pattern ASCII = Pattern.compile("\\p{ASCII}*");
+
+    @Param({"16", "256", "4096", "65536", "1048576"})
+    private int size;
+
+    private byte[] digits;
+    private ByteBuffer directDigits;
+    private String digitsText;
+    private byte[] ascii;
+    private String asciiText;
+
+    @Setup
+    public void createInput() {
+        digits = new byte[size];
+        ascii = new byte[size];
+        for(int i = 0; i < size; i++) {
+            digits[i] = (byte) ('0' + i % 10);
+            ascii[i] = (byte) (' ' + i % 95);
+        }
+        directDigits = ByteBuffer.allocateDirect(size).put(digits).flip();
+        digitsText = new String(digits, StandardCharsets.US_ASCII);
+        asciiText = new String(ascii, StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public Object digits() {
+        return AsciiContracts.requireDigits(digits, "digits");
+    }
+
+    @Benchmark
+    public Object digitsDirectBuffer() {
+        return AsciiContracts.requireDigits(directDigits, "digits");
+    }
+
+    @Benchmark
+    public Object digitsString() {
+        return AsciiContracts.requireDigits(digitsText, "digits");
+    }
+
+    @Benchmark
+    public boolean digitsLoop() {
+        for(byte b : digits) {
+            if(b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean digitsRegex() {
+        return DIGITS.matcher(digitsText).matches();
+    }
+
+    @Benchmark
+    public Object ascii() {
+        return AsciiContracts.requireAscii(ascii, "ascii");
+    }
+
+    @Benchmark
+    public Object asciiString() {
+        return AsciiContracts.requireAscii(asciiText, "ascii");
+    }
+
+    @Benchmark
+    public boolean asciiLoop() {
+        for(byte b : ascii) {
+            if(b < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean asciiRegex() {
+        return ASCII.matcher(asciiText).matches();
+    }
+}
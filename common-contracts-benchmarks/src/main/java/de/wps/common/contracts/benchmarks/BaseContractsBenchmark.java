@@ -0,0 +1,389 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.BaseContracts;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Benchmarks for the pass path ({@code ...Pass}) and the failure path ({@code ...Fail}) of every method in
+ * {@link BaseContracts}.</p>
+ *
+ * <p>Failure benchmarks return the thrown exception, so the cost of building message and stack trace is included.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BaseContractsBenchmark {
+    private static final String NAME = "argument";
+    private static final String DESCRIPTION = "value must be positive";
+
+    private Object object = new Object();
+    private Object nullObject = null;
+    private Optional<Object> present = Optional.of(object);
+    private Optional<Object> empty = Optional.empty();
+    private boolean trueCondition = true;
+    private boolean falseCondition = false;
+    private Boolean boxedTrue = Boolean.TRUE;
+    private Boolean boxedFalse = Boolean.FALSE;
+    private Boolean boxedNull = null;
+    private Supplier<String> description = () -> DESCRIPTION;
+    private Predicate<Object> acceptAll = o -> true;
+    private Predicate<Object> rejectAll = o -> false;
+    private int value = 42;
+    private long limit = 100L;
+
+    @Benchmark
+    public Object requireNotNullPass() {
+        return BaseContracts.requireNotNull(object, NAME);
+    }
+
+    @Benchmark
+    public Object requireNotNullFail() {
+        try {
+            return BaseContracts.requireNotNull(nullObject, NAME);
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requirePresentPass() {
+        return BaseContracts.requirePresent(present, NAME);
+    }
+
+    @Benchmark
+    public Object requirePresentFail() {
+        try {
+            return BaseContracts.requirePresent(empty, NAME);
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void requireStringPass() {
+        BaseContracts.require(trueCondition, DESCRIPTION);
+    }
+
+    @Benchmark
+    public Object requireStringFail() {
+        try {
+            BaseContracts.require(falseCondition, DESCRIPTION);
+            return null;
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void requireBoxedStringPass() {
+        BaseContracts.require(boxedTrue, DESCRIPTION);
+    }
+
+    @Benchmark
+    public Object requireBoxedStringFail() {
+        try {
+            BaseContracts.require(boxedNull, DESCRIPTION);
+            return null;
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void requireSupplierPass() {
+        BaseContracts.require(trueCondition, description);
+    }
+
+    @Benchmark
+    public void requireCapturingSupplierPass() {
+        int v = value;
+        BaseContracts.require(trueCondition, () -> "value " + v + " must be positive");
+    }
+
+    @Benchmark
+    public Object requireSupplierFail() {
+        try {
+            BaseContracts.require(falseCondition, description);
+            return null;
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void requireTemplateIntPass() {
+        BaseContracts.require(trueCondition, "value %s must be positive", value);
+    }
+
+    @Benchmark
+    public void requireTemplateLongLongPass() {
+        BaseContracts.require(trueCondition, "value %s must be less than %s", value, limit);
+    }
+
+    @Benchmark
+    public void requireTemplateObjectPass() {
+        BaseContracts.require(trueCondition, "value %s must be known", object);
+    }
+
+    @Benchmark
+    public Object requireTemplateIntFail() {
+        try {
+            BaseContracts.require(falseCondition, "value %s must be positive", value);
+            return null;
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void requireBoxedSupplierPass() {
+        BaseContracts.require(boxedTrue, description);
+    }
+
+    @Benchmark
+    public Object requireBoxedSupplierFail() {
+        try {
+            BaseContracts.require(boxedFalse, description);
+            return null;
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object checkNotNullPass() {
+        return BaseContracts.checkNotNull(object, NAME);
+    }
+
+    @Benchmark
+    public Object checkNotNullFail() {
+        try {
+            return BaseContracts.checkNotNull(nullObject, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object checkPresentPass() {
+        return BaseContracts.checkPresent(present, NAME);
+    }
+
+    @Benchmark
+    public Object checkPresentFail() {
+        try {
+            return BaseContracts.checkPresent(empty, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void checkStringPass() {
+        BaseContracts.check(trueCondition, DESCRIPTION);
+    }
+
+    @Benchmark
+    public Object checkStringFail() {
+        try {
+            BaseContracts.check(falseCondition, DESCRIPTION);
+            return null;
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void checkBoxedStringPass() {
+        BaseContracts.check(boxedTrue, DESCRIPTION);
+    }
+
+    @Benchmark
+    public Object checkBoxedStringFail() {
+        try {
+            BaseContracts.check(boxedNull, DESCRIPTION);
+            return null;
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void checkSupplierPass() {
+        BaseContracts.check(trueCondition, description);
+    }
+
+    @Benchmark
+    public Object checkSupplierFail() {
+        try {
+            BaseContracts.check(falseCondition, description);
+            return null;
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void checkBoxedSupplierPass() {
+        BaseContracts.check(boxedTrue, description);
+    }
+
+    @Benchmark
+    public Object checkBoxedSupplierFail() {
+        try {
+            BaseContracts.check(boxedFalse, description);
+            return null;
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotNullPass() {
+        return BaseContracts.ensureNotNull(object, NAME);
+    }
+
+    @Benchmark
+    public Object ensureNotNullFail() {
+        try {
+            return BaseContracts.ensureNotNull(nullObject, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensurePresentPass() {
+        return BaseContracts.ensurePresent(present, NAME);
+    }
+
+    @Benchmark
+    public Object ensurePresentFail() {
+        try {
+            return BaseContracts.ensurePresent(empty, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void ensureStringPass() {
+        BaseContracts.ensure(trueCondition, DESCRIPTION);
+    }
+
+    @Benchmark
+    public Object ensureStringFail() {
+        try {
+            BaseContracts.ensure(falseCondition, DESCRIPTION);
+            return null;
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void ensureBoxedStringPass() {
+        BaseContracts.ensure(boxedTrue, DESCRIPTION);
+    }
+
+    @Benchmark
+    public Object ensureBoxedStringFail() {
+        try {
+            BaseContracts.ensure(boxedNull, DESCRIPTION);
+            return null;
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void ensureSupplierPass() {
+        BaseContracts.ensure(trueCondition, description);
+    }
+
+    @Benchmark
+    public Object ensureSupplierFail() {
+        try {
+            BaseContracts.ensure(falseCondition, description);
+            return null;
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void ensureBoxedSupplierPass() {
+        BaseContracts.ensure(boxedTrue, description);
+    }
+
+    @Benchmark
+    public Object ensureBoxedSupplierFail() {
+        try {
+            BaseContracts.ensure(boxedFalse, description);
+            return null;
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensurePredicateStringPass() {
+        return BaseContracts.ensure(object, acceptAll, DESCRIPTION);
+    }
+
+    @Benchmark
+    public Object ensurePredicateStringFail() {
+        try {
+            return BaseContracts.ensure(object, rejectAll, DESCRIPTION);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensurePredicateSupplierPass() {
+        return BaseContracts.ensure(object, acceptAll, description);
+    }
+
+    @Benchmark
+    public Object ensurePredicateSupplierFail() {
+        try {
+            return BaseContracts.ensure(object, rejectAll, description);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+}
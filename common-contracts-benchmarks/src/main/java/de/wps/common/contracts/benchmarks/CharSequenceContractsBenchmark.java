@@ -0,0 +1,90 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.StringContracts;
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>The {@link CharSequence} overloads of {@link StringContracts} on a {@link StringBuilder} and a {@link CharBuffer}
+ * compared to copying them into a {@link String} first. The payload starts with blanks, so the blank check has to
+ * look at the leading blanks only. Run with <code>-prof gc</code> to see the copies.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CharSequenceContractsBenchmark {
+    private static final String NAME = "payload";
+
+    @Param({"64", "4096"})
+    private int length;
+
+    private StringBuilder builder;
+    private CharBuffer buffer;
+
+    @Setup
+    public void createPayload() {
+        builder = new StringBuilder(length);
+        builder.append("    ");
+        while(builder.length() < length) {
+            builder.append('x');
+        }
+        buffer = CharBuffer.wrap(builder.toString().toCharArray());
+    }
+
+    @Benchmark
+    public Object builderHasText() {
+        return StringContracts.requireHasText(builder, NAME);
+    }
+
+    @Benchmark
+    public Object builderToStringHasText() {
+        return StringContracts.requireHasText(builder.toString(), NAME);
+    }
+
+    @Benchmark
+    public Object bufferHasText() {
+        return StringContracts.requireHasText(buffer, NAME);
+    }
+
+    @Benchmark
+    public Object bufferToStringHasText() {
+        return StringContracts.requireHasText(buffer.toString(), NAME);
+    }
+
+    @Benchmark
+    public Object bufferMaxLength() {
+        return StringContracts.requireMaxLength(buffer, length, NAME);
+    }
+}
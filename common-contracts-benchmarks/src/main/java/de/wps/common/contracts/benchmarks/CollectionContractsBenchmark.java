@@ -0,0 +1,139 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.CollectionContracts;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Benchmarks for the pass path ({@code ...Pass}) and the failure path ({@code ...Fail}) of every method in
+ * {@link CollectionContracts}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CollectionContractsBenchmark {
+    private static final String NAME = "argument";
+
+    private List<String> list = new ArrayList<>(List.of("a", "b", "c"));
+    private List<String> emptyList = new ArrayList<>();
+    private Map<String, String> map = new HashMap<>(Map.of("a", "b"));
+    private Map<String, String> emptyMap = new HashMap<>();
+
+    @Benchmark
+    public Object requireNotEmptyCollectionPass() {
+        return CollectionContracts.requireNotEmpty(list, NAME);
+    }
+
+    @Benchmark
+    public Object requireNotEmptyCollectionFail() {
+        try {
+            return CollectionContracts.requireNotEmpty(emptyList, NAME);
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object checkNotEmptyCollectionPass() {
+        return CollectionContracts.checkNotEmpty(list, NAME);
+    }
+
+    @Benchmark
+    public Object checkNotEmptyCollectionFail() {
+        try {
+            return CollectionContracts.checkNotEmpty(emptyList, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyCollectionPass() {
+        return CollectionContracts.ensureNotEmpty(list, NAME);
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyCollectionFail() {
+        try {
+            return CollectionContracts.ensureNotEmpty(emptyList, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireNotEmptyMapPass() {
+        return CollectionContracts.requireNotEmpty(map, NAME);
+    }
+
+    @Benchmark
+    public Object requireNotEmptyMapFail() {
+        try {
+            return CollectionContracts.requireNotEmpty(emptyMap, NAME);
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object checkNotEmptyMapPass() {
+        return CollectionContracts.checkNotEmpty(map, NAME);
+    }
+
+    @Benchmark
+    public Object checkNotEmptyMapFail() {
+        try {
+            return CollectionContracts.checkNotEmpty(emptyMap, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyMapPass() {
+        return CollectionContracts.ensureNotEmpty(map, NAME);
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyMapFail() {
+        try {
+            return CollectionContracts.ensureNotEmpty(emptyMap, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+}
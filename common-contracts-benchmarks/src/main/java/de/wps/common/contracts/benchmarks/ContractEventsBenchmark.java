@@ -0,0 +1,89 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.BaseContracts;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Overhead of the JFR events of the contracts: methods ending in {@code Recording} run in a JVM with a running
+ * flight recording, the others without. Without a recording, {@code ensurePredicate} should cost the same as
+ * {@code predicateBaseline}, which calls the predicate directly.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ContractEventsBenchmark {
+    private static final String START_RECORDING = "-XX:StartFlightRecording:filename=contracts-benchmark.jfr";
+
+    private String result = "result";
+    private Predicate<String> predicate = r -> !r.isEmpty();
+    private Object nullArgument = null;
+
+    @Benchmark
+    public String predicateBaseline() {
+        if(!predicate.test(result)) {
+            throw new IllegalStateException();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String ensurePredicate() {
+        return BaseContracts.ensure(result, predicate, "result not empty");
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = START_RECORDING)
+    public String ensurePredicateRecording() {
+        return BaseContracts.ensure(result, predicate, "result not empty");
+    }
+
+    @Benchmark
+    public Object requireNotNullFail() {
+        try {
+            return BaseContracts.requireNotNull(nullArgument, "argument");
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = START_RECORDING)
+    public Object requireNotNullFailRecording() {
+        try {
+            return BaseContracts.requireNotNull(nullArgument, "argument");
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.BaseContracts;
+import de.wps.common.contracts.StringContracts;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Throughput of contracts with {@link de.wps.common.contracts.ContractMetrics} enabled for 1 to 64 threads, all
+ * counting the same keys. With linear scaling the throughput grows with the number of threads (up to the number of
+ * cores), {@code metricsDisabled} is the baseline.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dde.wps.common.contracts.metrics=true")
+@State(Scope.Benchmark)
+public class ContractMetricsBenchmark {
+    private Object argument = new Object();
+    private String text = "text";
+    private int value = 42;
+
+    @Benchmark
+    @Fork(2)
+    public Object metricsDisabled() {
+        return contracts();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object metrics1Thread() {
+        return contracts();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object metrics4Threads() {
+        return contracts();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object metrics16Threads() {
+        return contracts();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object metrics64Threads() {
+        return contracts();
+    }
+
+    private Object contracts() {
+        BaseContracts.require(value > 0, "value > 0");
+        StringContracts.requireHasText(text, "text");
+        return BaseContracts.requireNotNull(argument, "argument");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.DenyList;
+import de.wps.common.contracts.StringContracts;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Lookups in a {@link DenyList} loaded from a sorted file compared to a {@link HashSet}, for strings on the list
+ * (confirmed by a binary search in the file) and strings not on it (mostly rejected by the Bloom filter). The heap
+ * held by the deny-list is given by {@link DenyList#filterSizeInBytes()}, about 1.25 bytes per entry.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DenyListBenchmark {
+    @Param({"100000", "1000000", "10000000"})
+    private int entries;
+
+    private Path file;
+    private DenyList denyList;
+    private Set<String> hashSet;
+    private String[] denied;
+    private String[] allowed;
+    private int next;
+
+    @Setup
+    public void createDenyList() throws IOException {
+        List<String> values = IntStream.range(0, entries).mapToObj(DenyListBenchmark::token).sorted().collect(Collectors.toList());
+        file = Files.createTempFile("deny-list", ".txt");
+        Files.write(file, values, StandardCharsets.UTF_8);
+        denyList = DenyList.load(file);
+        hashSet = new HashSet<>(values);
+        denied = new String[1024];
+        allowed = new String[1024];
+        for(int i = 0; i < denied.length; i++) {
+            denied[i] = token((int) ((long) i * entries / denied.length));
+            allowed[i] = token(entries + i);
+        }
+    }
+
+    @TearDown
+    public void deleteFile() throws IOException {
+        denyList.close();
+        Files.delete(file);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIndex() {
+        next = 0;
+    }
+
+    private static String token(int i) {
+        return "user-" + Integer.toHexString(i * 0x9E3779B1);
+    }
+
+    @Benchmark
+    public Object notDenied() {
+        next = (next + 1) & (allowed.length - 1);
+        return StringContracts.requireNotIn(allowed[next], denyList, "userName");
+    }
+
+    @Benchmark
+    public boolean denied() {
+        next = (next + 1) & (denied.length - 1);
+        return denyList.contains(denied[next]);
+    }
+
+    @Benchmark
+    public boolean hashSetNotDenied() {
+        next = (next + 1) & (allowed.length - 1);
+        return hashSet.contains(allowed[next]);
+    }
+
+    @Benchmark
+    public boolean hashSetDenied() {
+        next = (next + 1) & (denied.length - 1);
+        return hashSet.contains(denied[next]);
+    }
+}
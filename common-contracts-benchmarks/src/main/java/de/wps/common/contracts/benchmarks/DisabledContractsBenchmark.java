@@ -0,0 +1,88 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.BaseContracts;
+import de.wps.common.contracts.ContractConfiguration;
+import de.wps.common.contracts.ContractKind;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Shows that a disabled contract costs the same as an empty method: {@code disabledEnsure} and
+ * {@code disabledGuardedCheck} should match {@code baseline}, while {@code enabledEnsure} pays for the predicate walking
+ * the whole result.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DisabledContractsBenchmark {
+    private static final String DISABLE_ENSURE = "-Dde.wps.common.contracts.ensure.enabled=false";
+    private static final String DISABLE_CHECK_HERE = "-Dde.wps.common.contracts.check.disabledIn=de.wps.common.contracts.benchmarks.DisabledContractsBenchmark";
+    private static final boolean CHECKS = ContractConfiguration.isEnabled(ContractKind.CHECK, DisabledContractsBenchmark.class);
+    private static final Predicate<List<String>> NO_NULL_ELEMENTS = list -> list.stream().allMatch(Objects::nonNull);
+
+    private List<String> result = new ArrayList<>();
+
+    public DisabledContractsBenchmark() {
+        for(int i = 0; i < 1_000; i++) {
+            result.add("element " + i);
+        }
+    }
+
+    @Benchmark
+    public List<String> baseline() {
+        return result;
+    }
+
+    @Benchmark
+    public List<String> enabledEnsure() {
+        return BaseContracts.ensure(result, NO_NULL_ELEMENTS, "no null elements");
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLE_ENSURE)
+    public List<String> disabledEnsure() {
+        return BaseContracts.ensure(result, NO_NULL_ELEMENTS, "no null elements");
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLE_CHECK_HERE)
+    public List<String> disabledGuardedCheck() {
+        if(CHECKS) {
+            BaseContracts.check(NO_NULL_ELEMENTS.test(result), "no null elements");
+        }
+        return result;
+    }
+}
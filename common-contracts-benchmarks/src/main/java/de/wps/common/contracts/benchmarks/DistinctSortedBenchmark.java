@@ -0,0 +1,123 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.ArrayContracts;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>The distinctness and sortedness contracts on <code>long</code> arrays from 16 to 10M elements, compared to what
+ * callers did before: copying the values into a {@link HashSet} of boxed values, or sorting a copy. The
+ * <code>...InParallel</code> benchmarks run in the common pool.</p>
+ *
+ * <p><code>earlyDuplicate</code> has a duplicate at index 10, so it measures how fast the contract stops, compared
+ * to <code>boxedHashSet</code>, which always copies all values.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DistinctSortedBenchmark {
+    @Param({"16", "1000", "100000", "10000000"})
+    private int size;
+
+    private long[] shuffled;
+    private long[] sorted;
+    private long[] withEarlyDuplicate;
+
+    @Setup
+    public void createArrays() {
+        Random random = new Random(42);
+        sorted = new long[size];
+        for(int i = 0; i < size; i++) {
+            sorted[i] = i * 1_000_003L;
+        }
+        shuffled = sorted.clone();
+        for(int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long value = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = value;
+        }
+        withEarlyDuplicate = shuffled.clone();
+        withEarlyDuplicate[10] = withEarlyDuplicate[0];
+    }
+
+    @Benchmark
+    public long[] distinct() {
+        return ArrayContracts.requireDistinct(shuffled, "ids");
+    }
+
+    @Benchmark
+    public long[] distinctInParallel() {
+        return ArrayContracts.requireDistinctInParallel(shuffled, "ids");
+    }
+
+    @Benchmark
+    public boolean boxedHashSet() {
+        Set<Long> seen = new HashSet<>();
+        for(long value : shuffled) {
+            seen.add(value);
+        }
+        return seen.size() == shuffled.length;
+    }
+
+    @Benchmark
+    public Object earlyDuplicate() {
+        try {
+            return ArrayContracts.requireDistinct(withEarlyDuplicate, "ids");
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public long[] sorted() {
+        return ArrayContracts.requireSorted(sorted, "ids");
+    }
+
+    @Benchmark
+    public long[] sortedInParallel() {
+        return ArrayContracts.requireSortedInParallel(sorted, "ids");
+    }
+
+    @Benchmark
+    public boolean sortedCopy() {
+        long[] copy = sorted.clone();
+        Arrays.sort(copy);
+        return Arrays.equals(copy, sorted);
+    }
+}
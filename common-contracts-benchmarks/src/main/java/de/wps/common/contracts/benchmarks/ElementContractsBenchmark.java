@@ -0,0 +1,104 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.ArrayContracts;
+import de.wps.common.contracts.CollectionContracts;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Element contracts on arrays, {@link java.util.RandomAccess} lists, linked lists and maps of different sizes.
+ * Run with <code>-prof gc</code> to see that the passing contracts do not allocate.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ElementContractsBenchmark {
+    private static final Predicate<String> NOT_EMPTY = element -> !element.isEmpty();
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private String[] array;
+    private List<String> arrayList;
+    private List<String> linkedList;
+    private Map<String, String> map;
+
+    @Setup
+    public void createElements() {
+        array = new String[size];
+        map = new HashMap<>();
+        for(int i = 0; i < size; i++) {
+            array[i] = "element " + i;
+            map.put(array[i], array[i]);
+        }
+        arrayList = new ArrayList<>(List.of(array));
+        linkedList = new LinkedList<>(arrayList);
+    }
+
+    @Benchmark
+    public String[] arrayNoNullElements() {
+        return ArrayContracts.requireNoNullElements(array, "array");
+    }
+
+    @Benchmark
+    public String[] arrayAllMatch() {
+        return ArrayContracts.requireAllMatch(array, NOT_EMPTY, "array");
+    }
+
+    @Benchmark
+    public List<String> arrayListNoNullElements() {
+        return CollectionContracts.requireNoNullElements(arrayList, "arrayList");
+    }
+
+    @Benchmark
+    public List<String> arrayListAllMatch() {
+        return CollectionContracts.requireAllMatch(arrayList, NOT_EMPTY, "arrayList");
+    }
+
+    @Benchmark
+    public List<String> linkedListNoNullElements() {
+        return CollectionContracts.requireNoNullElements(linkedList, "linkedList");
+    }
+
+    @Benchmark
+    public Map<String, String> mapNoNullValues() {
+        return CollectionContracts.requireNoNullValues(map, "map");
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.BaseContracts;
+import de.wps.common.contracts.ContractConfiguration;
+import de.wps.common.contracts.StringContracts;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Compares the throughput of failing contracts with the default exceptions and with
+ * {@link ContractConfiguration#setStacklessExceptions(boolean) stackless exceptions}.</p>
+ *
+ * <p>{@code depth} adds frames between benchmark and contract, because the cost of capturing a stack trace grows with
+ * the stack depth of the throwing thread.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FailurePathBenchmark {
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    @Param({"0", "50"})
+    private int depth;
+
+    private boolean falseCondition = false;
+    private String tooLong = "this value exceeds the maximum length";
+    private int maxLength = 16;
+
+    @Setup
+    public void enableMode() {
+        ContractConfiguration.setStacklessExceptions(stackless);
+    }
+
+    @TearDown
+    public void resetMode() {
+        ContractConfiguration.setStacklessExceptions(false);
+    }
+
+    @Benchmark
+    public Object requireFail() {
+        return atDepth(depth, () -> BaseContracts.require(falseCondition, "condition"));
+    }
+
+    @Benchmark
+    public Object requireMaxLengthFail() {
+        return atDepth(depth, () -> StringContracts.requireMaxLength(tooLong, maxLength, "argument"));
+    }
+
+    private static Object atDepth(int depth, Runnable contract) {
+        if(depth > 0) {
+            return atDepth(depth - 1, contract);
+        }
+        try {
+            contract.run();
+            return null;
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
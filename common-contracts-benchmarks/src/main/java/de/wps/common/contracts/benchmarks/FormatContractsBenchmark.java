@@ -0,0 +1,109 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.FormatContracts;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Format contracts compared to validating by parsing with the JDK ({@link UUID#fromString(String)},
+ * {@link Instant#parse(CharSequence)} and {@link InetAddress#getByName(String)} with literal addresses, which do not
+ * cause a lookup) and to a regular expression for e-mail addresses. Run with <code>-prof gc</code> to compare the
+ * allocation rates.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FormatContractsBenchmark {
+    private static final Pattern EMAIL = Pattern.compile("[\\w!#$%&'*+/=?^`{|}~-]+(\\.[\\w!#$%&'*+/=?^`{|}~-]+)*"
+            + "@(\\p{Alnum}([\\p{Alnum}-]{0,61}\\p{Alnum})?\\.)+\\p{Alnum}([\\p{Alnum}-]{0,61}\\p{Alnum})?");
+
+    private String uuid = "123e4567-e89b-12d3-a456-426614174000";
+    private String instant = "2024-02-29T12:30:00.123456789Z";
+    private String ipv4 = "192.168.100.1";
+    private String ipv6 = "2001:db8:85a3::8a2e:370:7334";
+    private String email = "jane.doe+newsletter@mail.example.com";
+
+    @Benchmark
+    public Object uuid() {
+        return FormatContracts.requireUuid(uuid, "uuid");
+    }
+
+    @Benchmark
+    public Object uuidFromString() {
+        return UUID.fromString(uuid);
+    }
+
+    @Benchmark
+    public Object isoInstant() {
+        return FormatContracts.requireIsoInstant(instant, "instant");
+    }
+
+    @Benchmark
+    public Object instantParse() {
+        return Instant.parse(instant);
+    }
+
+    @Benchmark
+    public Object ipv4() {
+        return FormatContracts.requireIpv4(ipv4, "ipv4");
+    }
+
+    @Benchmark
+    public Object ipv4GetByName() throws UnknownHostException {
+        return InetAddress.getByName(ipv4);
+    }
+
+    @Benchmark
+    public Object ipv6() {
+        return FormatContracts.requireIpv6(ipv6, "ipv6");
+    }
+
+    @Benchmark
+    public Object ipv6GetByName() throws UnknownHostException {
+        return InetAddress.getByName(ipv6);
+    }
+
+    @Benchmark
+    public Object emailLike() {
+        return FormatContracts.requireEmailLike(email, "email");
+    }
+
+    @Benchmark
+    public boolean emailRegex() {
+        return EMAIL.matcher(email).matches();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.IndexContracts;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Decoding loops reading 1024 big endian ints from a byte array and a {@link ByteBuffer}, without checks, with
+ * hand written checks and with the index contracts. If C2 merges the contracts with its own bounds checks, the loop
+ * with contracts is as fast as the one without (compare with <code>-prof perfasm</code>).</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IndexContractsBenchmark {
+    private static final int VALUES = 1024;
+
+    private byte[] bytes = new byte[4 * VALUES];
+    private ByteBuffer buffer;
+
+    @Setup
+    public void createBytes() {
+        for(int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        buffer = ByteBuffer.wrap(bytes);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long decodeUnchecked() {
+        long sum = 0;
+        for(int offset = 0; offset < bytes.length; offset += 4) {
+            sum += readInt(bytes, offset);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long decodeHandChecked() {
+        long sum = 0;
+        for(int offset = 0; offset < bytes.length; offset += 4) {
+            if(offset < 0 || offset > bytes.length - 4) {
+                throw new IllegalArgumentException("offset " + offset + " out of bounds");
+            }
+            sum += readInt(bytes, offset);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long decodeFromIndexSize() {
+        long sum = 0;
+        for(int offset = 0; offset < bytes.length; offset += 4) {
+            sum += readInt(bytes, IndexContracts.requireFromIndexSize(offset, 4, bytes.length, "offset"));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long decodeBuffer() {
+        ByteBuffer input = buffer.duplicate();
+        long sum = 0;
+        while(input.hasRemaining()) {
+            sum += input.getInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long decodeBufferRemaining() {
+        ByteBuffer input = buffer.duplicate();
+        long sum = 0;
+        while(input.hasRemaining()) {
+            sum += IndexContracts.requireRemaining(input, 4, "input").getInt();
+        }
+        return sum;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8 | bytes[offset + 3] & 0xFF;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.CollectionContracts;
+import de.wps.common.contracts.KeySpec;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>The {@link KeySpec} contracts on {@link HashMap}s with 10 to 10,000 entries, compared to the hand-rolled checks
+ * with {@link Set#containsAll(java.util.Collection)}. <code>containsFewKeys</code> requires 5 keys of a large map,
+ * <code>onlyKeys</code> allows all keys of the map plus 5 others.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class KeySpecBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private Map<String, Object> map;
+    private KeySpec fewKeys;
+    private Set<String> fewKeySet;
+    private KeySpec allKeys;
+    private Set<String> allKeySet;
+
+    @Setup
+    public void createMap() {
+        map = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        for(int i = 0; i < size; i++) {
+            String key = "property" + i;
+            map.put(key, i);
+            keys.add(key);
+        }
+        List<String> requiredKeys = keys.subList(0, 5);
+        fewKeys = KeySpec.copyOf(requiredKeys);
+        fewKeySet = new HashSet<>(requiredKeys);
+        List<String> allowedKeys = new ArrayList<>(keys);
+        for(int i = 0; i < 5; i++) {
+            allowedKeys.add("optional" + i);
+        }
+        allKeys = KeySpec.copyOf(allowedKeys);
+        allKeySet = new HashSet<>(allowedKeys);
+    }
+
+    @Benchmark
+    public Object containsFewKeys() {
+        return CollectionContracts.requireContainsKeys(map, fewKeys, "map");
+    }
+
+    @Benchmark
+    public boolean containsFewKeysHandRolled() {
+        return map.keySet().containsAll(fewKeySet);
+    }
+
+    @Benchmark
+    public Object onlyKeys() {
+        return CollectionContracts.requireOnlyKeys(map, allKeys, "map");
+    }
+
+    @Benchmark
+    public boolean onlyKeysHandRolled() {
+        return allKeySet.containsAll(map.keySet());
+    }
+}
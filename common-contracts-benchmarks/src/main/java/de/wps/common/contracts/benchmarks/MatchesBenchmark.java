@@ -0,0 +1,66 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.StringContracts;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Matching contracts with a cached and a precompiled pattern compared to compiling the expression on every call,
+ * like <code>require(value.matches(regex), ...)</code> does. Runs with four threads to show contention on the
+ * cache.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MatchesBenchmark {
+    private String regex = "[A-Z]{2}\\d{2}[A-Z0-9]{12,30}";
+    private Pattern pattern = Pattern.compile(regex);
+    private String iban = "DE89370400440532013000";
+
+    @Benchmark
+    public Object cachedRegex() {
+        return StringContracts.requireMatches(iban, regex, "iban");
+    }
+
+    @Benchmark
+    public Object precompiledPattern() {
+        return StringContracts.requireMatches(iban, pattern, "iban");
+    }
+
+    @Benchmark
+    public boolean compiledPerCall() {
+        return iban.matches(regex);
+    }
+}
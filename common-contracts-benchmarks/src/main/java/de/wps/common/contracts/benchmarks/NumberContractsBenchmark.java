@@ -0,0 +1,104 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.BaseContracts;
+import de.wps.common.contracts.NumberContracts;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Range contracts in loops over 1024 elements. Run with <code>-prof gc</code> to see that the primitive contracts do
+ * not allocate, unlike the predicate based one, and with <code>-prof perfasm</code> to compare the loop with the
+ * unchecked loop: the index range check dominates the array bounds check, which is eliminated.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NumberContractsBenchmark {
+    private static final int SIZE = 1024;
+    private static final Predicate<Integer> IS_PORT = port -> port >= 0 && port < 65536;
+
+    private int[] ports = new int[SIZE];
+    private int[] indexes = new int[SIZE];
+    private long[] values = new long[SIZE];
+
+    @Setup
+    public void createValues() {
+        for(int i = 0; i < SIZE; i++) {
+            ports[i] = (i * 31) % 65536;
+            indexes[i] = (i * 7) % SIZE;
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long uncheckedLookup() {
+        long sum = 0;
+        for(int index : indexes) {
+            sum += values[index];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long inRangeLookup() {
+        long sum = 0;
+        for(int index : indexes) {
+            sum += values[NumberContracts.requireInRange(index, 0, values.length, "index")];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long inRangePorts() {
+        long sum = 0;
+        for(int port : ports) {
+            sum += NumberContracts.requireInRange(port, 0, 65536, "port");
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long predicatePorts() {
+        long sum = 0;
+        for(int port : ports) {
+            sum += BaseContracts.ensure(port, IS_PORT, "port in range");
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.AllowedEnumValues;
+import de.wps.common.contracts.AllowedValues;
+import de.wps.common.contracts.EnumContracts;
+import de.wps.common.contracts.StringContracts;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Membership in {@link AllowedValues} compared to {@link HashSet#contains(Object)} and to the set returned by
+ * {@link Set#of(Object[])} for 5 to 5000 allowed values, and {@link AllowedEnumValues} compared to an {@link EnumSet}.
+ * Each invocation looks up the next of 64 allowed strings; the strings are copies, so equality cannot be decided by
+ * identity.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class OneOfBenchmark {
+    @Param({"5", "50", "500", "5000"})
+    private int size;
+
+    private AllowedValues allowedValues;
+    private Set<String> hashSet;
+    private Set<String> immutableSet;
+    private String[] lookups;
+    private int next;
+
+    private AllowedEnumValues<TimeUnit> allowedUnits = AllowedEnumValues.of(TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.HOURS);
+    private Set<TimeUnit> unitSet = EnumSet.of(TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.HOURS);
+    private TimeUnit unit = TimeUnit.MINUTES;
+
+    @Setup
+    public void createValues() {
+        List<String> values = new ArrayList<>();
+        for(int i = 0; i < size; i++) {
+            values.add(String.format("V%04d", i * 7));
+        }
+        allowedValues = AllowedValues.copyOf(values);
+        hashSet = new HashSet<>(values);
+        immutableSet = Set.copyOf(values);
+        lookups = new String[64];
+        for(int i = 0; i < lookups.length; i++) {
+            lookups[i] = new String(values.get(i % size));
+        }
+    }
+
+    private String nextLookup() {
+        next = (next + 1) & (lookups.length - 1);
+        return lookups[next];
+    }
+
+    @Benchmark
+    public Object allowedValues() {
+        return StringContracts.requireOneOf(nextLookup(), allowedValues, "value");
+    }
+
+    @Benchmark
+    public boolean hashSet() {
+        return hashSet.contains(nextLookup());
+    }
+
+    @Benchmark
+    public boolean immutableSet() {
+        return immutableSet.contains(nextLookup());
+    }
+
+    @Benchmark
+    public Object allowedEnumValues() {
+        return EnumContracts.requireOneOf(unit, allowedUnits, "unit");
+    }
+
+    @Benchmark
+    public boolean enumSet() {
+        return unitSet.contains(unit);
+    }
+}
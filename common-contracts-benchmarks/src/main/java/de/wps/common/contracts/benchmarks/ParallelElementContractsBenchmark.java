@@ -0,0 +1,108 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.ArrayContracts;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Sequential compared to parallel element contracts on arrays from 1K to 100M elements, run in a
+ * {@link ForkJoinPool} with 1 to 32 threads. The <code>...Violation</code> benchmarks have a violating element in the
+ * middle of the array, so they measure how fast the parallel scan stops.</p>
+ *
+ * <p>The 100M arrays need a large heap, so the forks run with <code>-Xmx4g</code>. Restrict the parameters to the
+ * number of cores of the machine, e.g. <code>-p parallelism=1,2,4,8</code>.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ParallelElementContractsBenchmark {
+    private static final Predicate<String> NOT_EMPTY = element -> !element.isEmpty();
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private String[] array;
+    private String[] arrayWithViolation;
+
+    @Setup
+    public void createArrays() {
+        pool = new ForkJoinPool(parallelism);
+        array = new String[size];
+        Arrays.fill(array, "element");
+        arrayWithViolation = array.clone();
+        arrayWithViolation[size / 2] = "";
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public String[] sequential() {
+        return ArrayContracts.requireAllMatch(array, NOT_EMPTY, "array");
+    }
+
+    @Benchmark
+    public String[] parallel() {
+        return pool.submit(() -> ArrayContracts.requireAllMatchInParallel(array, NOT_EMPTY, "array")).join();
+    }
+
+    @Benchmark
+    public Object sequentialViolation() {
+        try {
+            return ArrayContracts.requireAllMatch(arrayWithViolation, NOT_EMPTY, "array");
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object parallelViolation() {
+        try {
+            return pool.submit(() -> ArrayContracts.requireAllMatchInParallel(arrayWithViolation, NOT_EMPTY, "array")).join();
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
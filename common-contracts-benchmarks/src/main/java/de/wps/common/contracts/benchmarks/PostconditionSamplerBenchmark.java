@@ -0,0 +1,77 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.PostconditionSampler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Cost of a sampled postcondition walking a result of 1000 elements for different sampling rates, single threaded
+ * and with 8 threads sharing one sampler.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PostconditionSamplerBenchmark {
+    private static final Predicate<List<String>> NO_NULL_ELEMENTS = list -> list.stream().allMatch(Objects::nonNull);
+
+    @Param({"1", "10", "100", "1000"})
+    private int rate;
+
+    private PostconditionSampler sampler;
+    private List<String> result = new ArrayList<>();
+
+    @Setup
+    public void createSampler() {
+        sampler = PostconditionSampler.oneIn(rate);
+        for(int i = 0; i < 1_000; i++) {
+            result.add("element " + i);
+        }
+    }
+
+    @Benchmark
+    public List<String> sampledEnsure() {
+        return sampler.ensure(result, NO_NULL_ELEMENTS, "no null elements");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<String> sampledEnsureShared() {
+        return sampler.ensure(result, NO_NULL_ELEMENTS, "no null elements");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.CollectionContracts;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>The size contracts on a {@link ConcurrentLinkedQueue}, whose <code>size()</code> counts all elements, compared
+ * to a hand-rolled check with <code>size()</code>, and on an {@link ArrayList} for reference. The queue has 10 to
+ * 100,000 elements, the maximum size is 16, so the contract iterates at most 17 elements.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SizeContractsBenchmark {
+    private static final int MAX_SIZE = 16;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private Queue<Integer> queue;
+    private List<Integer> list;
+
+    @Setup
+    public void createCollections() {
+        queue = new ConcurrentLinkedQueue<>();
+        list = new ArrayList<>();
+        for(int i = 0; i < size; i++) {
+            queue.add(i);
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public Object queueMaxSize() {
+        try {
+            return CollectionContracts.requireMaxSize(queue, MAX_SIZE, "queue");
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean queueSize() {
+        return queue.size() <= MAX_SIZE;
+    }
+
+    @Benchmark
+    public Object listMaxSize() {
+        try {
+            return CollectionContracts.requireMaxSize(list, MAX_SIZE, "list");
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.StreamContracts;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Overhead of the lazily validating stream wrappers of {@link StreamContracts} on sequential and parallel streams,
+ * compared to the plain streams.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StreamContractsBenchmark {
+    private static final Predicate<Integer> NOT_NEGATIVE = i -> i >= 0;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private List<Integer> elements = new ArrayList<>();
+
+    @Setup
+    public void createElements() {
+        for(int i = 0; i < size; i++) {
+            elements.add(i);
+        }
+    }
+
+    @Benchmark
+    public long plainStream() {
+        return elements.stream().mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long validatingStream() {
+        return StreamContracts.requireAllMatch(elements.stream(), NOT_NEGATIVE, "elements").mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long plainParallelStream() {
+        return elements.parallelStream().mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long validatingParallelStream() {
+        return StreamContracts.requireAllMatch(elements.parallelStream(), NOT_NEGATIVE, "elements").mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long notEmptyStream() {
+        return StreamContracts.requireNotEmpty(elements.stream(), "elements").mapToLong(i -> i).sum();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.StringContracts;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Benchmarks for the pass path ({@code ...Pass}) and the failure path ({@code ...Fail}) of every method in
+ * {@link StringContracts}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StringContractsBenchmark {
+    private static final String NAME = "argument";
+
+    private String text = "  some text with leading blanks";
+    private String shortText = "short text";
+    private String empty = "";
+    private String blank = "                                ";
+    private int maxLength = 16;
+
+    @Benchmark
+    public Object requireHasLengthPass() {
+        return StringContracts.requireHasLength(text, NAME);
+    }
+
+    @Benchmark
+    public Object requireHasLengthFail() {
+        try {
+            return StringContracts.requireHasLength(empty, NAME);
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireHasTextPass() {
+        return StringContracts.requireHasText(text, NAME);
+    }
+
+    @Benchmark
+    public Object requireHasTextFail() {
+        try {
+            return StringContracts.requireHasText(blank, NAME);
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireMaxLengthPass() {
+        return StringContracts.requireMaxLength(shortText, maxLength, NAME);
+    }
+
+    @Benchmark
+    public Object requireMaxLengthFail() {
+        try {
+            return StringContracts.requireMaxLength(text, maxLength, NAME);
+        } catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object checkHasLengthPass() {
+        return StringContracts.checkHasLength(text, NAME);
+    }
+
+    @Benchmark
+    public Object checkHasLengthFail() {
+        try {
+            return StringContracts.checkHasLength(empty, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object checkHasTextPass() {
+        return StringContracts.checkHasText(text, NAME);
+    }
+
+    @Benchmark
+    public Object checkHasTextFail() {
+        try {
+            return StringContracts.checkHasText(blank, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object checkMaxLengthPass() {
+        return StringContracts.checkMaxLength(shortText, maxLength, NAME);
+    }
+
+    @Benchmark
+    public Object checkMaxLengthFail() {
+        try {
+            return StringContracts.checkMaxLength(text, maxLength, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureHasLengthPass() {
+        return StringContracts.ensureHasLength(text, NAME);
+    }
+
+    @Benchmark
+    public Object ensureHasLengthFail() {
+        try {
+            return StringContracts.ensureHasLength(empty, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureHasTextPass() {
+        return StringContracts.ensureHasText(text, NAME);
+    }
+
+    @Benchmark
+    public Object ensureHasTextFail() {
+        try {
+            return StringContracts.ensureHasText(blank, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureMaxLengthPass() {
+        return StringContracts.ensureMaxLength(shortText, maxLength, NAME);
+    }
+
+    @Benchmark
+    public Object ensureMaxLengthFail() {
+        try {
+            return StringContracts.ensureMaxLength(text, maxLength, NAME);
+        } catch(IllegalStateException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import de.wps.common.contracts.StringContracts;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>UTF-8 length contracts compared to <code>getBytes(UTF_8).length</code> for ASCII only, mostly ASCII (5% umlauts)
+ * and CJK heavy texts. The limit is chosen so that the text just fits, which is the worst case for the contract.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class Utf8LengthBenchmark {
+    @Param({"ascii", "mostlyAscii", "cjk"})
+    private String content;
+
+    @Param({"32", "1024"})
+    private int length;
+
+    private String text;
+    private StringBuilder builder;
+    private int maxBytes;
+
+    @Setup
+    public void createText() {
+        Random random = new Random(42);
+        StringBuilder generated = new StringBuilder(length);
+        for(int i = 0; i < length; i++) {
+            switch(content) {
+                case "ascii":
+                    generated.append((char) ('a' + random.nextInt(26)));
+                    break;
+                case "mostlyAscii":
+                    generated.append(random.nextInt(20) == 0 ? 'ä' : (char) ('a' + random.nextInt(26)));
+                    break;
+                default:
+                    generated.append(random.nextInt(4) == 0 ? ' ' : (char) (0x4E00 + random.nextInt(0x5000)));
+            }
+        }
+        text = generated.toString();
+        builder = generated;
+        maxBytes = text.getBytes(UTF_8).length;
+    }
+
+    @Benchmark
+    public Object maxUtf8Length() {
+        return StringContracts.requireMaxUtf8Length(text, maxBytes, "text");
+    }
+
+    @Benchmark
+    public Object maxUtf8LengthBuilder() {
+        return StringContracts.requireMaxUtf8Length(builder, maxBytes, "text");
+    }
+
+    @Benchmark
+    public boolean getBytes() {
+        return text.getBytes(UTF_8).length <= maxBytes;
+    }
+
+    @Benchmark
+    public boolean getBytesBuilder() {
+        return builder.toString().getBytes(UTF_8).length <= maxBytes;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.BaseContracts;
+import de.wps.common.contracts.StringContracts;
+import de.wps.common.contracts.Validations;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Bulk validation of 1000 records with the non-throwing {@link Validations} compared to try/catch around the
+ * throwing contracts, for different failure rates (in percent). Half of the invalid records are null, the other half
+ * blank.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidationsBenchmark {
+    private static final int RECORDS = 1_000;
+
+    @Param({"10", "50"})
+    private int failureRate;
+
+    private String[] records = new String[RECORDS];
+
+    @Setup
+    public void createRecords() {
+        Random random = new Random(42);
+        for(int i = 0; i < RECORDS; i++) {
+            if(random.nextInt(100) >= failureRate) {
+                records[i] = "record " + i;
+            } else {
+                records[i] = random.nextBoolean() ? null : " ";
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int validationsHasText() {
+        int invalid = 0;
+        for(String record : records) {
+            if(Validations.hasText(record).isViolated()) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int tryCatchRequireHasText() {
+        int invalid = 0;
+        for(String record : records) {
+            try {
+                StringContracts.requireHasText(record, "record");
+            } catch(IllegalArgumentException e) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int validationsNotNull() {
+        int invalid = 0;
+        for(String record : records) {
+            if(Validations.notNull(record).isViolated()) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int tryCatchRequireNotNull() {
+        int invalid = 0;
+        for(String record : records) {
+            try {
+                BaseContracts.requireNotNull(record, "record");
+            } catch(IllegalArgumentException e) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+}
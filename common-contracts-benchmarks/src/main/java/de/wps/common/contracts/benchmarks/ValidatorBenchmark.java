@@ -0,0 +1,76 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts.benchmarks;
+
+import de.wps.common.contracts.BaseContracts;
+import de.wps.common.contracts.CollectionContracts;
+import de.wps.common.contracts.StringContracts;
+import de.wps.common.contracts.Validator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Validation of a valid object with five fields by a reused {@link Validator} compared to the equivalent
+ * <code>require</code> calls.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+    private Validator validator = new Validator();
+    private String name = "name";
+    private String description = "description";
+    private Object owner = new Object();
+    private List<String> tags = List.of("tag");
+    private int count = 42;
+
+    @Benchmark
+    public Validator validator() {
+        validator.reset()
+                .hasText(name, "name")
+                .maxLength(description, 100, "description")
+                .notNull(owner, "owner")
+                .notEmpty(tags, "tags")
+                .condition(count > 0, "count is positive")
+                .throwIfInvalid();
+        return validator;
+    }
+
+    @Benchmark
+    public Object requireContracts() {
+        StringContracts.requireHasText(name, "name");
+        StringContracts.requireMaxLength(description, 100, "description");
+        BaseContracts.requireNotNull(owner, "owner");
+        CollectionContracts.requireNotEmpty(tags, "tags");
+        BaseContracts.require(count > 0, "count is positive");
+        return owner;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>An immutable set of allowed constants of an enum, built once and checked by
+ * {@link EnumContracts#requireOneOf(Enum, AllowedEnumValues, String)} etc.</p>
+ *
+ * <p>Like a {@link EnumSet}, the constants are stored as a bit mask indexed by their ordinal, one <code>long</code> per
+ * 64 constants. Unlike a {@link EnumSet} behind a {@link java.util.Set} reference, a lookup is a final method with a
+ * single array read, a shift and a mask, without a type check of the looked up object.</p>
+ *
+ * @param <E> Type of the enum
+ */
+public final class AllowedEnumValues<E extends Enum<E>> {
+    private final long[] words;
+    private final List<E> values;
+
+    private AllowedEnumValues(EnumSet<E> values) {
+        long[] bits = new long[0];
+        for(E value : values) {
+            int word = value.ordinal() >>> 6;
+            if(word >= bits.length) {
+                bits = Arrays.copyOf(bits, word + 1);
+            }
+            bits[word] |= 1L << value.ordinal();
+        }
+        this.words = bits;
+        this.values = List.copyOf(values);
+    }
+
+    /**
+     * <p>Creates the set of allowed constants.</p>
+     *
+     * @param first An allowed constant
+     * @param rest The other allowed constants
+     * @return The allowed constants
+     * @throws IllegalArgumentException if a constant is null
+     * @param <E> Type of the enum
+     */
+    @SafeVarargs
+    public static <E extends Enum<E>> @NonNull AllowedEnumValues<E> of(@NonNull E first, @NonNull E... rest) {
+        if(first == null) {
+            throw new IllegalArgumentException("Argument first was null");
+        }
+        EnumSet<E> values = EnumSet.of(first);
+        for(int i = 0; i < rest.length; i++) {
+            if(rest[i] == null) {
+                throw new IllegalArgumentException("Argument rest contained a null element at index " + i);
+            }
+            values.add(rest[i]);
+        }
+        return new AllowedEnumValues<>(values);
+    }
+
+    /**
+     * <p>Creates the set of allowed constants from a set, e.g. an {@link EnumSet} or the result of
+     * {@link EnumSet#range(Enum, Enum)}.</p>
+     *
+     * @param values The allowed constants
+     * @param type The class of the enum, needed if values is empty
+     * @return The allowed constants
+     * @throws IllegalArgumentException if values contains null
+     * @param <E> Type of the enum
+     */
+    public static <E extends Enum<E>> @NonNull AllowedEnumValues<E> copyOf(@NonNull Collection<E> values, @NonNull Class<E> type) {
+        EnumSet<E> copy = EnumSet.noneOf(type);
+        int index = 0;
+        for(E value : values) {
+            if(value == null) {
+                throw new IllegalArgumentException("Argument values contained a null element at index " + index);
+            }
+            copy.add(value);
+            index++;
+        }
+        return new AllowedEnumValues<>(copy);
+    }
+
+    /**
+     * <p>Returns whether the constant is one of the allowed constants.</p>
+     *
+     * @param value The constant to look up
+     * @return true if value is allowed, false if it is not or is null
+     */
+    public boolean contains(@Nullable E value) {
+        if(value == null) {
+            return false;
+        }
+        int ordinal = value.ordinal();
+        int word = ordinal >>> 6;
+        return word < words.length && (words[word] & 1L << ordinal) != 0;
+    }
+
+    /**
+     * <p>Returns the number of allowed constants.</p>
+     *
+     * @return The number of allowed constants
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * <p>Lists the allowed constants in the order of their declaration.</p>
+     */
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>An immutable set of allowed strings, e.g. currency codes or status names, built once and checked by
+ * {@link StringContracts#requireOneOf(String, AllowedValues, String)} etc.</p>
+ *
+ * <p>The values are stored in an open addressing hash table together with their hash codes. When the table is built,
+ * several odd multipliers are tried to spread the hash codes over the table, and the one with the shortest longest
+ * probe sequence is kept. Small sets usually get a perfect placement, where every value is found in its first slot.
+ * A lookup is rejected early if no allowed value has the length of the string, then it reads the (cached) hash code of
+ * the string and compares at most the number of slots of the longest probe sequence, without the iteration and boxing
+ * of a {@link java.util.HashSet}.</p>
+ */
+public final class AllowedValues {
+    private static final int MAX_MULTIPLIER_TRIES = 64;
+    private static final int MAX_SHOWN_VALUES = 8;
+
+    private final String[] values;
+    private final String[] table;
+    private final int[] hashes;
+    private final int multiplier;
+    private final int shift;
+    private final int maxProbes;
+    private final long lengths;
+
+    private AllowedValues(String[] values) {
+        this.values = values;
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, values.length) * 2 - 1);
+        this.shift = 32 - bits;
+        this.table = new String[1 << bits];
+        this.hashes = new int[1 << bits];
+        SplittableRandom random = new SplittableRandom(values.length);
+        int bestMultiplier = 0x9E3779B9;
+        int bestProbes = probes(values, bestMultiplier, table.length);
+        for(int i = 1; i < MAX_MULTIPLIER_TRIES && bestProbes > 0; i++) {
+            int candidate = random.nextInt() | 1;
+            int probes = probes(values, candidate, table.length);
+            if(probes < bestProbes) {
+                bestMultiplier = candidate;
+                bestProbes = probes;
+            }
+        }
+        this.multiplier = bestMultiplier;
+        this.maxProbes = bestProbes;
+        long presentLengths = 0;
+        for(String value : values) {
+            int hash = value.hashCode();
+            int index = slot(hash);
+            while(table[index] != null) {
+                index = (index + 1) & (table.length - 1);
+            }
+            table[index] = value;
+            hashes[index] = hash;
+            presentLengths |= 1L << Math.min(value.length(), 63);
+        }
+        this.lengths = presentLengths;
+    }
+
+    /**
+     * <p>Creates the set of allowed values. Duplicates are ignored.</p>
+     *
+     * @param values The allowed values
+     * @return The allowed values
+     * @throws IllegalArgumentException if values contains null
+     */
+    public static @NonNull AllowedValues of(@NonNull String... values) {
+        return copyOf(Arrays.asList(values));
+    }
+
+    /**
+     * <p>Creates the set of allowed values from a collection. Duplicates are ignored.</p>
+     *
+     * @param values The allowed values
+     * @return The allowed values
+     * @throws IllegalArgumentException if values contains null
+     */
+    public static @NonNull AllowedValues copyOf(@NonNull Collection<String> values) {
+        Set<String> distinct = new LinkedHashSet<>();
+        int index = 0;
+        for(String value : values) {
+            if(value == null) {
+                throw new IllegalArgumentException("Argument values contained a null element at index " + index);
+            }
+            distinct.add(value);
+            index++;
+        }
+        return new AllowedValues(distinct.toArray(new String[0]));
+    }
+
+    /**
+     * <p>Returns whether the value is one of the allowed values.</p>
+     *
+     * @param value The value to look up
+     * @return true if value is allowed, false if it is not or is null
+     */
+    public boolean contains(@Nullable String value) {
+        if(value == null || (lengths & 1L << Math.min(value.length(), 63)) == 0) {
+            return false;
+        }
+        int hash = value.hashCode();
+        int index = slot(hash);
+        for(int probe = 0; probe <= maxProbes; probe++) {
+            String allowed = table[index];
+            if(allowed == null) {
+                return false;
+            }
+            if(hashes[index] == hash && allowed.equals(value)) {
+                return true;
+            }
+            index = (index + 1) & (table.length - 1);
+        }
+        return false;
+    }
+
+    /**
+     * <p>Returns the number of allowed values.</p>
+     *
+     * @return The number of allowed values
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * <p>Returns the allowed values in the order they were given, the array must not be modified.</p>
+     */
+    String[] values() {
+        return values;
+    }
+
+    /**
+     * <p>Lists the first allowed values in the order they were given, followed by their number if there are more.</p>
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for(int i = 0; i < Math.min(values.length, MAX_SHOWN_VALUES); i++) {
+            builder.append(i > 0 ? ", " : "").append(values[i]);
+        }
+        if(values.length > MAX_SHOWN_VALUES) {
+            builder.append(", ... (").append(values.length).append(" values)");
+        }
+        return builder.append(']').toString();
+    }
+
+    private int slot(int hash) {
+        return (hash * multiplier) >>> shift;
+    }
+
+    /**
+     * <p>Returns the length of the longest probe sequence minus 1 if the values are placed using the multiplier.</p>
+     */
+    private static int probes(String[] values, int multiplier, int tableLength) {
+        boolean[] used = new boolean[tableLength];
+        int shift = 32 - Integer.numberOfTrailingZeros(tableLength);
+        int maxProbes = 0;
+        for(String value : values) {
+            int index = (value.hashCode() * multiplier) >>> shift;
+            int probes = 0;
+            while(used[index]) {
+                index = (index + 1) & (tableLength - 1);
+                probes++;
+            }
+            used[index] = true;
+            maxProbes = Math.max(maxProbes, probes);
+        }
+        return maxProbes;
+    }
+}
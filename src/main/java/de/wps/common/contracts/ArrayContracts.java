@@ -0,0 +1,1391 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>This class contains static methods to enforce contracts on object arrays ("not empty" and "not null") and on their
+ * elements ("no null elements", "all match", "distinct" and "sorted"). "Distinct" and "sorted" are available for
+ * <code>int</code> and <code>long</code> arrays as well.</p>
+ *
+ * <p>The element contracts report the index of the first violating element. They can be disabled per kind (see
+ * {@link ContractConfiguration}), the null check of the array itself stays enabled.</p>
+ *
+ * <p>There are methods to</p>
+ * <ul>
+ *     <li>require arguments to meet conditions (preconditions)</li>
+ *     <li>check states (invariants)</li>
+ *     <li>ensure results to meet conditions (postconditions)</li>
+ * </ul>
+ */
+public final class ArrayContracts {
+    private ArrayContracts() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Requires the array argument to be not empty and not null.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireNotEmpty(T @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(argument.length == 0) {
+            throw Failures.argumentEmpty(argumentName);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the state array to be not empty and not null.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkNotEmpty(T @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(state.length == 0) {
+            throw Failures.stateEmpty(stateName);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the result array to be not empty and not null.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureNotEmpty(T @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(result.length == 0) {
+            throw Failures.resultEmpty(resultName);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the array argument to contain no null elements (and not to be null).</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or contains a null element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireNoNullElements(T @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfNull(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the state array to contain no null elements (and not to be null).</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or contains a null element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkNoNullElements(T @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfNull(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the result array to contain no null elements (and not to be null).</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or contains a null element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureNoNullElements(T @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfNull(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires all elements of the array argument to match the predicate (and the array not to be null).</p>
+     *
+     * @param argument The array to check
+     * @param predicate The predicate all elements have to match
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or an element does not match the predicate
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireAllMatch(T @Nullable [] argument, @NonNull Predicate<? super T> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfMismatch(argument, predicate);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks all elements of the state array to match the predicate (and the array not to be null).</p>
+     *
+     * @param state The array to check
+     * @param predicate The predicate all elements have to match
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or an element does not match the predicate
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkAllMatch(T @Nullable [] state, @NonNull Predicate<? super T> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfMismatch(state, predicate);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures all elements of the result array to match the predicate (and the array not to be null).</p>
+     *
+     * @param result The array to check
+     * @param predicate The predicate all elements have to match
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or an element does not match the predicate
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureAllMatch(T @Nullable [] result, @NonNull Predicate<? super T> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfMismatch(result, predicate);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the array argument to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireNoNullElements(Object[], String)}.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or contains a null element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireNoNullElementsInParallel(T @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfNull(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the state array to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkNoNullElements(Object[], String)}.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or contains a null element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkNoNullElementsInParallel(T @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfNull(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the result array to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureNoNullElements(Object[], String)}.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or contains a null element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureNoNullElementsInParallel(T @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfNull(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires all elements of the array argument to match the predicate (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireAllMatch(Object[], Predicate, String)}.</p>
+     *
+     * @param argument The array to check
+     * @param predicate The predicate all elements have to match, which has to be thread-safe
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or an element does not match the predicate
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireAllMatchInParallel(T @Nullable [] argument, @NonNull Predicate<? super T> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfMismatch(argument, predicate);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks all elements of the state array to match the predicate (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkAllMatch(Object[], Predicate, String)}.</p>
+     *
+     * @param state The array to check
+     * @param predicate The predicate all elements have to match, which has to be thread-safe
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or an element does not match the predicate
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkAllMatchInParallel(T @Nullable [] state, @NonNull Predicate<? super T> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfMismatch(state, predicate);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures all elements of the result array to match the predicate (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureAllMatch(Object[], Predicate, String)}.</p>
+     *
+     * @param result The array to check
+     * @param predicate The predicate all elements have to match, which has to be thread-safe
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or an element does not match the predicate
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureAllMatchInParallel(T @Nullable [] result, @NonNull Predicate<? super T> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfMismatch(result, predicate);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the array argument to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are compared by {@link Object#equals(Object)}, the reported index is the index of the first
+     * element which equals an earlier one.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or contains a duplicate element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireDistinct(T @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfDuplicate(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are compared by {@link Object#equals(Object)}, the reported index is the index of the first
+     * element which equals an earlier one.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or contains a duplicate element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkDistinct(T @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfDuplicate(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are compared by {@link Object#equals(Object)}, the reported index is the index of the first
+     * element which equals an earlier one.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or contains a duplicate element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureDistinct(T @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfDuplicate(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the array argument to be sorted by the comparator (and the array not to be null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #requireDistinct(Object[], String)}) is in strictly ascending order.</p>
+     *
+     * @param argument The array to check
+     * @param comparator The comparator giving the order
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or an element is less than its predecessor
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireSorted(T @Nullable [] argument, @NonNull Comparator<? super T> comparator, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfInversion(argument, comparator);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state array to be sorted by the comparator (and the array not to be null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #checkDistinct(Object[], String)}) is in strictly ascending order.</p>
+     *
+     * @param state The array to check
+     * @param comparator The comparator giving the order
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or an element is less than its predecessor
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkSorted(T @Nullable [] state, @NonNull Comparator<? super T> comparator, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfInversion(state, comparator);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result array to be sorted by the comparator (and the array not to be null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #ensureDistinct(Object[], String)}) is in strictly ascending order.</p>
+     *
+     * @param result The array to check
+     * @param comparator The comparator giving the order
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or an element is less than its predecessor
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureSorted(T @Nullable [] result, @NonNull Comparator<? super T> comparator, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfInversion(result, comparator);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the <code>int</code> array argument to be distinct (and the array not to be
+     * null).</p>
+     *
+     * <p>The values are added to a primitive hash set, so no value is boxed. The reported index is the index of the
+     * first value which equals an earlier one.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] requireDistinct(int @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfDuplicate(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state <code>int</code> array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The values are added to a primitive hash set, so no value is boxed. The reported index is the index of the
+     * first value which equals an earlier one.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] checkDistinct(int @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfDuplicate(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result <code>int</code> array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The values are added to a primitive hash set, so no value is boxed. The reported index is the index of the
+     * first value which equals an earlier one.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] ensureDistinct(int @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfDuplicate(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the <code>int</code> array argument to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #requireDistinct(int[], String)}) is in strictly ascending order.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] requireSorted(int @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfInversion(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state <code>int</code> array to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #checkDistinct(int[], String)}) is in strictly ascending order.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] checkSorted(int @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfInversion(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result <code>int</code> array to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #ensureDistinct(int[], String)}) is in strictly ascending order.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] ensureSorted(int @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfInversion(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the <code>long</code> array argument to be distinct (and the array not to be
+     * null).</p>
+     *
+     * <p>The values are added to a primitive hash set, so no value is boxed. The reported index is the index of the
+     * first value which equals an earlier one.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] requireDistinct(long @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfDuplicate(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state <code>long</code> array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The values are added to a primitive hash set, so no value is boxed. The reported index is the index of the
+     * first value which equals an earlier one.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] checkDistinct(long @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfDuplicate(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result <code>long</code> array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The values are added to a primitive hash set, so no value is boxed. The reported index is the index of the
+     * first value which equals an earlier one.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] ensureDistinct(long @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfDuplicate(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the <code>long</code> array argument to be in ascending order (and the array not to
+     * be null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #requireDistinct(long[], String)}) is in strictly ascending order.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] requireSorted(long @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfInversion(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state <code>long</code> array to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #checkDistinct(long[], String)}) is in strictly ascending order.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] checkSorted(long @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfInversion(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result <code>long</code> array to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>Equal neighbours are allowed, so an array which is sorted and distinct (see
+     * {@link #ensureDistinct(long[], String)}) is in strictly ascending order.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] ensureSorted(long @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfInversion(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the array argument to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireDistinct(Object[], String)}.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or contains a duplicate element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireDistinctInParallel(T @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkDistinct(Object[], String)}.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or contains a duplicate element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkDistinctInParallel(T @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureDistinct(Object[], String)}.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or contains a duplicate element
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureDistinctInParallel(T @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the array argument to be sorted by the comparator (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireSorted(Object[], Comparator, String)}.</p>
+     *
+     * @param argument The array to check
+     * @param comparator The comparator giving the order, which has to be thread-safe
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or an element is less than its predecessor
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] requireSortedInParallel(T @Nullable [] argument, @NonNull Comparator<? super T> comparator, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfInversion(argument, comparator);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state array to be sorted by the comparator (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkSorted(Object[], Comparator, String)}.</p>
+     *
+     * @param state The array to check
+     * @param comparator The comparator giving the order, which has to be thread-safe
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or an element is less than its predecessor
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] checkSortedInParallel(T @Nullable [] state, @NonNull Comparator<? super T> comparator, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfInversion(state, comparator);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result array to be sorted by the comparator (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureSorted(Object[], Comparator, String)}.</p>
+     *
+     * @param result The array to check
+     * @param comparator The comparator giving the order, which has to be thread-safe
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or an element is less than its predecessor
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> T @NonNull [] ensureSortedInParallel(T @Nullable [] result, @NonNull Comparator<? super T> comparator, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfInversion(result, comparator);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the <code>int</code> array argument to be distinct (and the array not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireDistinct(int[], String)}.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] requireDistinctInParallel(int @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state <code>int</code> array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkDistinct(int[], String)}.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] checkDistinctInParallel(int @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result <code>int</code> array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureDistinct(int[], String)}.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] ensureDistinctInParallel(int @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the <code>int</code> array argument to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireSorted(int[], String)}.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] requireSortedInParallel(int @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfInversion(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state <code>int</code> array to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkSorted(int[], String)}.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] checkSortedInParallel(int @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfInversion(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result <code>int</code> array to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureSorted(int[], String)}.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static int @NonNull [] ensureSortedInParallel(int @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfInversion(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the <code>long</code> array argument to be distinct (and the array not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireDistinct(long[], String)}.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] requireDistinctInParallel(long @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state <code>long</code> array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkDistinct(long[], String)}.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] checkDistinctInParallel(long @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result <code>long</code> array to be distinct (and the array not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureDistinct(long[], String)}.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or contains a duplicate element
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] ensureDistinctInParallel(long @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the <code>long</code> array argument to be in ascending order (and the array not to
+     * be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireSorted(long[], String)}.</p>
+     *
+     * @param argument The array to check
+     * @param argumentName The name of the argument
+     * @return The checked array
+     * @throws IllegalArgumentException if argument is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] requireSortedInParallel(long @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfInversion(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state <code>long</code> array to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkSorted(long[], String)}.</p>
+     *
+     * @param state The array to check
+     * @param stateName The name of the state
+     * @return The checked array
+     * @throws IllegalStateException if state is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] checkSortedInParallel(long @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfInversion(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result <code>long</code> array to be in ascending order (and the array not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureSorted(long[], String)}.</p>
+     *
+     * @param result The array to check
+     * @param resultName The name of the result
+     * @return The checked array
+     * @throws IllegalStateException if result is null or an element is less than its predecessor
+     */
+    @EnsuresNonNull("#1")
+    public static long @NonNull [] ensureSortedInParallel(long @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfInversion(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+}
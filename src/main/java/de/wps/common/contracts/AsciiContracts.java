@@ -0,0 +1,889 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.nio.ByteBuffer;
+import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>This class contains static methods to enforce contracts on the characters of ASCII based text, e.g. fields of
+ * network protocols and file formats ("is ASCII", "is digits", "is hex" and "has no control characters").</p>
+ *
+ * <p>The contracts are overloaded for {@link CharSequence character sequences}, byte arrays and
+ * {@link ByteBuffer byte buffers}, so input can be checked before it is decoded. Bytes are checked eight at a time
+ * with a single <code>long</code> read and a few arithmetic operations per word instead of a comparison per byte,
+ * which is a lot faster than a regular expression or a loop over the bytes. Characters are checked one at a time.</p>
+ *
+ * <p>An empty sequence, array or buffer meets all of these contracts; combine them with
+ * {@link StringContracts#requireHasLength(CharSequence, String)} etc. if it has to contain something. A violation
+ * reports the index of the first character not meeting the contract. Like the other contracts on text, these
+ * contracts are not disabled by the kind switches of {@link ContractConfiguration}, because they typically guard the
+ * parsing of untrusted input.</p>
+ *
+ * <p>There are methods to</p>
+ * <ul>
+ *     <li>require arguments to meet conditions (preconditions)</li>
+ *     <li>check states (invariants)</li>
+ *     <li>ensure results to meet conditions (postconditions)</li>
+ * </ul>
+ */
+public final class AsciiContracts {
+    private AsciiContracts() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to contain only ASCII characters (0x00 to
+     * 0x7F).</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or contains a non-ASCII character
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireAscii(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonAscii(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to contain only ASCII characters (0x00 to 0x7F).</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or contains a non-ASCII character
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkAscii(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonAscii(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to contain only ASCII characters (0x00 to
+     * 0x7F).</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or contains a non-ASCII character
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureAscii(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonAscii(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the byte array argument to be not null and to contain only ASCII characters (0x00 to 0x7F).</p>
+     *
+     * @param argument The byte array to check
+     * @param argumentName The name of the argument
+     * @return The checked byte array
+     * @throws IllegalArgumentException if argument is null or contains a non-ASCII character
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] requireAscii(byte @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonAscii(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the byte array state to be not null and to contain only ASCII characters (0x00 to 0x7F).</p>
+     *
+     * @param state The byte array to check
+     * @param stateName The name of the state
+     * @return The checked byte array
+     * @throws IllegalStateException if state is null or contains a non-ASCII character
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] checkAscii(byte @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonAscii(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the byte array result to be not null and to contain only ASCII characters (0x00 to 0x7F).</p>
+     *
+     * @param result The byte array to check
+     * @param resultName The name of the result
+     * @return The checked byte array
+     * @throws IllegalStateException if result is null or contains a non-ASCII character
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] ensureAscii(byte @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonAscii(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link ByteBuffer} argument to be not null and to contain only ASCII characters (0x00 to
+     * 0x7F).</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param argument The buffer to check
+     * @param argumentName The name of the argument
+     * @return The checked buffer
+     * @throws IllegalArgumentException if argument is null or contains a non-ASCII character
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T requireAscii(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonAscii(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link ByteBuffer} state to be not null and to contain only ASCII characters (0x00 to 0x7F).</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param state The buffer to check
+     * @param stateName The name of the state
+     * @return The checked buffer
+     * @throws IllegalStateException if state is null or contains a non-ASCII character
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T checkAscii(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonAscii(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link ByteBuffer} result to be not null and to contain only ASCII characters (0x00 to 0x7F).</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param result The buffer to check
+     * @param resultName The name of the result
+     * @return The checked buffer
+     * @throws IllegalStateException if result is null or contains a non-ASCII character
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T ensureAscii(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonAscii(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_ASCII, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or contains a character other than a digit
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireDigits(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonDigit(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or contains a character other than a digit
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkDigits(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonDigit(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or contains a character other than a digit
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureDigits(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonDigit(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the byte array argument to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * @param argument The byte array to check
+     * @param argumentName The name of the argument
+     * @return The checked byte array
+     * @throws IllegalArgumentException if argument is null or contains a character other than a digit
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] requireDigits(byte @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonDigit(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the byte array state to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * @param state The byte array to check
+     * @param stateName The name of the state
+     * @return The checked byte array
+     * @throws IllegalStateException if state is null or contains a character other than a digit
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] checkDigits(byte @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonDigit(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the byte array result to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * @param result The byte array to check
+     * @param resultName The name of the result
+     * @return The checked byte array
+     * @throws IllegalStateException if result is null or contains a character other than a digit
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] ensureDigits(byte @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonDigit(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link ByteBuffer} argument to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param argument The buffer to check
+     * @param argumentName The name of the argument
+     * @return The checked buffer
+     * @throws IllegalArgumentException if argument is null or contains a character other than a digit
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T requireDigits(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonDigit(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link ByteBuffer} state to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param state The buffer to check
+     * @param stateName The name of the state
+     * @return The checked buffer
+     * @throws IllegalStateException if state is null or contains a character other than a digit
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T checkDigits(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonDigit(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link ByteBuffer} result to be not null and to contain only the digits '0' to '9'.</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param result The buffer to check
+     * @param resultName The name of the result
+     * @return The checked buffer
+     * @throws IllegalStateException if result is null or contains a character other than a digit
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T ensureDigits(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonDigit(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_DIGIT, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to contain only hex digits ('0' to '9', 'A' to
+     * 'F' and 'a' to 'f').</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or contains a character other than a hex digit
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireHex(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to contain only hex digits ('0' to '9', 'A' to 'F'
+     * and 'a' to 'f').</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or contains a character other than a hex digit
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkHex(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to contain only hex digits ('0' to '9', 'A' to 'F'
+     * and 'a' to 'f').</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or contains a character other than a hex digit
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureHex(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the byte array argument to be not null and to contain only hex digits ('0' to '9', 'A' to 'F' and 'a'
+     * to 'f').</p>
+     *
+     * @param argument The byte array to check
+     * @param argumentName The name of the argument
+     * @return The checked byte array
+     * @throws IllegalArgumentException if argument is null or contains a character other than a hex digit
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] requireHex(byte @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the byte array state to be not null and to contain only hex digits ('0' to '9', 'A' to 'F' and 'a' to
+     * 'f').</p>
+     *
+     * @param state The byte array to check
+     * @param stateName The name of the state
+     * @return The checked byte array
+     * @throws IllegalStateException if state is null or contains a character other than a hex digit
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] checkHex(byte @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the byte array result to be not null and to contain only hex digits ('0' to '9', 'A' to 'F' and 'a' to
+     * 'f').</p>
+     *
+     * @param result The byte array to check
+     * @param resultName The name of the result
+     * @return The checked byte array
+     * @throws IllegalStateException if result is null or contains a character other than a hex digit
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] ensureHex(byte @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link ByteBuffer} argument to be not null and to contain only hex digits ('0' to '9', 'A' to 'F'
+     * and 'a' to 'f').</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param argument The buffer to check
+     * @param argumentName The name of the argument
+     * @return The checked buffer
+     * @throws IllegalArgumentException if argument is null or contains a character other than a hex digit
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T requireHex(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link ByteBuffer} state to be not null and to contain only hex digits ('0' to '9', 'A' to 'F' and
+     * 'a' to 'f').</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param state The buffer to check
+     * @param stateName The name of the state
+     * @return The checked buffer
+     * @throws IllegalStateException if state is null or contains a character other than a hex digit
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T checkHex(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link ByteBuffer} result to be not null and to contain only hex digits ('0' to '9', 'A' to 'F'
+     * and 'a' to 'f').</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param result The buffer to check
+     * @param resultName The name of the result
+     * @return The checked buffer
+     * @throws IllegalStateException if result is null or contains a character other than a hex digit
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T ensureHex(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfNonHexDigit(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.NON_HEX_DIGIT, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to contain no ASCII control characters (0x00 to
+     * 0x1F and 0x7F).</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or contains a control character
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireNoControlChars(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfControl(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to contain no ASCII control characters (0x00 to 0x1F
+     * and 0x7F).</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or contains a control character
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkNoControlChars(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfControl(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to contain no ASCII control characters (0x00 to
+     * 0x1F and 0x7F).</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or contains a control character
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureNoControlChars(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfControl(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the byte array argument to be not null and to contain no ASCII control characters (0x00 to 0x1F and
+     * 0x7F).</p>
+     *
+     * @param argument The byte array to check
+     * @param argumentName The name of the argument
+     * @return The checked byte array
+     * @throws IllegalArgumentException if argument is null or contains a control character
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] requireNoControlChars(byte @Nullable [] argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfControl(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the byte array state to be not null and to contain no ASCII control characters (0x00 to 0x1F and
+     * 0x7F).</p>
+     *
+     * @param state The byte array to check
+     * @param stateName The name of the state
+     * @return The checked byte array
+     * @throws IllegalStateException if state is null or contains a control character
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] checkNoControlChars(byte @Nullable [] state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfControl(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the byte array result to be not null and to contain no ASCII control characters (0x00 to 0x1F and
+     * 0x7F).</p>
+     *
+     * @param result The byte array to check
+     * @param resultName The name of the result
+     * @return The checked byte array
+     * @throws IllegalStateException if result is null or contains a control character
+     */
+    @EnsuresNonNull("#1")
+    public static byte @NonNull [] ensureNoControlChars(byte @Nullable [] result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfControl(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link ByteBuffer} argument to be not null and to contain no ASCII control characters (0x00 to
+     * 0x1F and 0x7F).</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param argument The buffer to check
+     * @param argumentName The name of the argument
+     * @return The checked buffer
+     * @throws IllegalArgumentException if argument is null or contains a control character
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T requireNoControlChars(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int index = AsciiScan.indexOfControl(argument);
+        if(index >= 0) {
+            throw Failures.argumentElement(argumentName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link ByteBuffer} state to be not null and to contain no ASCII control characters (0x00 to 0x1F
+     * and 0x7F).</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param state The buffer to check
+     * @param stateName The name of the state
+     * @return The checked buffer
+     * @throws IllegalStateException if state is null or contains a control character
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T checkNoControlChars(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int index = AsciiScan.indexOfControl(state);
+        if(index >= 0) {
+            throw Failures.stateElement(stateName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link ByteBuffer} result to be not null and to contain no ASCII control characters (0x00 to 0x1F
+     * and 0x7F).</p>
+     *
+     * <p>The bytes from the position to the limit are checked, without changing the position. The index in the message
+     * is the absolute index in the buffer.</p>
+     *
+     * @param result The buffer to check
+     * @param resultName The name of the result
+     * @return The checked buffer
+     * @throws IllegalStateException if result is null or contains a control character
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends ByteBuffer> @NonNull T ensureNoControlChars(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int index = AsciiScan.indexOfControl(result);
+        if(index >= 0) {
+            throw Failures.resultElement(resultName, AsciiScan.CONTROL, index);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+}
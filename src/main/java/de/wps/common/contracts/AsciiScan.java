@@ -0,0 +1,266 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>This class finds the first character outside an ASCII character class in byte arrays, byte buffers and character
+ * sequences.</p>
+ *
+ * <p>Bytes are tested eight at a time, reading them as one little endian <code>long</code> and computing a flag (the
+ * high bit) for every byte in the word without branches (SWAR, SIMD within a register). The high bits of the bytes are
+ * cleared before adding the range constants, so no carry crosses into the next byte. The first flagged byte is found by
+ * counting the trailing zeros of the flags, and the remaining bytes are tested one at a time by the same functions.
+ * Chars cannot be packed this way without copying them, so character sequences are tested char by char, with the
+ * same functions for ASCII chars.</p>
+ *
+ * <p>All methods return the index of the first byte or char outside the class, or -1 if there is none.</p>
+ */
+final class AsciiScan {
+    static final String NON_ASCII = "a non-ASCII character";
+    static final String NON_DIGIT = "a character other than a digit";
+    static final String NON_HEX_DIGIT = "a character other than a hex digit";
+    static final String CONTROL = "a control character";
+
+    private static final VarHandle ARRAY_LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long CASE_BITS = 0x2020202020202020L;
+
+    private AsciiScan() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Flags the bytes with the high bit set.</p>
+     */
+    static long nonAscii(long word) {
+        return word & HIGH_BITS;
+    }
+
+    /**
+     * <p>Flags the bytes other than '0' to '9'. A byte b is at least '0' if b + (0x80 - '0') reaches the high bit, and
+     * at most '9' if b + (0x80 - '9' - 1) does not.</p>
+     */
+    static long nonDigits(long word) {
+        long low = word & LOW_BITS;
+        long digits = (low + 0x5050505050505050L) & ~(low + 0x4646464646464646L);
+        return (word | ~digits) & HIGH_BITS;
+    }
+
+    /**
+     * <p>Flags the bytes other than '0' to '9', 'A' to 'F' and 'a' to 'f'. Setting the case bit maps exactly 'A' to 'F'
+     * and 'a' to 'f' to the range 'a' to 'f', which is tested like the digits.</p>
+     */
+    static long nonHexDigits(long word) {
+        long low = word & LOW_BITS;
+        long digits = (low + 0x5050505050505050L) & ~(low + 0x4646464646464646L);
+        long lower = low | CASE_BITS;
+        long letters = (lower + 0x1F1F1F1F1F1F1F1FL) & ~(lower + 0x1919191919191919L);
+        return (word | ~(digits | letters)) & HIGH_BITS;
+    }
+
+    /**
+     * <p>Flags the ASCII control characters 0x00 to 0x1F and 0x7F (DEL). Bytes with the high bit set are not flagged,
+     * because they are part of a character encoded with several bytes, e.g. in UTF-8.</p>
+     */
+    static long controls(long word) {
+        long low = word & LOW_BITS;
+        long controls = ~(low + 0x6060606060606060L) | (low + 0x0101010101010101L);
+        return controls & ~word & HIGH_BITS;
+    }
+
+    static int indexOfNonAscii(byte[] bytes) {
+        int i = 0;
+        for(int end = bytes.length - Long.BYTES; i <= end; i += Long.BYTES) {
+            long flags = nonAscii((long) ARRAY_LONGS.get(bytes, i));
+            if(flags != 0) {
+                return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+            }
+        }
+        for(; i < bytes.length; i++) {
+            if((nonAscii(bytes[i] & 0xFF) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfNonAscii(ByteBuffer buffer) {
+        int i = buffer.position();
+        int limit = buffer.limit();
+        for(int end = limit - Long.BYTES; i <= end; i += Long.BYTES) {
+            long flags = nonAscii((long) BUFFER_LONGS.get(buffer, i));
+            if(flags != 0) {
+                return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+            }
+        }
+        for(; i < limit; i++) {
+            if((nonAscii(buffer.get(i) & 0xFF) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfNonAscii(CharSequence chars) {
+        for(int i = 0, length = chars.length(); i < length; i++) {
+            char c = chars.charAt(i);
+            if(c >= 0x80) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfNonDigit(byte[] bytes) {
+        int i = 0;
+        for(int end = bytes.length - Long.BYTES; i <= end; i += Long.BYTES) {
+            long flags = nonDigits((long) ARRAY_LONGS.get(bytes, i));
+            if(flags != 0) {
+                return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+            }
+        }
+        for(; i < bytes.length; i++) {
+            if((nonDigits(bytes[i] & 0xFF) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfNonDigit(ByteBuffer buffer) {
+        int i = buffer.position();
+        int limit = buffer.limit();
+        for(int end = limit - Long.BYTES; i <= end; i += Long.BYTES) {
+            long flags = nonDigits((long) BUFFER_LONGS.get(buffer, i));
+            if(flags != 0) {
+                return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+            }
+        }
+        for(; i < limit; i++) {
+            if((nonDigits(buffer.get(i) & 0xFF) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfNonDigit(CharSequence chars) {
+        for(int i = 0, length = chars.length(); i < length; i++) {
+            char c = chars.charAt(i);
+            if(c >= 0x80 || (nonDigits(c) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfNonHexDigit(byte[] bytes) {
+        int i = 0;
+        for(int end = bytes.length - Long.BYTES; i <= end; i += Long.BYTES) {
+            long flags = nonHexDigits((long) ARRAY_LONGS.get(bytes, i));
+            if(flags != 0) {
+                return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+            }
+        }
+        for(; i < bytes.length; i++) {
+            if((nonHexDigits(bytes[i] & 0xFF) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfNonHexDigit(ByteBuffer buffer) {
+        int i = buffer.position();
+        int limit = buffer.limit();
+        for(int end = limit - Long.BYTES; i <= end; i += Long.BYTES) {
+            long flags = nonHexDigits((long) BUFFER_LONGS.get(buffer, i));
+            if(flags != 0) {
+                return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+            }
+        }
+        for(; i < limit; i++) {
+            if((nonHexDigits(buffer.get(i) & 0xFF) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfNonHexDigit(CharSequence chars) {
+        for(int i = 0, length = chars.length(); i < length; i++) {
+            char c = chars.charAt(i);
+            if(c >= 0x80 || (nonHexDigits(c) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfControl(byte[] bytes) {
+        int i = 0;
+        for(int end = bytes.length - Long.BYTES; i <= end; i += Long.BYTES) {
+            long flags = controls((long) ARRAY_LONGS.get(bytes, i));
+            if(flags != 0) {
+                return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+            }
+        }
+        for(; i < bytes.length; i++) {
+            if((controls(bytes[i] & 0xFF) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfControl(ByteBuffer buffer) {
+        int i = buffer.position();
+        int limit = buffer.limit();
+        for(int end = limit - Long.BYTES; i <= end; i += Long.BYTES) {
+            long flags = controls((long) BUFFER_LONGS.get(buffer, i));
+            if(flags != 0) {
+                return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+            }
+        }
+        for(; i < limit; i++) {
+            if((controls(buffer.get(i) & 0xFF) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfControl(CharSequence chars) {
+        for(int i = 0, length = chars.length(); i < length; i++) {
+            char c = chars.charAt(i);
+            if(c < 0x80 && (controls(c) & 0x80) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -35,6 +35,10 @@ import org.checkerframework.checker.optional.qual.EnsuresPresent;
  *     <li>check states (invariants)</li>
  *     <li>ensure results to meet conditions (postconditions)</li>
  * </ul>
+ *
+ * <p>Conditions can be described by a text, by a {@link Supplier} or by a template with values, which is only
+ * formatted if the condition is false. Unlike a capturing lambda, a template with primitive or existing values does
+ * not allocate if the contract is met.</p>
  */
 public final class BaseContracts {
     private BaseContracts() {
@@ -53,8 +57,9 @@ public final class BaseContracts {
     @EnsuresNonNull("#1")
     public static <T> @NonNull T requireNotNull(@Nullable T argument, @NonNull String argumentName) {
         if(argument == null) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was null");
+            throw Failures.argumentNull(argumentName);
         }
+        ContractMetrics.requirePassed(argumentName);
         return argument;
     }
 
@@ -72,12 +77,13 @@ public final class BaseContracts {
     public static <T> @NonNull T requirePresent(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") Optional<T> argument, @NonNull String argumentName) {
         //noinspection OptionalAssignedToNull
         if(argument == null) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was null");
+            throw Failures.argumentNull(argumentName);
         }
         if(argument.isPresent()) {
+            ContractMetrics.requirePassed(argumentName);
             return argument.get();
         } else {
-            throw new IllegalArgumentException("Argument " + argumentName + " was empty");
+            throw Failures.argumentEmpty(argumentName);
         }
     }
 
@@ -89,9 +95,10 @@ public final class BaseContracts {
      * @throws IllegalArgumentException if condition is false
      */
     public static void require(boolean condition, @NonNull String conditionDescription) {
-        if(!condition) {
-            throw new IllegalArgumentException("Argument did not meet condition: " + conditionDescription);
+        if(ContractConfiguration.REQUIRE_ENABLED && !condition) {
+            throw Failures.argumentCondition(conditionDescription);
         }
+        ContractMetrics.requirePassed(conditionDescription);
     }
 
     /**
@@ -102,9 +109,10 @@ public final class BaseContracts {
      * @throws IllegalArgumentException if condition is false or null
      */
     public static void require(@Nullable Boolean condition, @NonNull String conditionDescription) {
-        if(condition == null || !condition) {
-            throw new IllegalArgumentException("Argument did not meet condition: " + conditionDescription);
+        if(ContractConfiguration.REQUIRE_ENABLED && (condition == null || !condition)) {
+            throw Failures.argumentCondition(conditionDescription);
         }
+        ContractMetrics.requirePassed(conditionDescription);
     }
 
     /**
@@ -115,8 +123,8 @@ public final class BaseContracts {
      * @throws IllegalArgumentException if condition is false
      */
     public static void require(boolean condition, @NonNull Supplier<String> conditionDescription) {
-        if(!condition) {
-            throw new IllegalArgumentException("Argument did not meet condition: " + conditionDescription.get());
+        if(ContractConfiguration.REQUIRE_ENABLED && !condition) {
+            throw Failures.argumentCondition(conditionDescription);
         }
     }
 
@@ -128,9 +136,91 @@ public final class BaseContracts {
      * @throws IllegalArgumentException if condition is false or null
      */
     public static void require(@Nullable Boolean condition, @NonNull Supplier<String> conditionDescription) {
-        if(condition == null || !condition) {
-            throw new IllegalArgumentException("Argument did not meet condition: " + conditionDescription.get());
+        if(ContractConfiguration.REQUIRE_ENABLED && (condition == null || !condition)) {
+            throw Failures.argumentCondition(conditionDescription);
+        }
+    }
+
+    /**
+     * <p>Requires an argument to meet the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalArgumentException if condition is false
+     */
+    public static void require(boolean condition, @NonNull String conditionDescriptionTemplate, int a) {
+        if(ContractConfiguration.REQUIRE_ENABLED && !condition) {
+            throw Failures.argumentCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.requirePassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Requires an argument to meet the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalArgumentException if condition is false
+     */
+    public static void require(boolean condition, @NonNull String conditionDescriptionTemplate, long a) {
+        if(ContractConfiguration.REQUIRE_ENABLED && !condition) {
+            throw Failures.argumentCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.requirePassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Requires an argument to meet the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the first placeholder
+     * @param b The value to insert for the second placeholder
+     * @throws IllegalArgumentException if condition is false
+     */
+    public static void require(boolean condition, @NonNull String conditionDescriptionTemplate, long a, long b) {
+        if(ContractConfiguration.REQUIRE_ENABLED && !condition) {
+            throw Failures.argumentCondition(conditionDescriptionTemplate, a, b);
+        }
+        ContractMetrics.requirePassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Requires an argument to meet the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalArgumentException if condition is false
+     */
+    public static void require(boolean condition, @NonNull String conditionDescriptionTemplate, @Nullable Object a) {
+        if(ContractConfiguration.REQUIRE_ENABLED && !condition) {
+            throw Failures.argumentCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.requirePassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Requires an argument to meet the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the first placeholder
+     * @param b The value to insert for the second placeholder
+     * @throws IllegalArgumentException if condition is false
+     */
+    public static void require(boolean condition, @NonNull String conditionDescriptionTemplate, @Nullable Object a, @Nullable Object b) {
+        if(ContractConfiguration.REQUIRE_ENABLED && !condition) {
+            throw Failures.argumentCondition(conditionDescriptionTemplate, a, b);
         }
+        ContractMetrics.requirePassed(conditionDescriptionTemplate);
     }
 
     /**
@@ -145,8 +235,9 @@ public final class BaseContracts {
     @EnsuresNonNull("#1")
     public static <T> @NonNull T checkNotNull(@Nullable T state, @NonNull String stateName) {
         if(state == null) {
-            throw new IllegalStateException("State object " + stateName + " was null");
+            throw Failures.stateObjectNull(stateName);
         }
+        ContractMetrics.checkPassed(stateName);
         return state;
     }
 
@@ -164,12 +255,13 @@ public final class BaseContracts {
     public static <T> @NonNull T checkPresent(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") Optional<T> state, @NonNull String stateName) {
         //noinspection OptionalAssignedToNull
         if(state == null) {
-            throw new IllegalStateException("State object " + stateName + " was null");
+            throw Failures.stateObjectNull(stateName);
         }
         if(state.isPresent()) {
+            ContractMetrics.checkPassed(stateName);
             return state.get();
         } else {
-            throw new IllegalStateException("State object " + stateName + " was empty");
+            throw Failures.stateObjectEmpty(stateName);
         }
     }
 
@@ -181,9 +273,10 @@ public final class BaseContracts {
      * @throws IllegalStateException if condition is false
      */
     public static void check(boolean condition, @NonNull String conditionDescription) {
-        if(!condition) {
-            throw new IllegalStateException("State did not meet condition: " + conditionDescription);
+        if(ContractConfiguration.CHECK_ENABLED && !condition) {
+            throw Failures.stateCondition(conditionDescription);
         }
+        ContractMetrics.checkPassed(conditionDescription);
     }
 
     /**
@@ -194,9 +287,10 @@ public final class BaseContracts {
      * @throws IllegalStateException if condition is false or null
      */
     public static void check(@Nullable Boolean condition, @NonNull String conditionDescription) {
-        if(condition == null || !condition) {
-            throw new IllegalStateException("State did not meet condition: " + conditionDescription);
+        if(ContractConfiguration.CHECK_ENABLED && (condition == null || !condition)) {
+            throw Failures.stateCondition(conditionDescription);
         }
+        ContractMetrics.checkPassed(conditionDescription);
     }
 
     /**
@@ -207,8 +301,8 @@ public final class BaseContracts {
      * @throws IllegalStateException if condition is false
      */
     public static void check(boolean condition, @NonNull Supplier<String> conditionDescription) {
-        if(!condition) {
-            throw new IllegalStateException("State did not meet condition: " + conditionDescription.get());
+        if(ContractConfiguration.CHECK_ENABLED && !condition) {
+            throw Failures.stateCondition(conditionDescription);
         }
     }
 
@@ -220,11 +314,93 @@ public final class BaseContracts {
      * @throws IllegalStateException if condition is false or null
      */
     public static void check(@Nullable Boolean condition, @NonNull Supplier<String> conditionDescription) {
-        if(condition == null || !condition) {
-            throw new IllegalStateException("State did not meet condition: " + conditionDescription.get());
+        if(ContractConfiguration.CHECK_ENABLED && (condition == null || !condition)) {
+            throw Failures.stateCondition(conditionDescription);
         }
     }
 
+    /**
+     * <p>Checks that a state object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void check(boolean condition, @NonNull String conditionDescriptionTemplate, int a) {
+        if(ContractConfiguration.CHECK_ENABLED && !condition) {
+            throw Failures.stateCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.checkPassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Checks that a state object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void check(boolean condition, @NonNull String conditionDescriptionTemplate, long a) {
+        if(ContractConfiguration.CHECK_ENABLED && !condition) {
+            throw Failures.stateCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.checkPassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Checks that a state object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the first placeholder
+     * @param b The value to insert for the second placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void check(boolean condition, @NonNull String conditionDescriptionTemplate, long a, long b) {
+        if(ContractConfiguration.CHECK_ENABLED && !condition) {
+            throw Failures.stateCondition(conditionDescriptionTemplate, a, b);
+        }
+        ContractMetrics.checkPassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Checks that a state object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void check(boolean condition, @NonNull String conditionDescriptionTemplate, @Nullable Object a) {
+        if(ContractConfiguration.CHECK_ENABLED && !condition) {
+            throw Failures.stateCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.checkPassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Checks that a state object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the first placeholder
+     * @param b The value to insert for the second placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void check(boolean condition, @NonNull String conditionDescriptionTemplate, @Nullable Object a, @Nullable Object b) {
+        if(ContractConfiguration.CHECK_ENABLED && !condition) {
+            throw Failures.stateCondition(conditionDescriptionTemplate, a, b);
+        }
+        ContractMetrics.checkPassed(conditionDescriptionTemplate);
+    }
+
     /**
      * <p>Ensures the argument to be not null.</p>
      *
@@ -237,8 +413,9 @@ public final class BaseContracts {
     @EnsuresNonNull("#1")
     public static <T> @NonNull T ensureNotNull(@Nullable T result, @NonNull String resultName) {
         if(result == null) {
-            throw new IllegalStateException("Result " + resultName + " was null");
+            throw Failures.resultNull(resultName);
         }
+        ContractMetrics.ensurePassed(resultName);
         return result;
     }
 
@@ -256,12 +433,13 @@ public final class BaseContracts {
     public static <T> @NonNull T ensurePresent(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") Optional<T> result, @NonNull String resultName) {
         //noinspection OptionalAssignedToNull
         if(result == null) {
-            throw new IllegalStateException("Result " + resultName + " was null");
+            throw Failures.resultNull(resultName);
         }
         if(result.isPresent()) {
+            ContractMetrics.ensurePassed(resultName);
             return result.get();
         } else {
-            throw new IllegalStateException("Result " + resultName + " was empty");
+            throw Failures.resultEmpty(resultName);
         }
     }
 
@@ -273,9 +451,10 @@ public final class BaseContracts {
      * @throws IllegalStateException if condition is false
      */
     public static void ensure(boolean condition, @NonNull String conditionDescription) {
-        if(!condition) {
-            throw new IllegalStateException("Result did not meet condition: " + conditionDescription);
+        if(ContractConfiguration.ENSURE_ENABLED && !condition) {
+            throw Failures.resultCondition(conditionDescription);
         }
+        ContractMetrics.ensurePassed(conditionDescription);
     }
 
     /**
@@ -286,9 +465,10 @@ public final class BaseContracts {
      * @throws IllegalStateException if condition is false or null
      */
     public static void ensure(@Nullable Boolean condition, @NonNull String conditionDescription) {
-        if(condition == null || !condition) {
-            throw new IllegalStateException("Result did not meet condition: " + conditionDescription);
+        if(ContractConfiguration.ENSURE_ENABLED && (condition == null || !condition)) {
+            throw Failures.resultCondition(conditionDescription);
         }
+        ContractMetrics.ensurePassed(conditionDescription);
     }
 
     /**
@@ -299,8 +479,8 @@ public final class BaseContracts {
      * @throws IllegalStateException if condition is false
      */
     public static void ensure(boolean condition, @NonNull Supplier<String> conditionDescription) {
-        if(!condition) {
-            throw new IllegalStateException("Result did not meet condition: " + conditionDescription.get());
+        if(ContractConfiguration.ENSURE_ENABLED && !condition) {
+            throw Failures.resultCondition(conditionDescription);
         }
     }
 
@@ -312,11 +492,93 @@ public final class BaseContracts {
      * @throws IllegalStateException if condition is false or null
      */
     public static void ensure(@Nullable Boolean condition, @NonNull Supplier<String> conditionDescription) {
-        if(condition == null || !condition) {
-            throw new IllegalStateException("Result did not meet condition: " + conditionDescription.get());
+        if(ContractConfiguration.ENSURE_ENABLED && (condition == null || !condition)) {
+            throw Failures.resultCondition(conditionDescription);
         }
     }
 
+    /**
+     * <p>Ensures that a result object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void ensure(boolean condition, @NonNull String conditionDescriptionTemplate, int a) {
+        if(ContractConfiguration.ENSURE_ENABLED && !condition) {
+            throw Failures.resultCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.ensurePassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Ensures that a result object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void ensure(boolean condition, @NonNull String conditionDescriptionTemplate, long a) {
+        if(ContractConfiguration.ENSURE_ENABLED && !condition) {
+            throw Failures.resultCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.ensurePassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Ensures that a result object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the first placeholder
+     * @param b The value to insert for the second placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void ensure(boolean condition, @NonNull String conditionDescriptionTemplate, long a, long b) {
+        if(ContractConfiguration.ENSURE_ENABLED && !condition) {
+            throw Failures.resultCondition(conditionDescriptionTemplate, a, b);
+        }
+        ContractMetrics.ensurePassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Ensures that a result object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void ensure(boolean condition, @NonNull String conditionDescriptionTemplate, @Nullable Object a) {
+        if(ContractConfiguration.ENSURE_ENABLED && !condition) {
+            throw Failures.resultCondition(conditionDescriptionTemplate, a);
+        }
+        ContractMetrics.ensurePassed(conditionDescriptionTemplate);
+    }
+
+    /**
+     * <p>Ensures that a result object meets the condition. The description template is only formatted if the condition is false.</p>
+     *
+     * @param condition A condition to check
+     * @param conditionDescriptionTemplate A textual description of the condition to check, in which each
+     *                                     <code>%s</code> is replaced by the next value
+     * @param a The value to insert for the first placeholder
+     * @param b The value to insert for the second placeholder
+     * @throws IllegalStateException if condition is false
+     */
+    public static void ensure(boolean condition, @NonNull String conditionDescriptionTemplate, @Nullable Object a, @Nullable Object b) {
+        if(ContractConfiguration.ENSURE_ENABLED && !condition) {
+            throw Failures.resultCondition(conditionDescriptionTemplate, a, b);
+        }
+        ContractMetrics.ensurePassed(conditionDescriptionTemplate);
+    }
+
     /**
      * <p>Ensures that a result object meets the condition of a predicate.</p>
      * Convenience method for single line return: <pre>return ensure(result, r -&gt; predicate, "message")</pre>
@@ -329,12 +591,13 @@ public final class BaseContracts {
      * @throws IllegalStateException if predicate test is false
      */
     public static <T> T ensure(@Nullable T result, @NonNull Predicate<T> resultPredicate, @NonNull String conditionDescription) {
-        if(result == null) {
-            throw new IllegalStateException("Result did not meet condition: " + conditionDescription + ", it was null instead");
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
         }
-        if(!resultPredicate.test(result)) {
-            throw new IllegalStateException("Result did not meet condition: " + conditionDescription);
+        if(result == null || !ContractEvents.testResult(resultPredicate, result, conditionDescription)) {
+            throw Failures.resultPredicate(result, conditionDescription);
         }
+        ContractMetrics.ensurePassed(conditionDescription);
         return result;
     }
 
@@ -350,11 +613,11 @@ public final class BaseContracts {
      * @throws IllegalStateException if predicate test is false
      */
     public static <T> T ensure(@Nullable T result, @NonNull Predicate<T> resultPredicate, @NonNull Supplier<String> conditionDescription) {
-        if(result == null) {
-            throw new IllegalStateException("Result did not meet condition: " + conditionDescription.get() + ", it was null instead");
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
         }
-        if(!resultPredicate.test(result)) {
-            throw new IllegalStateException("Result did not meet condition: " + conditionDescription.get());
+        if(result == null || !ContractEvents.testResult(resultPredicate, result, conditionDescription)) {
+            throw Failures.resultPredicate(result, conditionDescription);
         }
         return result;
     }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+/**
+ * <p>A blocked Bloom filter of strings in a <code>long[]</code>.</p>
+ *
+ * <p>Each string is hashed once. The high half of the hash selects a block of 512 bits (eight longs, one cache line),
+ * a second mix of the hash gives the positions of {@value #HASHES} bits in that block, 9 bits per position. A lookup
+ * therefore touches a single cache line, at the cost of a slightly higher false positive rate than a filter which
+ * spreads the bits over the whole array: about 1% with the {@value #BITS_PER_ENTRY} bits per entry used here.</p>
+ *
+ * <p>Strings are hashed by their chars (FNV-1a followed by the finalizer of MurmurHash3), so a lookup does not
+ * encode or copy the string.</p>
+ */
+final class BloomFilter {
+    static final int BITS_PER_ENTRY = 10;
+    static final int HASHES = 7;
+
+    private static final int BLOCK_BITS = 512;
+    private static final int BLOCK_LONGS = BLOCK_BITS / Long.SIZE;
+
+    private final long[] bits;
+    private final long blocks;
+
+    BloomFilter(long expectedEntries) {
+        long blockCount = Math.max(1, (Math.max(1, expectedEntries) * BITS_PER_ENTRY + BLOCK_BITS - 1) / BLOCK_BITS);
+        if(blockCount * BLOCK_LONGS > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("expectedEntries " + expectedEntries + " must be less than 1.7 billion");
+        }
+        this.blocks = blockCount;
+        this.bits = new long[(int) (blockCount * BLOCK_LONGS)];
+    }
+
+    void add(CharSequence value) {
+        long hash = hash(value);
+        int base = block(hash);
+        long positions = mix(hash + 0x9E3779B97F4A7C15L);
+        for(int i = 0; i < HASHES; i++) {
+            int bit = (int) (positions >>> (9 * i)) & (BLOCK_BITS - 1);
+            bits[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        int base = block(hash);
+        long positions = mix(hash + 0x9E3779B97F4A7C15L);
+        for(int i = 0; i < HASHES; i++) {
+            int bit = (int) (positions >>> (9 * i)) & (BLOCK_BITS - 1);
+            if((bits[base + (bit >>> 6)] & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    /**
+     * <p>Maps the high 32 bits of the hash to the index of the first long of a block (multiply and shift instead of a
+     * division).</p>
+     */
+    private int block(long hash) {
+        return (int) (((hash >>> 32) * blocks) >>> 32) * BLOCK_LONGS;
+    }
+
+    private static long hash(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for(int i = 0, length = value.length(); i < length; i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+/**
+ * <p>This class contains checks on {@link CharSequence CharSequences}, which work on the characters in place instead
+ * of copying them into a {@link String} first.</p>
+ */
+final class CharSequences {
+    private CharSequences() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Returns whether the character sequence is empty or contains only white space, following the rules of
+     * {@link String#isBlank()}.</p>
+     *
+     * <p>{@link String#isBlank()} tests code points with {@link Character#isWhitespace(int)}. There are no white space
+     * characters outside the basic multilingual plane, so testing single chars gives the same result: a surrogate is
+     * never white space, and neither is the supplementary code point it belongs to.</p>
+     */
+    static boolean isBlank(CharSequence charSequence) {
+        if(charSequence instanceof String) {
+            return ((String) charSequence).isBlank();
+        }
+        for(int i = 0, length = charSequence.length(); i < length; i++) {
+            if(!Character.isWhitespace(charSequence.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>Returns whether the character sequence encoded as UTF-8 takes at most maxBytes bytes, without encoding it.</p>
+     *
+     * <p>The bytes are counted like {@link String#getBytes(java.nio.charset.Charset)} encodes: 1 byte for ASCII, 2 up
+     * to U+07FF, 4 for a surrogate pair, 1 for an unpaired surrogate (which is replaced by '?') and 3 for all other
+     * chars. Every char takes 1 to 3 bytes, so the length alone decides most cases. Otherwise the count stops as soon
+     * as it exceeds maxBytes.</p>
+     */
+    static boolean hasMaxUtf8Length(CharSequence charSequence, int maxBytes) {
+        int length = charSequence.length();
+        if(length > maxBytes) {
+            return false;
+        }
+        if(length <= maxBytes / 3) {
+            return true;
+        }
+        int bytes = 0;
+        for(int i = 0; i < length; i++) {
+            char c = charSequence.charAt(i);
+            if(c < 0x80) {
+                bytes++;
+            } else if(c < 0x800) {
+                bytes += 2;
+            } else if(!Character.isSurrogate(c)) {
+                bytes += 3;
+            } else if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(charSequence.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes++;
+            }
+            if(bytes > maxBytes) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -19,13 +19,21 @@
 package de.wps.common.contracts;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.function.Predicate;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
- * <p>This class contains static methods to enforce contracts on collections ("not empty" and "not null").</p>
+ * <p>This class contains static methods to enforce contracts on collections ("not empty", "size" and "not null") and on
+ * their elements ("no null elements", "all match", "distinct" and "sorted"). The keys of maps can be checked against a
+ * {@link KeySpec} ("contains keys" and "only keys").</p>
+ *
+ * <p>The element contracts report the index of the first violating element. For maps this is the position of the key
+ * or value in iteration order. They can be disabled per kind (see {@link ContractConfiguration}), the null check of the
+ * collection itself stays enabled.</p>
  *
  * <p>There are methods to</p>
  * <ul>
@@ -47,11 +55,12 @@ public class CollectionContracts {
     @EnsuresNonNull("#1")
     public static <T extends Collection<?>> @NonNull T requireNotEmpty(@Nullable T argument, @NonNull String argumentName) {
         if(argument == null) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was null");
+            throw Failures.argumentNull(argumentName);
         }
         if(argument.isEmpty()) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was empty");
+            throw Failures.argumentEmpty(argumentName);
         }
+        ContractMetrics.requirePassed(argumentName);
         return argument;
     }
 
@@ -67,11 +76,12 @@ public class CollectionContracts {
     @EnsuresNonNull("#1")
     public static <T extends Collection<?>> @NonNull T checkNotEmpty(@Nullable T state, @NonNull String stateName) {
         if(state == null) {
-            throw new IllegalStateException("State " + stateName + " was null");
+            throw Failures.stateNull(stateName);
         }
         if(state.isEmpty()) {
-            throw new IllegalStateException("State " + stateName + " was empty");
+            throw Failures.stateEmpty(stateName);
         }
+        ContractMetrics.checkPassed(stateName);
         return state;
     }
 
@@ -87,11 +97,12 @@ public class CollectionContracts {
     @EnsuresNonNull("#1")
     public static <T extends Collection<?>> @NonNull T ensureNotEmpty(@Nullable T result, @NonNull String resultName) {
         if(result == null) {
-            throw new IllegalStateException("Result " + resultName + " was null");
+            throw Failures.resultNull(resultName);
         }
         if(result.isEmpty()) {
-            throw new IllegalStateException("Result " + resultName + " was empty");
+            throw Failures.resultEmpty(resultName);
         }
+        ContractMetrics.ensurePassed(resultName);
         return result;
     }
 
@@ -107,11 +118,12 @@ public class CollectionContracts {
     @EnsuresNonNull("#1")
     public static <T extends Map<?, ?>> @NonNull T requireNotEmpty(@Nullable T argument, @NonNull String argumentName) {
         if(argument == null) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was null");
+            throw Failures.argumentNull(argumentName);
         }
         if(argument.isEmpty()) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was empty");
+            throw Failures.argumentEmpty(argumentName);
         }
+        ContractMetrics.requirePassed(argumentName);
         return argument;
     }
 
@@ -127,11 +139,12 @@ public class CollectionContracts {
     @EnsuresNonNull("#1")
     public static <T extends Map<?, ?>> @NonNull T checkNotEmpty(@Nullable T state, @NonNull String stateName) {
         if(state == null) {
-            throw new IllegalStateException("State " + stateName + " was null");
+            throw Failures.stateNull(stateName);
         }
         if(state.isEmpty()) {
-            throw new IllegalStateException("State " + stateName + " was empty");
+            throw Failures.stateEmpty(stateName);
         }
+        ContractMetrics.checkPassed(stateName);
         return state;
     }
 
@@ -147,11 +160,1515 @@ public class CollectionContracts {
     @EnsuresNonNull("#1")
     public static <T extends Map<?, ?>> @NonNull T ensureNotEmpty(@Nullable T result, @NonNull String resultName) {
         if(result == null) {
-            throw new IllegalStateException("Result " + resultName + " was null");
+            throw Failures.resultNull(resultName);
         }
         if(result.isEmpty()) {
-            throw new IllegalStateException("Result " + resultName + " was empty");
+            throw Failures.resultEmpty(resultName);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the size of the {@link Collection} argument to be between minSize and maxSize, both inclusive (and
+     * the collection not to be null).</p>
+     *
+     * <p>The size is taken from <code>size()</code>, unless the collection counts its elements for that (e.g. a
+     * {@link java.util.concurrent.ConcurrentLinkedQueue} or a sub-map view); then at most maxSize elements are
+     * iterated.</p>
+     *
+     * @param argument The collection to check
+     * @param minSize Minimum size of argument
+     * @param maxSize Maximum size of argument
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or its size is not in [minSize, maxSize], or minSize &gt; maxSize
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T requireSizeBetween(@Nullable T argument, int minSize, int maxSize, @NonNull String argumentName) {
+        if(minSize > maxSize) {
+            throw new IllegalArgumentException("minSize " + minSize + " must not be greater than maxSize " + maxSize);
+        }
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int size = Sizes.sizeUpTo(argument, maxSize);
+        if(size < 0) {
+            throw Failures.argumentTooLarge(argumentName, maxSize);
+        }
+        if(size < minSize) {
+            throw Failures.argumentTooSmall(argumentName, minSize);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the size of the state {@link Collection} to be between minSize and maxSize, both inclusive (and the
+     * collection not to be null).</p>
+     *
+     * <p>The size is taken from <code>size()</code>, unless the collection counts its elements for that (e.g. a
+     * {@link java.util.concurrent.ConcurrentLinkedQueue} or a sub-map view); then at most maxSize elements are
+     * iterated.</p>
+     *
+     * @param state The collection to check
+     * @param minSize Minimum size of state
+     * @param maxSize Maximum size of state
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or its size &lt; minSize or &gt; maxSize
+     * @throws IllegalArgumentException if minSize &gt; maxSize
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T checkSizeBetween(@Nullable T state, int minSize, int maxSize, @NonNull String stateName) {
+        if(minSize > maxSize) {
+            throw new IllegalArgumentException("minSize " + minSize + " must not be greater than maxSize " + maxSize);
+        }
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int size = Sizes.sizeUpTo(state, maxSize);
+        if(size < 0) {
+            throw Failures.stateTooLarge(stateName, maxSize);
+        }
+        if(size < minSize) {
+            throw Failures.stateTooSmall(stateName, minSize);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the size of the result {@link Collection} to be between minSize and maxSize, both inclusive (and the
+     * collection not to be null).</p>
+     *
+     * <p>The size is taken from <code>size()</code>, unless the collection counts its elements for that (e.g. a
+     * {@link java.util.concurrent.ConcurrentLinkedQueue} or a sub-map view); then at most maxSize elements are
+     * iterated.</p>
+     *
+     * @param result The collection to check
+     * @param minSize Minimum size of result
+     * @param maxSize Maximum size of result
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or its size &lt; minSize or &gt; maxSize
+     * @throws IllegalArgumentException if minSize &gt; maxSize
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T ensureSizeBetween(@Nullable T result, int minSize, int maxSize, @NonNull String resultName) {
+        if(minSize > maxSize) {
+            throw new IllegalArgumentException("minSize " + minSize + " must not be greater than maxSize " + maxSize);
+        }
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int size = Sizes.sizeUpTo(result, maxSize);
+        if(size < 0) {
+            throw Failures.resultTooLarge(resultName, maxSize);
+        }
+        if(size < minSize) {
+            throw Failures.resultTooSmall(resultName, minSize);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the size of the {@link Collection} argument to be less or equal maxSize (and the collection not to be
+     * null).</p>
+     *
+     * <p>The size is probed like in {@link #requireSizeBetween(Collection, int, int, String)}.</p>
+     *
+     * @param argument The collection to check
+     * @param maxSize Maximum size of argument
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or its size &gt; maxSize
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T requireMaxSize(@Nullable T argument, int maxSize, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(Sizes.sizeUpTo(argument, maxSize) < 0) {
+            throw Failures.argumentTooLarge(argumentName, maxSize);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the size of the state {@link Collection} to be less or equal maxSize (and the collection not to be
+     * null).</p>
+     *
+     * <p>The size is probed like in {@link #checkSizeBetween(Collection, int, int, String)}.</p>
+     *
+     * @param state The collection to check
+     * @param maxSize Maximum size of state
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or its size &gt; maxSize
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T checkMaxSize(@Nullable T state, int maxSize, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(Sizes.sizeUpTo(state, maxSize) < 0) {
+            throw Failures.stateTooLarge(stateName, maxSize);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the size of the result {@link Collection} to be less or equal maxSize (and the collection not to be
+     * null).</p>
+     *
+     * <p>The size is probed like in {@link #ensureSizeBetween(Collection, int, int, String)}.</p>
+     *
+     * @param result The collection to check
+     * @param maxSize Maximum size of result
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or its size &gt; maxSize
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T ensureMaxSize(@Nullable T result, int maxSize, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(Sizes.sizeUpTo(result, maxSize) < 0) {
+            throw Failures.resultTooLarge(resultName, maxSize);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the size of the {@link Map} argument to be between minSize and maxSize, both inclusive (and the map
+     * not to be null).</p>
+     *
+     * <p>The size is taken from <code>size()</code>, unless the map counts its elements for that (e.g. a
+     * {@link java.util.concurrent.ConcurrentLinkedQueue} or a sub-map view); then at most maxSize elements are
+     * iterated.</p>
+     *
+     * @param argument The map to check
+     * @param minSize Minimum size of argument
+     * @param maxSize Maximum size of argument
+     * @param argumentName The name of the argument
+     * @return The checked map
+     * @throws IllegalArgumentException if argument is null or its size is not in [minSize, maxSize], or minSize &gt; maxSize
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T requireSizeBetween(@Nullable T argument, int minSize, int maxSize, @NonNull String argumentName) {
+        if(minSize > maxSize) {
+            throw new IllegalArgumentException("minSize " + minSize + " must not be greater than maxSize " + maxSize);
+        }
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        int size = Sizes.sizeUpTo(argument, maxSize);
+        if(size < 0) {
+            throw Failures.argumentTooLarge(argumentName, maxSize);
+        }
+        if(size < minSize) {
+            throw Failures.argumentTooSmall(argumentName, minSize);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the size of the state {@link Map} to be between minSize and maxSize, both inclusive (and the map not to
+     * be null).</p>
+     *
+     * <p>The size is taken from <code>size()</code>, unless the map counts its elements for that (e.g. a
+     * {@link java.util.concurrent.ConcurrentLinkedQueue} or a sub-map view); then at most maxSize elements are
+     * iterated.</p>
+     *
+     * @param state The map to check
+     * @param minSize Minimum size of state
+     * @param maxSize Maximum size of state
+     * @param stateName The name of the state
+     * @return The checked map
+     * @throws IllegalStateException if state is null or its size &lt; minSize or &gt; maxSize
+     * @throws IllegalArgumentException if minSize &gt; maxSize
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T checkSizeBetween(@Nullable T state, int minSize, int maxSize, @NonNull String stateName) {
+        if(minSize > maxSize) {
+            throw new IllegalArgumentException("minSize " + minSize + " must not be greater than maxSize " + maxSize);
+        }
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        int size = Sizes.sizeUpTo(state, maxSize);
+        if(size < 0) {
+            throw Failures.stateTooLarge(stateName, maxSize);
+        }
+        if(size < minSize) {
+            throw Failures.stateTooSmall(stateName, minSize);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the size of the result {@link Map} to be between minSize and maxSize, both inclusive (and the map not
+     * to be null).</p>
+     *
+     * <p>The size is taken from <code>size()</code>, unless the map counts its elements for that (e.g. a
+     * {@link java.util.concurrent.ConcurrentLinkedQueue} or a sub-map view); then at most maxSize elements are
+     * iterated.</p>
+     *
+     * @param result The map to check
+     * @param minSize Minimum size of result
+     * @param maxSize Maximum size of result
+     * @param resultName The name of the result
+     * @return The checked map
+     * @throws IllegalStateException if result is null or its size &lt; minSize or &gt; maxSize
+     * @throws IllegalArgumentException if minSize &gt; maxSize
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T ensureSizeBetween(@Nullable T result, int minSize, int maxSize, @NonNull String resultName) {
+        if(minSize > maxSize) {
+            throw new IllegalArgumentException("minSize " + minSize + " must not be greater than maxSize " + maxSize);
+        }
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        int size = Sizes.sizeUpTo(result, maxSize);
+        if(size < 0) {
+            throw Failures.resultTooLarge(resultName, maxSize);
+        }
+        if(size < minSize) {
+            throw Failures.resultTooSmall(resultName, minSize);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the size of the {@link Map} argument to be less or equal maxSize (and the map not to be null).</p>
+     *
+     * <p>The size is probed like in {@link #requireSizeBetween(Map, int, int, String)}.</p>
+     *
+     * @param argument The map to check
+     * @param maxSize Maximum size of argument
+     * @param argumentName The name of the argument
+     * @return The checked map
+     * @throws IllegalArgumentException if argument is null or its size &gt; maxSize
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T requireMaxSize(@Nullable T argument, int maxSize, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(Sizes.sizeUpTo(argument, maxSize) < 0) {
+            throw Failures.argumentTooLarge(argumentName, maxSize);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the size of the state {@link Map} to be less or equal maxSize (and the map not to be null).</p>
+     *
+     * <p>The size is probed like in {@link #checkSizeBetween(Map, int, int, String)}.</p>
+     *
+     * @param state The map to check
+     * @param maxSize Maximum size of state
+     * @param stateName The name of the state
+     * @return The checked map
+     * @throws IllegalStateException if state is null or its size &gt; maxSize
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T checkMaxSize(@Nullable T state, int maxSize, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(Sizes.sizeUpTo(state, maxSize) < 0) {
+            throw Failures.stateTooLarge(stateName, maxSize);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the size of the result {@link Map} to be less or equal maxSize (and the map not to be null).</p>
+     *
+     * <p>The size is probed like in {@link #ensureSizeBetween(Map, int, int, String)}.</p>
+     *
+     * @param result The map to check
+     * @param maxSize Maximum size of result
+     * @param resultName The name of the result
+     * @return The checked map
+     * @throws IllegalStateException if result is null or its size &gt; maxSize
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T ensureMaxSize(@Nullable T result, int maxSize, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(Sizes.sizeUpTo(result, maxSize) < 0) {
+            throw Failures.resultTooLarge(resultName, maxSize);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link Collection} argument to contain no null elements (and not to be null).</p>
+     *
+     * @param argument The collection to check
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or contains a null element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T requireNoNullElements(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfNull(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the state {@link Collection} to contain no null elements (and not to be null).</p>
+     *
+     * @param state The collection to check
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or contains a null element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T checkNoNullElements(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfNull(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the result {@link Collection} to contain no null elements (and not to be null).</p>
+     *
+     * @param result The collection to check
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or contains a null element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T ensureNoNullElements(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfNull(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires all elements of the {@link Collection} argument to match the predicate (and the collection not to be
+     * null).</p>
+     *
+     * @param argument The collection to check
+     * @param predicate The predicate all elements have to match
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or an element does not match the predicate
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T requireAllMatch(@Nullable T argument, @NonNull Predicate<? super E> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfMismatch(argument, predicate);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks all elements of the state {@link Collection} to match the predicate (and the collection not to be
+     * null).</p>
+     *
+     * @param state The collection to check
+     * @param predicate The predicate all elements have to match
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or an element does not match the predicate
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T checkAllMatch(@Nullable T state, @NonNull Predicate<? super E> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfMismatch(state, predicate);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures all elements of the result {@link Collection} to match the predicate (and the collection not to be
+     * null).</p>
+     *
+     * @param result The collection to check
+     * @param predicate The predicate all elements have to match
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or an element does not match the predicate
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T ensureAllMatch(@Nullable T result, @NonNull Predicate<? super E> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfMismatch(result, predicate);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link Map} argument to contain no null keys (and not to be null).</p>
+     *
+     * @param argument The map to check
+     * @param argumentName The name of the argument
+     * @return The checked map
+     * @throws IllegalArgumentException if argument is null or contains a null key
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T requireNoNullKeys(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfNull(argument.keySet());
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.NULL_KEY, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the state {@link Map} to contain no null keys (and not to be null).</p>
+     *
+     * @param state The map to check
+     * @param stateName The name of the state
+     * @return The checked map
+     * @throws IllegalStateException if state is null or contains a null key
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T checkNoNullKeys(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfNull(state.keySet());
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.NULL_KEY, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the result {@link Map} to contain no null keys (and not to be null).</p>
+     *
+     * @param result The map to check
+     * @param resultName The name of the result
+     * @return The checked map
+     * @throws IllegalStateException if result is null or contains a null key
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T ensureNoNullKeys(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfNull(result.keySet());
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.NULL_KEY, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link Map} argument to contain no null values (and not to be null).</p>
+     *
+     * @param argument The map to check
+     * @param argumentName The name of the argument
+     * @return The checked map
+     * @throws IllegalArgumentException if argument is null or contains a null value
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T requireNoNullValues(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfNull(argument.values());
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.NULL_VALUE, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the state {@link Map} to contain no null values (and not to be null).</p>
+     *
+     * @param state The map to check
+     * @param stateName The name of the state
+     * @return The checked map
+     * @throws IllegalStateException if state is null or contains a null value
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T checkNoNullValues(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfNull(state.values());
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.NULL_VALUE, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the result {@link Map} to contain no null values (and not to be null).</p>
+     *
+     * @param result The map to check
+     * @param resultName The name of the result
+     * @return The checked map
+     * @throws IllegalStateException if result is null or contains a null value
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T ensureNoNullValues(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfNull(result.values());
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.NULL_VALUE, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires all keys of the {@link Map} argument to match the predicate (and the map not to be null).</p>
+     *
+     * @param argument The map to check
+     * @param predicate The predicate all keys have to match
+     * @param argumentName The name of the argument
+     * @return The checked map
+     * @throws IllegalArgumentException if argument is null or a key does not match the predicate
+     * @param <K> Type of the keys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <K, T extends Map<K, ?>> @NonNull T requireAllKeysMatch(@Nullable T argument, @NonNull Predicate<? super K> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfMismatch(argument.keySet(), predicate);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.MISMATCHING_KEY, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks all keys of the state {@link Map} to match the predicate (and the map not to be null).</p>
+     *
+     * @param state The map to check
+     * @param predicate The predicate all keys have to match
+     * @param stateName The name of the state
+     * @return The checked map
+     * @throws IllegalStateException if state is null or a key does not match the predicate
+     * @param <K> Type of the keys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <K, T extends Map<K, ?>> @NonNull T checkAllKeysMatch(@Nullable T state, @NonNull Predicate<? super K> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfMismatch(state.keySet(), predicate);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.MISMATCHING_KEY, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures all keys of the result {@link Map} to match the predicate (and the map not to be null).</p>
+     *
+     * @param result The map to check
+     * @param predicate The predicate all keys have to match
+     * @param resultName The name of the result
+     * @return The checked map
+     * @throws IllegalStateException if result is null or a key does not match the predicate
+     * @param <K> Type of the keys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <K, T extends Map<K, ?>> @NonNull T ensureAllKeysMatch(@Nullable T result, @NonNull Predicate<? super K> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfMismatch(result.keySet(), predicate);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.MISMATCHING_KEY, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires all values of the {@link Map} argument to match the predicate (and the map not to be null).</p>
+     *
+     * @param argument The map to check
+     * @param predicate The predicate all values have to match
+     * @param argumentName The name of the argument
+     * @return The checked map
+     * @throws IllegalArgumentException if argument is null or a value does not match the predicate
+     * @param <V> Type of the values
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <V, T extends Map<?, V>> @NonNull T requireAllValuesMatch(@Nullable T argument, @NonNull Predicate<? super V> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfMismatch(argument.values(), predicate);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.MISMATCHING_VALUE, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks all values of the state {@link Map} to match the predicate (and the map not to be null).</p>
+     *
+     * @param state The map to check
+     * @param predicate The predicate all values have to match
+     * @param stateName The name of the state
+     * @return The checked map
+     * @throws IllegalStateException if state is null or a value does not match the predicate
+     * @param <V> Type of the values
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <V, T extends Map<?, V>> @NonNull T checkAllValuesMatch(@Nullable T state, @NonNull Predicate<? super V> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfMismatch(state.values(), predicate);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.MISMATCHING_VALUE, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures all values of the result {@link Map} to match the predicate (and the map not to be null).</p>
+     *
+     * @param result The map to check
+     * @param predicate The predicate all values have to match
+     * @param resultName The name of the result
+     * @return The checked map
+     * @throws IllegalStateException if result is null or a value does not match the predicate
+     * @param <V> Type of the values
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <V, T extends Map<?, V>> @NonNull T ensureAllValuesMatch(@Nullable T result, @NonNull Predicate<? super V> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfMismatch(result.values(), predicate);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.MISMATCHING_VALUE, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link Map} argument to contain all keys of the key spec (and not to be null), e.g. the required
+     * properties of a configuration.</p>
+     *
+     * <p>The keys are looked up in the order of the key spec, the message of a violation names the first missing key.
+     * A key mapped to null counts as contained, see {@link #requireNoNullValues(Map, String)}.</p>
+     *
+     * @param argument The map to check
+     * @param requiredKeys The keys the map has to contain
+     * @param argumentName The name of the argument
+     * @return The checked map
+     * @throws IllegalArgumentException if argument is null or does not contain a key of requiredKeys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T requireContainsKeys(@Nullable T argument, @NonNull KeySpec requiredKeys, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            String missingKey = requiredKeys.missingKey(argument);
+            if(missingKey != null) {
+                throw Failures.argumentMissingKey(argumentName, missingKey);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link Map} state to contain all keys of the key spec (and not to be null), e.g. the required
+     * properties of a configuration.</p>
+     *
+     * <p>The keys are looked up in the order of the key spec, the message of a violation names the first missing key.
+     * A key mapped to null counts as contained, see {@link #checkNoNullValues(Map, String)}.</p>
+     *
+     * @param state The map to check
+     * @param requiredKeys The keys the map has to contain
+     * @param stateName The name of the state
+     * @return The checked map
+     * @throws IllegalStateException if state is null or does not contain a key of requiredKeys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T checkContainsKeys(@Nullable T state, @NonNull KeySpec requiredKeys, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            String missingKey = requiredKeys.missingKey(state);
+            if(missingKey != null) {
+                throw Failures.stateMissingKey(stateName, missingKey);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link Map} result to contain all keys of the key spec (and not to be null), e.g. the required
+     * properties of a configuration.</p>
+     *
+     * <p>The keys are looked up in the order of the key spec, the message of a violation names the first missing key.
+     * A key mapped to null counts as contained, see {@link #ensureNoNullValues(Map, String)}.</p>
+     *
+     * @param result The map to check
+     * @param requiredKeys The keys the map has to contain
+     * @param resultName The name of the result
+     * @return The checked map
+     * @throws IllegalStateException if result is null or does not contain a key of requiredKeys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T ensureContainsKeys(@Nullable T result, @NonNull KeySpec requiredKeys, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            String missingKey = requiredKeys.missingKey(result);
+            if(missingKey != null) {
+                throw Failures.resultMissingKey(resultName, missingKey);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link Map} argument to contain no other keys than those of the key spec (and not to be null),
+     * e.g. to reject unknown properties of a JSON object.</p>
+     *
+     * <p>The message of a violation lists the allowed keys and the position of the first other key in iteration order,
+     * but not the key itself.</p>
+     *
+     * @param argument The map to check
+     * @param allowedKeys The keys the map may contain
+     * @param argumentName The name of the argument
+     * @return The checked map
+     * @throws IllegalArgumentException if argument is null or contains a key not in allowedKeys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T requireOnlyKeys(@Nullable T argument, @NonNull KeySpec allowedKeys, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = allowedKeys.indexOfUnexpectedKey(argument);
+            if(index >= 0) {
+                throw Failures.argumentUnexpectedKey(argumentName, allowedKeys, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link Map} state to contain no other keys than those of the key spec (and not to be null),
+     * e.g. to reject unknown properties of a JSON object.</p>
+     *
+     * <p>The message of a violation lists the allowed keys and the position of the first other key in iteration order,
+     * but not the key itself.</p>
+     *
+     * @param state The map to check
+     * @param allowedKeys The keys the map may contain
+     * @param stateName The name of the state
+     * @return The checked map
+     * @throws IllegalStateException if state is null or contains a key not in allowedKeys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T checkOnlyKeys(@Nullable T state, @NonNull KeySpec allowedKeys, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = allowedKeys.indexOfUnexpectedKey(state);
+            if(index >= 0) {
+                throw Failures.stateUnexpectedKey(stateName, allowedKeys, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link Map} result to contain no other keys than those of the key spec (and not to be null),
+     * e.g. to reject unknown properties of a JSON object.</p>
+     *
+     * <p>The message of a violation lists the allowed keys and the position of the first other key in iteration order,
+     * but not the key itself.</p>
+     *
+     * @param result The map to check
+     * @param allowedKeys The keys the map may contain
+     * @param resultName The name of the result
+     * @return The checked map
+     * @throws IllegalStateException if result is null or contains a key not in allowedKeys
+     * @param <T> Type of the map
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Map<?, ?>> @NonNull T ensureOnlyKeys(@Nullable T result, @NonNull KeySpec allowedKeys, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = allowedKeys.indexOfUnexpectedKey(result);
+            if(index >= 0) {
+                throw Failures.resultUnexpectedKey(resultName, allowedKeys, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link Collection} argument to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireNoNullElements(Collection, String)}.</p>
+     *
+     * @param argument The collection to check
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or contains a null element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T requireNoNullElementsInParallel(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfNull(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the state {@link Collection} to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkNoNullElements(Collection, String)}.</p>
+     *
+     * @param state The collection to check
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or contains a null element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T checkNoNullElementsInParallel(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfNull(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the result {@link Collection} to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureNoNullElements(Collection, String)}.</p>
+     *
+     * @param result The collection to check
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or contains a null element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T ensureNoNullElementsInParallel(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfNull(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.NULL_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires all elements of the {@link Collection} argument to match the predicate (and the collection not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireAllMatch(Collection, Predicate, String)}.</p>
+     *
+     * @param argument The collection to check
+     * @param predicate The predicate all elements have to match, which has to be thread-safe
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or an element does not match the predicate
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T requireAllMatchInParallel(@Nullable T argument, @NonNull Predicate<? super E> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfMismatch(argument, predicate);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks all elements of the state {@link Collection} to match the predicate (and the collection not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkAllMatch(Collection, Predicate, String)}.</p>
+     *
+     * @param state The collection to check
+     * @param predicate The predicate all elements have to match, which has to be thread-safe
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or an element does not match the predicate
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T checkAllMatchInParallel(@Nullable T state, @NonNull Predicate<? super E> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfMismatch(state, predicate);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures all elements of the result {@link Collection} to match the predicate (and the collection not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureAllMatch(Collection, Predicate, String)}.</p>
+     *
+     * @param result The collection to check
+     * @param predicate The predicate all elements have to match, which has to be thread-safe
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or an element does not match the predicate
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T ensureAllMatchInParallel(@Nullable T result, @NonNull Predicate<? super E> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfMismatch(result, predicate);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.MISMATCHING_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the {@link Collection} argument to be distinct (and the collection not to be
+     * null).</p>
+     *
+     * <p>The elements are compared by {@link Object#equals(Object)}, the reported index is the index of the first
+     * element which equals an earlier one.</p>
+     *
+     * @param argument The collection to check
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or contains a duplicate element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T requireDistinct(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfDuplicate(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state {@link Collection} to be distinct (and the collection not to be null).</p>
+     *
+     * <p>The elements are compared by {@link Object#equals(Object)}, the reported index is the index of the first
+     * element which equals an earlier one.</p>
+     *
+     * @param state The collection to check
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or contains a duplicate element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T checkDistinct(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfDuplicate(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result {@link Collection} to be distinct (and the collection not to be null).</p>
+     *
+     * <p>The elements are compared by {@link Object#equals(Object)}, the reported index is the index of the first
+     * element which equals an earlier one.</p>
+     *
+     * @param result The collection to check
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or contains a duplicate element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T ensureDistinct(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfDuplicate(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the {@link Collection} argument to be sorted by the comparator (and the collection
+     * not to be null).</p>
+     *
+     * <p>Equal neighbours are allowed, so a collection which is sorted and distinct (see
+     * {@link #requireDistinct(Collection, String)}) is in strictly ascending order.</p>
+     *
+     * @param argument The collection to check
+     * @param comparator The comparator giving the order
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or an element is less than its predecessor
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T requireSorted(@Nullable T argument, @NonNull Comparator<? super E> comparator, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = Elements.indexOfInversion(argument, comparator);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state {@link Collection} to be sorted by the comparator (and the collection not to
+     * be null).</p>
+     *
+     * <p>Equal neighbours are allowed, so a collection which is sorted and distinct (see
+     * {@link #checkDistinct(Collection, String)}) is in strictly ascending order.</p>
+     *
+     * @param state The collection to check
+     * @param comparator The comparator giving the order
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or an element is less than its predecessor
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T checkSorted(@Nullable T state, @NonNull Comparator<? super E> comparator, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = Elements.indexOfInversion(state, comparator);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result {@link Collection} to be sorted by the comparator (and the collection not
+     * to be null).</p>
+     *
+     * <p>Equal neighbours are allowed, so a collection which is sorted and distinct (see
+     * {@link #ensureDistinct(Collection, String)}) is in strictly ascending order.</p>
+     *
+     * @param result The collection to check
+     * @param comparator The comparator giving the order
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or an element is less than its predecessor
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T ensureSorted(@Nullable T result, @NonNull Comparator<? super E> comparator, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = Elements.indexOfInversion(result, comparator);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the {@link Collection} argument to be distinct (and the collection not to be
+     * null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireDistinct(Collection, String)}.</p>
+     *
+     * @param argument The collection to check
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or contains a duplicate element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T requireDistinctInParallel(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(argument);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state {@link Collection} to be distinct (and the collection not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkDistinct(Collection, String)}.</p>
+     *
+     * @param state The collection to check
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or contains a duplicate element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T checkDistinctInParallel(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(state);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result {@link Collection} to be distinct (and the collection not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureDistinct(Collection, String)}.</p>
+     *
+     * @param result The collection to check
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or contains a duplicate element
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Collection<?>> @NonNull T ensureDistinctInParallel(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfDuplicate(result);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.DUPLICATE_ELEMENT, index);
+            }
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the elements of the {@link Collection} argument to be sorted by the comparator (and the collection
+     * not to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #requireSorted(Collection, Comparator, String)}.</p>
+     *
+     * @param argument The collection to check
+     * @param comparator The comparator giving the order, which has to be thread-safe
+     * @param argumentName The name of the argument
+     * @return The checked collection
+     * @throws IllegalArgumentException if argument is null or an element is less than its predecessor
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T requireSortedInParallel(@Nullable T argument, @NonNull Comparator<? super E> comparator, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED) {
+            int index = ParallelScan.indexOfInversion(argument, comparator);
+            if(index >= 0) {
+                throw Failures.argumentElement(argumentName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the elements of the state {@link Collection} to be sorted by the comparator (and the collection not to
+     * be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #checkSorted(Collection, Comparator, String)}.</p>
+     *
+     * @param state The collection to check
+     * @param comparator The comparator giving the order, which has to be thread-safe
+     * @param stateName The name of the state
+     * @return The checked collection
+     * @throws IllegalStateException if state is null or an element is less than its predecessor
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T checkSortedInParallel(@Nullable T state, @NonNull Comparator<? super E> comparator, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED) {
+            int index = ParallelScan.indexOfInversion(state, comparator);
+            if(index >= 0) {
+                throw Failures.stateElement(stateName, Elements.UNSORTED_ELEMENT, index);
+            }
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the elements of the result {@link Collection} to be sorted by the comparator (and the collection not
+     * to be null).</p>
+     *
+     * <p>The elements are checked in parallel (see {@link ContractConfiguration#getParallelThreshold()}), the reported
+     * index is the lowest violating one, as in {@link #ensureSorted(Collection, Comparator, String)}.</p>
+     *
+     * @param result The collection to check
+     * @param comparator The comparator giving the order, which has to be thread-safe
+     * @param resultName The name of the result
+     * @return The checked collection
+     * @throws IllegalStateException if result is null or an element is less than its predecessor
+     * @param <E> Type of the elements
+     * @param <T> Type of the collection
+     */
+    @EnsuresNonNull("#1")
+    public static <E, T extends Collection<E>> @NonNull T ensureSortedInParallel(@Nullable T result, @NonNull Comparator<? super E> comparator, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED) {
+            int index = ParallelScan.indexOfInversion(result, comparator);
+            if(index >= 0) {
+                throw Failures.resultElement(resultName, Elements.UNSORTED_ELEMENT, index);
+            }
         }
+        ContractMetrics.ensurePassed(resultName);
         return result;
     }
 }
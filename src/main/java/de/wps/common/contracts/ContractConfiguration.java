@@ -0,0 +1,170 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+/**
+ * <p>This class contains the global configuration of the contracts.</p>
+ *
+ * <p>The configuration is read from system properties when the class is loaded.</p>
+ *
+ * <p>Which {@link ContractKind kinds of contracts} are enabled is fixed at that point. The switches are held in
+ * <code>static final</code> fields, so the JIT compiler removes disabled contracts completely. For each kind
+ * (<code>require</code>, <code>check</code> and <code>ensure</code>) the following system properties are read:</p>
+ * <ul>
+ *     <li><code>de.wps.common.contracts.&lt;kind&gt;.enabled=false</code> disables the condition contracts of
+ *     {@link BaseContracts} (<code>require(boolean, ...)</code>, <code>ensure(T, Predicate, ...)</code> etc.), their
+ *     primitive forms in {@link NumberContracts} and {@link IndexContracts}, and the element contracts of
+ *     {@link CollectionContracts}, {@link ArrayContracts} and {@link StreamContracts}
+ *     (<code>requireNoNullElements</code>, <code>requireAllMatch</code>, <code>requireDistinct</code>,
+ *     <code>requireContainsKeys</code> etc.) of this kind. Null and emptiness contracts stay enabled, because callers
+ *     rely on their result not being null. The contracts on text, formats, allowed values and sizes
+ *     ({@link StringContracts}, {@link AsciiContracts}, {@link FormatContracts}, {@link EnumContracts} and
+ *     <code>requireSizeBetween</code> etc.) are never disabled, because they typically validate untrusted input.</li>
+ *     <li><code>de.wps.common.contracts.&lt;kind&gt;.disabledIn</code> and
+ *     <code>de.wps.common.contracts.&lt;kind&gt;.enabledIn</code> take comma separated packages or classes. Like
+ *     <code>-da:</code> and <code>-ea:</code>, a package includes its subpackages and the most specific entry wins.
+ *     These rules only take effect through {@link #isEnabled(ContractKind, Class)}: the contract methods cannot see
+ *     their caller and follow the global switch, so without a guard the rules do nothing. A kind which is disabled
+ *     globally stays disabled in the contract methods, also in the packages and classes listed in
+ *     <code>enabledIn</code>.</li>
+ * </ul>
+ *
+ * <p>All other settings can be changed programmatically. They are only consulted on the failure path of a contract,
+ * so changing them does not slow down passing contracts.</p>
+ */
+public final class ContractConfiguration {
+    /**
+     * <p>Name of the system property which enables {@link #setStacklessExceptions(boolean) stackless exceptions}.</p>
+     */
+    public static final String STACKLESS_EXCEPTIONS_PROPERTY = "de.wps.common.contracts.stacklessExceptions";
+
+    /**
+     * <p>Name of the system property which enables {@link ContractMetrics}.</p>
+     */
+    public static final String METRICS_PROPERTY = "de.wps.common.contracts.metrics";
+
+    /**
+     * <p>Name of the system property which sets the {@link #getParallelThreshold() parallel threshold}.</p>
+     */
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "de.wps.common.contracts.parallelThreshold";
+
+    /**
+     * <p>Name of the system property which sets the {@link #getPatternCacheSize() pattern cache size}.</p>
+     */
+    public static final String PATTERN_CACHE_SIZE_PROPERTY = "de.wps.common.contracts.patternCacheSize";
+
+    private static final ContractSwitches SWITCHES = new ContractSwitches(System.getProperties());
+
+    static final boolean REQUIRE_ENABLED = SWITCHES.isEnabled(ContractKind.REQUIRE);
+    static final boolean CHECK_ENABLED = SWITCHES.isEnabled(ContractKind.CHECK);
+    static final boolean ENSURE_ENABLED = SWITCHES.isEnabled(ContractKind.ENSURE);
+    static final boolean METRICS_ENABLED = Boolean.getBoolean(METRICS_PROPERTY);
+    static final int PARALLEL_THRESHOLD = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, 1 << 13);
+    static final int PATTERN_CACHE_SIZE = Math.max(0, Integer.getInteger(PATTERN_CACHE_SIZE_PROPERTY, 256));
+
+    private static volatile boolean stacklessExceptions = Boolean.getBoolean(STACKLESS_EXCEPTIONS_PROPERTY);
+
+    private ContractConfiguration() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Returns whether a kind of contracts is enabled globally.</p>
+     *
+     * @param kind The kind of contracts
+     * @return true if contracts of this kind are enabled
+     */
+    public static boolean isEnabled(ContractKind kind) {
+        return SWITCHES.isEnabled(kind);
+    }
+
+    /**
+     * <p>Returns whether a kind of contracts is enabled for a class, taking the <code>disabledIn</code> and
+     * <code>enabledIn</code> properties into account. The decision is cached per class.</p>
+     *
+     * <p>Store the result in a <code>static final</code> field and use it to guard expensive contracts, so the JIT
+     * compiler can remove them like disabled assertions:</p>
+     * <pre>
+     * private static final boolean CHECKS = ContractConfiguration.isEnabled(ContractKind.CHECK, MyService.class);
+     *
+     * if(CHECKS) {
+     *     check(isConsistent(graph), "graph is consistent");
+     * }
+     * </pre>
+     *
+     * <p>This skips the guarded contracts in the packages and classes listed in <code>disabledIn</code>. If the kind is
+     * disabled globally, the contract methods do nothing, so code in the packages and classes listed in
+     * <code>enabledIn</code> has to test the condition itself under the guard.</p>
+     *
+     * @param kind The kind of contracts
+     * @param type The class containing the contracts
+     * @return true if contracts of this kind are enabled for the class
+     */
+    public static boolean isEnabled(ContractKind kind, Class<?> type) {
+        return SWITCHES.isEnabled(kind, type);
+    }
+
+    /**
+     * <p>Returns the minimum number of elements for which the <code>...InParallel</code> element contracts of
+     * {@link CollectionContracts} and {@link ArrayContracts} actually run in parallel. Smaller collections and arrays
+     * are checked by the calling thread. The default is 8192, it can be changed by the system property
+     * {@value #PARALLEL_THRESHOLD_PROPERTY}.</p>
+     *
+     * @return The minimum number of elements to check in parallel
+     */
+    public static int getParallelThreshold() {
+        return PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * <p>Returns the maximum number of compiled regular expressions held by the
+     * {@link PatternCache#shared() shared pattern cache} of
+     * {@link StringContracts#requireMatches(CharSequence, String, String)} etc. The default is 256, it can be changed
+     * by the system property {@value #PATTERN_CACHE_SIZE_PROPERTY}. 0 disables the cache.</p>
+     *
+     * @return The maximum number of cached patterns
+     */
+    public static int getPatternCacheSize() {
+        return PATTERN_CACHE_SIZE;
+    }
+
+    /**
+     * <p>Returns whether violated contracts throw exceptions without stack trace.</p>
+     *
+     * @return true if stackless exceptions are thrown
+     */
+    public static boolean isStacklessExceptions() {
+        return stacklessExceptions;
+    }
+
+    /**
+     * <p>Switches between the default exceptions and stackless exceptions.</p>
+     *
+     * <p>If enabled, violated preconditions throw an {@link ArgumentContractViolationException} and violated state
+     * checks and postconditions throw a {@link StateContractViolationException}. Both are subclasses of the exceptions
+     * thrown by default and carry the same message, but do not capture a stack trace. This makes throwing a lot
+     * cheaper if many contracts fail, e.g. when rejecting untrusted input, at the cost of less information for
+     * debugging.</p>
+     *
+     * @param enabled true to throw stackless exceptions, false to throw the default exceptions
+     */
+    public static void setStacklessExceptions(boolean enabled) {
+        stacklessExceptions = enabled;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>JFR duration event around the evaluation of a contract predicate. Only evaluations taking longer than the
+ * threshold (10 ms by default) are recorded.</p>
+ */
+@Name(ContractEvaluationEvent.NAME)
+@Label("Contract Evaluation")
+@Category({"WPS", "Contracts"})
+@Description("Evaluation of a contract predicate")
+@Threshold("10 ms")
+@StackTrace(true)
+final class ContractEvaluationEvent extends Event {
+    static final String NAME = "de.wps.common.contracts.ContractEvaluation";
+
+    @Label("Kind")
+    @Description("Kind of the contract (REQUIRE, CHECK or ENSURE)")
+    String kind;
+
+    @Label("Description")
+    @Description("Description of the evaluated condition")
+    String description;
+
+    @Label("Passed")
+    @Description("Whether the predicate was true")
+    boolean passed;
+
+    void commit(ContractKind kind, String description, boolean passed) {
+        this.kind = kind.name();
+        this.description = description;
+        this.passed = passed;
+        commit();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * <p>This class emits the JFR events of the contracts, {@link ContractViolationEvent} and
+ * {@link ContractEvaluationEvent}.</p>
+ *
+ * <p>Violation events are only created if JFR has been started and their event type is enabled. This costs a volatile
+ * read, which is fine on the failure path. Evaluation events wrap passing contracts as well, so they follow the usual
+ * pattern of JFR events instead: the event is created, begun and ended around every evaluation and only committed if
+ * {@link jdk.jfr.Event#shouldCommit()}. While the event type is not enabled, these methods are empty and the event
+ * does not escape, so the JIT compiler removes it and only the predicate call remains. If the <code>jdk.jfr</code>
+ * module is not part of the runtime, no events are emitted at all.</p>
+ */
+final class ContractEvents {
+    private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private ContractEvents() {
+        // Should not be instantiated
+    }
+
+    static void violation(ContractKind kind, String key, String message) {
+        if(isRecording() && ContractViolationEvent.TYPE.isEnabled()) {
+            new ContractViolationEvent().commit(kind, key, message);
+        }
+    }
+
+    static <T> boolean testResult(Predicate<T> resultPredicate, T result, String conditionDescription) {
+        if(!JFR_AVAILABLE) {
+            return resultPredicate.test(result);
+        }
+        ContractEvaluationEvent event = new ContractEvaluationEvent();
+        event.begin();
+        boolean passed = resultPredicate.test(result);
+        event.end();
+        if(event.shouldCommit()) {
+            event.commit(ContractKind.ENSURE, conditionDescription, passed);
+        }
+        return passed;
+    }
+
+    static <T> boolean testResult(Predicate<T> resultPredicate, T result, Supplier<String> conditionDescription) {
+        if(!JFR_AVAILABLE) {
+            return resultPredicate.test(result);
+        }
+        ContractEvaluationEvent event = new ContractEvaluationEvent();
+        event.begin();
+        boolean passed = resultPredicate.test(result);
+        event.end();
+        if(event.shouldCommit()) {
+            event.commit(ContractKind.ENSURE, conditionDescription.get(), passed);
+        }
+        return passed;
+    }
+
+    private static boolean isRecording() {
+        return JFR_AVAILABLE && FlightRecorder.isInitialized();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+/**
+ * <p>The kinds of contracts, following the naming scheme of the contract methods.</p>
+ */
+public enum ContractKind {
+    /**
+     * <p>Preconditions, which are used to check arguments (methods starting with <code>require</code>).</p>
+     */
+    REQUIRE("require"),
+
+    /**
+     * <p>State checks or invariants, which are used to check intermediate results (methods starting with
+     * <code>check</code>).</p>
+     */
+    CHECK("check"),
+
+    /**
+     * <p>Postconditions, which are used to check results before returning them (methods starting with
+     * <code>ensure</code>).</p>
+     */
+    ENSURE("ensure");
+
+    private final String methodPrefix;
+
+    ContractKind(String methodPrefix) {
+        this.methodPrefix = methodPrefix;
+    }
+
+    /**
+     * <p>Returns the prefix of the contract methods of this kind.</p>
+     *
+     * @return The method prefix, e.g. <code>require</code>
+     */
+    public String methodPrefix() {
+        return methodPrefix;
+    }
+
+    String propertyPrefix() {
+        return "de.wps.common.contracts." + methodPrefix;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Counts passed and failed contracts per {@link ContractKind} and key, where the key is the name of the checked
+ * object (e.g. the <code>argumentName</code>) or the condition description.</p>
+ *
+ * <p>Metrics are opt-in and enabled by the system property {@value ContractConfiguration#METRICS_PROPERTY}
+ * <code>=true</code>. The switch is held in a <code>static final</code> field, so disabled metrics cost nothing after
+ * JIT compilation. Enabled metrics cost a lock-free hash lookup and a {@link LongAdder} increment per contract, which
+ * scales with the number of threads.</p>
+ *
+ * <p>Some contracts are only counted partially:</p>
+ * <ul>
+ *     <li>Contracts with a {@link java.util.function.Supplier} as description only count failures (keyed by the
+ *     supplied description), because the description is not evaluated if they pass.</li>
+ *     <li>Template contracts are keyed by their template.</li>
+ *     <li>Passes are not counted for {@link ContractConfiguration disabled} kinds of contracts.</li>
+ *     <li>At most {@value #MAX_KEYS} keys are counted per kind, all further keys are counted as {@value #OTHER_KEY}.</li>
+ * </ul>
+ */
+public final class ContractMetrics {
+    /**
+     * <p>Maximum number of keys counted per kind.</p>
+     */
+    public static final int MAX_KEYS = 10_000;
+
+    /**
+     * <p>Key used for all keys exceeding {@link #MAX_KEYS}.</p>
+     */
+    public static final String OTHER_KEY = "<other>";
+
+    private static final List<Map<String, Counter>> COUNTERS = List.of(
+            new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+
+    private ContractMetrics() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Returns whether metrics are recorded.</p>
+     *
+     * @return true if metrics are enabled
+     */
+    public static boolean isEnabled() {
+        return ContractConfiguration.METRICS_ENABLED;
+    }
+
+    /**
+     * <p>Returns the current counts of all contracts, which have been evaluated since start or the last
+     * {@link #reset()}, ordered by kind and key. The counts of concurrently evaluated contracts may or may not be
+     * included.</p>
+     *
+     * @return The counts per kind and key, empty if metrics are disabled
+     */
+    public static List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>();
+        for(ContractKind kind : ContractKind.values()) {
+            COUNTERS.get(kind.ordinal()).forEach((key, counter) ->
+                    entries.add(new Entry(kind, key, counter.passed.sum(), counter.failed.sum())));
+        }
+        entries.sort(Comparator.comparing(Entry::kind).thenComparing(Entry::key));
+        return entries;
+    }
+
+    /**
+     * <p>Removes all counts.</p>
+     */
+    public static void reset() {
+        COUNTERS.forEach(Map::clear);
+    }
+
+    static void requirePassed(String key) {
+        if(ContractConfiguration.METRICS_ENABLED && ContractConfiguration.REQUIRE_ENABLED) {
+            count(ContractKind.REQUIRE, key, true);
+        }
+    }
+
+    static void checkPassed(String key) {
+        if(ContractConfiguration.METRICS_ENABLED && ContractConfiguration.CHECK_ENABLED) {
+            count(ContractKind.CHECK, key, true);
+        }
+    }
+
+    static void ensurePassed(String key) {
+        if(ContractConfiguration.METRICS_ENABLED && ContractConfiguration.ENSURE_ENABLED) {
+            count(ContractKind.ENSURE, key, true);
+        }
+    }
+
+    static void failed(ContractKind kind, String key) {
+        if(ContractConfiguration.METRICS_ENABLED) {
+            count(kind, key, false);
+        }
+    }
+
+    static void count(ContractKind kind, String key, boolean passed) {
+        Map<String, Counter> counters = COUNTERS.get(kind.ordinal());
+        Counter counter = counters.get(key);
+        if(counter == null) {
+            String countedKey = counters.size() < MAX_KEYS ? key : OTHER_KEY;
+            counter = counters.computeIfAbsent(countedKey, k -> new Counter());
+        }
+        (passed ? counter.passed : counter.failed).increment();
+    }
+
+    private static final class Counter {
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+
+    /**
+     * <p>The counts of one contract key.</p>
+     *
+     * @param kind The kind of the contracts
+     * @param key The name of the checked object or the condition description
+     * @param passed How often contracts with this key passed
+     * @param failed How often contracts with this key failed
+     */
+    public record Entry(ContractKind kind, String key, long passed, long failed) {
+    }
+}
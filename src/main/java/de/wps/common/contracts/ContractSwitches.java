@@ -0,0 +1,119 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * <p>Decides which kinds of contracts are enabled, globally and for single packages or classes.</p>
+ *
+ * <p>For each {@link ContractKind} the following properties are read:</p>
+ * <ul>
+ *     <li><code>&lt;prefix&gt;.enabled</code>: <code>false</code> disables the kind globally (default is
+ *     <code>true</code>)</li>
+ *     <li><code>&lt;prefix&gt;.disabledIn</code>: comma separated packages or classes in which the kind is disabled</li>
+ *     <li><code>&lt;prefix&gt;.enabledIn</code>: comma separated packages or classes in which the kind is enabled</li>
+ * </ul>
+ *
+ * <p>Like <code>-ea:</code> and <code>-da:</code>, a package includes its subpackages, a class includes its nested
+ * classes, and the most specific package or class wins.</p>
+ *
+ * <p>The contract methods cannot see their caller, so they only follow the global decision. The per class decision is
+ * applied by guarding contracts with {@link #isEnabled(ContractKind, Class)}.</p>
+ */
+final class ContractSwitches {
+    private final Map<ContractKind, Boolean> globallyEnabled = new EnumMap<>(ContractKind.class);
+    private final Map<ContractKind, List<Rule>> rules = new EnumMap<>(ContractKind.class);
+    private final ClassValue<boolean[]> enabledForClass = new ClassValue<>() {
+        @Override
+        protected boolean[] computeValue(Class<?> type) {
+            boolean[] enabled = new boolean[ContractKind.values().length];
+            for(ContractKind kind : ContractKind.values()) {
+                enabled[kind.ordinal()] = resolve(kind, type.getName());
+            }
+            return enabled;
+        }
+    };
+
+    ContractSwitches(Properties properties) {
+        for(ContractKind kind : ContractKind.values()) {
+            String prefix = kind.propertyPrefix();
+            globallyEnabled.put(kind, !"false".equalsIgnoreCase(properties.getProperty(prefix + ".enabled", "true").trim()));
+            List<Rule> kindRules = new ArrayList<>();
+            addRules(kindRules, properties.getProperty(prefix + ".disabledIn"), false);
+            addRules(kindRules, properties.getProperty(prefix + ".enabledIn"), true);
+            rules.put(kind, kindRules);
+        }
+    }
+
+    boolean isEnabled(ContractKind kind) {
+        return globallyEnabled.get(kind);
+    }
+
+    boolean isEnabled(ContractKind kind, Class<?> type) {
+        return enabledForClass.get(type)[kind.ordinal()];
+    }
+
+    private boolean resolve(ContractKind kind, String className) {
+        Rule mostSpecific = null;
+        for(Rule rule : rules.get(kind)) {
+            if(rule.matches(className) && (mostSpecific == null || rule.name.length() > mostSpecific.name.length())) {
+                mostSpecific = rule;
+            }
+        }
+        return mostSpecific == null ? isEnabled(kind) : mostSpecific.enabled;
+    }
+
+    private static void addRules(List<Rule> rules, String names, boolean enabled) {
+        if(names == null) {
+            return;
+        }
+        for(String name : names.split(",")) {
+            String trimmed = name.trim();
+            if(!trimmed.isEmpty()) {
+                rules.add(new Rule(trimmed, enabled));
+            }
+        }
+    }
+
+    private static final class Rule {
+        private final String name;
+        private final boolean enabled;
+
+        private Rule(String name, boolean enabled) {
+            this.name = name;
+            this.enabled = enabled;
+        }
+
+        private boolean matches(String className) {
+            if(!className.startsWith(name)) {
+                return false;
+            }
+            if(className.length() == name.length()) {
+                return true;
+            }
+            char separator = className.charAt(name.length());
+            return separator == '.' || separator == '$';
+        }
+    }
+}
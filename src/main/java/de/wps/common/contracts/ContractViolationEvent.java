@@ -0,0 +1,57 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>JFR event emitted for every violated contract.</p>
+ */
+@Name(ContractViolationEvent.NAME)
+@Label("Contract Violation")
+@Category({"WPS", "Contracts"})
+@Description("A contract was violated and an exception is thrown")
+final class ContractViolationEvent extends Event {
+    static final String NAME = "de.wps.common.contracts.ContractViolation";
+    static final EventType TYPE = EventType.getEventType(ContractViolationEvent.class);
+
+    @Label("Kind")
+    @Description("Kind of the contract (REQUIRE, CHECK or ENSURE)")
+    String kind;
+
+    @Label("Key")
+    @Description("Name of the checked object or description of the condition")
+    String key;
+
+    @Label("Message")
+    @Description("Message of the thrown exception")
+    String message;
+
+    void commit(ContractKind kind, String key, String message) {
+        this.kind = kind.name();
+        this.key = key;
+        this.message = message;
+        commit();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>A set of denied strings, e.g. compromised tokens, reserved user names or blocked IBANs, checked by
+ * {@link StringContracts#requireNotIn(String, DenyList, String)} etc.</p>
+ *
+ * <p>A deny-list consists of a Bloom filter and an exact lookup. The Bloom filter takes about 1.25 bytes per entry
+ * and answers most lookups of strings not on the list by reading a single cache line. Only if the filter reports a
+ * probable hit, which happens for all denied strings and for about 1% of the others, the exact lookup decides.</p>
+ *
+ * <p>A deny-list {@link #load(Path) loaded from a file} keeps the entries in the file: the file is read twice while
+ * loading, to count the entries and to fill the filter, and probable hits are confirmed by a binary search in the
+ * file. Millions of entries thus need a few megabytes of heap instead of the gigabytes of a
+ * {@link java.util.HashSet}. The file has to stay unchanged until the deny-list is {@link #close() closed}. A
+ * deny-list {@link #of(Collection) created from a collection} keeps a sorted copy of the entries in memory.</p>
+ *
+ * <p>Deny-lists are immutable and can be used by several threads.</p>
+ */
+public final class DenyList implements Closeable {
+    private final BloomFilter filter;
+    private final Predicate<String> exactLookup;
+    private final long size;
+    private final @Nullable Closeable resource;
+
+    private DenyList(BloomFilter filter, Predicate<String> exactLookup, long size, @Nullable Closeable resource) {
+        this.filter = filter;
+        this.exactLookup = exactLookup;
+        this.size = size;
+        this.resource = resource;
+    }
+
+    /**
+     * <p>Creates a deny-list from a UTF-8 text file with one entry per line, ending with <code>\n</code> or
+     * <code>\r\n</code>, sorted by {@link String#compareTo(String)}. For entries without characters outside the basic
+     * multilingual plane, this is the order of <code>LC_ALL=C sort</code>. The file is streamed and not loaded into
+     * memory.</p>
+     *
+     * @param sortedFile The file with the denied strings
+     * @return The deny-list, which has to be closed to close the file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the lines of the file are not sorted or a line contains a carriage return
+     *     which is not followed by a line feed
+     */
+    public static @NonNull DenyList load(@NonNull Path sortedFile) throws IOException {
+        String[] previous = new String[1];
+        long lines = forEachLine(sortedFile, (line, number) -> {
+            if(previous[0] != null && previous[0].compareTo(line) > 0) {
+                throw new IllegalArgumentException("sortedFile must be sorted, but line " + number + " is out of order");
+            }
+            previous[0] = line;
+        });
+        BloomFilter filter = new BloomFilter(lines);
+        forEachLine(sortedFile, (line, number) -> filter.add(line));
+        SortedLines sortedLines = new SortedLines(sortedFile);
+        return new DenyList(filter, sortedLines::contains, lines, sortedLines);
+    }
+
+    /**
+     * <p>Creates a deny-list which keeps a sorted copy of the entries in memory, e.g. for tests or short lists.</p>
+     *
+     * @param deniedValues The denied strings
+     * @return The deny-list
+     * @throws IllegalArgumentException if deniedValues contains null
+     */
+    public static @NonNull DenyList of(@NonNull Collection<String> deniedValues) {
+        String[] sorted = deniedValues.toArray(new String[0]);
+        BloomFilter filter = new BloomFilter(sorted.length);
+        for(int i = 0; i < sorted.length; i++) {
+            if(sorted[i] == null) {
+                throw new IllegalArgumentException("Argument deniedValues contained a null element at index " + i);
+            }
+            filter.add(sorted[i]);
+        }
+        Arrays.sort(sorted);
+        return new DenyList(filter, value -> Arrays.binarySearch(sorted, value) >= 0, sorted.length, null);
+    }
+
+    /**
+     * <p>Returns whether the value is on the deny-list.</p>
+     *
+     * @param value The value to look up
+     * @return true if value is denied, false if it is not or is null
+     * @throws java.io.UncheckedIOException if the file of the deny-list cannot be read
+     */
+    public boolean contains(@Nullable String value) {
+        return value != null && filter.mightContain(value) && exactLookup.test(value);
+    }
+
+    /**
+     * <p>Returns the number of entries (lines of the file, including duplicates).</p>
+     *
+     * @return The number of entries
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * <p>Returns the heap used by the Bloom filter, which is the memory held by a deny-list loaded from a file.</p>
+     *
+     * @return The size of the Bloom filter in bytes
+     */
+    public long filterSizeInBytes() {
+        return filter.sizeInBytes();
+    }
+
+    /**
+     * <p>Closes the file of a deny-list loaded from a file. Lookups of probable hits fail afterwards.</p>
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if(resource != null) {
+            resource.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DenyList[size=" + size + ", filterSizeInBytes=" + filterSizeInBytes() + "]";
+    }
+
+    /**
+     * <p>Passes each line of the file and its number to the action and returns the number of lines. Like in
+     * {@link SortedLines}, lines end with <code>\n</code> or <code>\r\n</code>. Any other <code>\r</code> is rejected,
+     * because {@link java.io.BufferedReader#readLine()} would end a line there, but the exact lookup would not.</p>
+     */
+    private static long forEachLine(Path file, ObjLongConsumer<String> action) throws IOException {
+        long lines = 0;
+        StringBuilder line = new StringBuilder();
+        char[] buffer = new char[8192];
+        try(Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for(int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+                for(int i = 0; i < read; i++) {
+                    if(buffer[i] == '\n') {
+                        action.accept(endLine(line, ++lines), lines);
+                        line.setLength(0);
+                    } else {
+                        line.append(buffer[i]);
+                    }
+                }
+            }
+        }
+        if(line.length() > 0) {
+            action.accept(endLine(line, ++lines), lines);
+        }
+        return lines;
+    }
+
+    private static String endLine(StringBuilder line, long number) {
+        int length = line.length();
+        if(length > 0 && line.charAt(length - 1) == '\r') {
+            length--;
+        }
+        for(int i = 0; i < length; i++) {
+            if(line.charAt(i) == '\r') {
+                throw new IllegalArgumentException("sortedFile must end lines with \\n or \\r\\n, but line " + number + " contains a single \\r");
+            }
+        }
+        return line.substring(0, length);
+    }
+}
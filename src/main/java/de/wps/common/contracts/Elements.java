@@ -0,0 +1,253 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * <p>This class contains the loops of the element contracts.</p>
+ *
+ * <p>Each method returns the index of the first violating element or -1. {@link RandomAccess} lists and arrays are
+ * scanned with an indexed loop, so no {@link java.util.Iterator} is created. Other collections are iterated, the
+ * iterator usually does not escape and is removed by the JIT compiler.</p>
+ *
+ * <p>Duplicates are found with a hash set which starts with space for at most {@value #MAX_PRESIZED_ELEMENTS} elements
+ * and grows as needed, so a duplicate near the start of a large collection is found without allocating a table for all
+ * elements. Primitive arrays use a {@link LongHashSet} instead of boxed values, short ones are compared pairwise
+ * without any allocation. An inversion is reported at the index of the element which is less than its
+ * predecessor.</p>
+ */
+final class Elements {
+    static final String NULL_ELEMENT = "a null element";
+    static final String NULL_KEY = "a null key";
+    static final String NULL_VALUE = "a null value";
+    static final String MISMATCHING_ELEMENT = "an element not meeting the condition";
+    static final String MISMATCHING_KEY = "a key not meeting the condition";
+    static final String MISMATCHING_VALUE = "a value not meeting the condition";
+    static final String DUPLICATE_ELEMENT = "a duplicate element";
+    static final String UNSORTED_ELEMENT = "an element out of order";
+    static final int MAX_PRESIZED_ELEMENTS = 1024;
+    static final Predicate<Object> NOT_NULL = Objects::nonNull;
+
+    private static final int PAIRWISE_LENGTH = 16;
+
+    private Elements() {
+        // Should not be instantiated
+    }
+
+    static int indexOfNull(Collection<?> collection) {
+        if(collection instanceof RandomAccess && collection instanceof List) {
+            List<?> list = (List<?>) collection;
+            for(int i = 0, size = list.size(); i < size; i++) {
+                if(list.get(i) == null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int index = 0;
+        for(Object element : collection) {
+            if(element == null) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    static <E> int indexOfMismatch(Collection<E> collection, Predicate<? super E> predicate) {
+        if(collection instanceof RandomAccess && collection instanceof List) {
+            List<E> list = (List<E>) collection;
+            for(int i = 0, size = list.size(); i < size; i++) {
+                if(!predicate.test(list.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int index = 0;
+        for(E element : collection) {
+            if(!predicate.test(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    static int indexOfNull(Object[] array) {
+        for(int i = 0; i < array.length; i++) {
+            if(array[i] == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static <E> int indexOfMismatch(E[] array, Predicate<? super E> predicate) {
+        for(int i = 0; i < array.length; i++) {
+            if(!predicate.test(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfDuplicate(Collection<?> collection) {
+        int size = collection.size();
+        if(size < 2) {
+            return -1;
+        }
+        Set<Object> seen = newHashSet(size);
+        if(collection instanceof RandomAccess && collection instanceof List) {
+            List<?> list = (List<?>) collection;
+            for(int i = 0; i < size; i++) {
+                if(!seen.add(list.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int index = 0;
+        for(Object element : collection) {
+            if(!seen.add(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    static int indexOfDuplicate(Object[] array) {
+        if(array.length < 2) {
+            return -1;
+        }
+        Set<Object> seen = newHashSet(array.length);
+        for(int i = 0; i < array.length; i++) {
+            if(!seen.add(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfDuplicate(int[] array) {
+        if(array.length <= PAIRWISE_LENGTH) {
+            for(int i = 1; i < array.length; i++) {
+                for(int j = 0; j < i; j++) {
+                    if(array[j] == array[i]) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+        LongHashSet seen = new LongHashSet(array.length);
+        for(int i = 0; i < array.length; i++) {
+            if(!seen.add(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfDuplicate(long[] array) {
+        if(array.length <= PAIRWISE_LENGTH) {
+            for(int i = 1; i < array.length; i++) {
+                for(int j = 0; j < i; j++) {
+                    if(array[j] == array[i]) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+        LongHashSet seen = new LongHashSet(array.length);
+        for(int i = 0; i < array.length; i++) {
+            if(!seen.add(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static <E> int indexOfInversion(Collection<E> collection, Comparator<? super E> comparator) {
+        if(collection instanceof RandomAccess && collection instanceof List) {
+            List<E> list = (List<E>) collection;
+            for(int i = 1, size = list.size(); i < size; i++) {
+                if(comparator.compare(list.get(i - 1), list.get(i)) > 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        Iterator<E> iterator = collection.iterator();
+        if(!iterator.hasNext()) {
+            return -1;
+        }
+        E previous = iterator.next();
+        for(int index = 1; iterator.hasNext(); index++) {
+            E element = iterator.next();
+            if(comparator.compare(previous, element) > 0) {
+                return index;
+            }
+            previous = element;
+        }
+        return -1;
+    }
+
+    static <E> int indexOfInversion(E[] array, Comparator<? super E> comparator) {
+        for(int i = 1; i < array.length; i++) {
+            if(comparator.compare(array[i - 1], array[i]) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfInversion(int[] array) {
+        for(int i = 1; i < array.length; i++) {
+            if(array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfInversion(long[] array) {
+        for(int i = 1; i < array.length; i++) {
+            if(array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static Set<Object> newHashSet(int expectedSize) {
+        return new HashSet<>((int) (Math.min(expectedSize, MAX_PRESIZED_ELEMENTS) / 0.75f) + 1);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>This class contains static methods to enforce contracts on enum constants ("is one of").</p>
+ *
+ * <p>There are methods to</p>
+ * <ul>
+ *     <li>require arguments to meet conditions (preconditions)</li>
+ *     <li>check states (invariants)</li>
+ *     <li>ensure results to meet conditions (postconditions)</li>
+ * </ul>
+ */
+public final class EnumContracts {
+    private EnumContracts() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Requires the enum argument to be not null and one of the allowed constants, e.g. a status which permits an
+     * operation.</p>
+     *
+     * @param argument The constant to check
+     * @param allowedValues The allowed constants
+     * @param argumentName The name of the argument
+     * @return The checked constant
+     * @throws IllegalArgumentException if argument is null or not one of allowedValues
+     * @param <E> Type of the enum
+     */
+    @EnsuresNonNull("#1")
+    public static <E extends Enum<E>> @NonNull E requireOneOf(@Nullable E argument, @NonNull AllowedEnumValues<E> allowedValues, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!allowedValues.contains(argument)) {
+            throw Failures.argumentNotOneOf(argumentName, allowedValues);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the enum state to be not null and one of the allowed constants, e.g. a status which permits an
+     * operation.</p>
+     *
+     * @param state The constant to check
+     * @param allowedValues The allowed constants
+     * @param stateName The name of the state
+     * @return The checked constant
+     * @throws IllegalStateException if state is null or not one of allowedValues
+     * @param <E> Type of the enum
+     */
+    @EnsuresNonNull("#1")
+    public static <E extends Enum<E>> @NonNull E checkOneOf(@Nullable E state, @NonNull AllowedEnumValues<E> allowedValues, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!allowedValues.contains(state)) {
+            throw Failures.stateNotOneOf(stateName, allowedValues);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the enum result to be not null and one of the allowed constants, e.g. a status which permits an
+     * operation.</p>
+     *
+     * @param result The constant to check
+     * @param allowedValues The allowed constants
+     * @param resultName The name of the result
+     * @return The checked constant
+     * @throws IllegalStateException if result is null or not one of allowedValues
+     * @param <E> Type of the enum
+     */
+    @EnsuresNonNull("#1")
+    public static <E extends Enum<E>> @NonNull E ensureOneOf(@Nullable E result, @NonNull AllowedEnumValues<E> allowedValues, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!allowedValues.contains(result)) {
+            throw Failures.resultNotOneOf(resultName, allowedValues);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+}
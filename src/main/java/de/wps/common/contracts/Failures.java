@@ -0,0 +1,531 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>This class builds the exceptions thrown by violated contracts.</p>
+ *
+ * <p>The contract methods call these factories on their failure path only and throw the returned exception. This keeps
+ * message concatenation and exception construction out of the bytecode of the contract methods, so they stay small
+ * enough to be inlined at every call site, while the factories themselves are never compiled into the hot path.</p>
+ *
+ * <p>Every factory knows the {@link ContractKind} and the key of the violated contract (the name of the checked
+ * object or the condition description) and records the violation in {@link ContractMetrics} and as JFR
+ * {@link ContractViolationEvent}.</p>
+ */
+final class Failures {
+    private Failures() {
+        // Should not be instantiated
+    }
+
+    static IllegalArgumentException argumentNull(String argumentName) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was null");
+    }
+
+    static IllegalArgumentException argumentEmpty(String argumentName) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was empty");
+    }
+
+    static IllegalArgumentException argumentBlank(String argumentName) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was blank");
+    }
+
+    static IllegalArgumentException argumentTooLong(String argumentName, int maxLength) {
+        return illegalArgument(argumentName, "Length of " + argumentName + " was > " + maxLength);
+    }
+
+    static IllegalArgumentException argumentElement(String argumentName, String element, long index) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " contained " + element + atIndex(index));
+    }
+
+    static IllegalArgumentException argumentNotInRange(String argumentName, long value, long fromInclusive, long toExclusive) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was " + value + ", expected in [" + fromInclusive + ", " + toExclusive + ")");
+    }
+
+    static IllegalArgumentException argumentNotInRange(String argumentName, double value, double fromInclusive, double toExclusive) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was " + value + ", expected in [" + fromInclusive + ", " + toExclusive + ")");
+    }
+
+    static IllegalArgumentException argumentNotPositive(String argumentName, long value) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was " + value + ", expected > 0");
+    }
+
+    static IllegalArgumentException argumentNotPositive(String argumentName, double value) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was " + value + ", expected > 0");
+    }
+
+    static IllegalArgumentException argumentNegative(String argumentName, long value) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was " + value + ", expected >= 0");
+    }
+
+    static IllegalArgumentException argumentNegative(String argumentName, double value) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was " + value + ", expected >= 0");
+    }
+
+    static IllegalArgumentException argumentNotFinite(String argumentName, double value) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was " + value + ", expected a finite number");
+    }
+
+    static IllegalStateException stateNotInRange(String stateName, long value, long fromInclusive, long toExclusive) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was " + value + ", expected in [" + fromInclusive + ", " + toExclusive + ")");
+    }
+
+    static IllegalStateException stateNotInRange(String stateName, double value, double fromInclusive, double toExclusive) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was " + value + ", expected in [" + fromInclusive + ", " + toExclusive + ")");
+    }
+
+    static IllegalStateException stateNotPositive(String stateName, long value) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was " + value + ", expected > 0");
+    }
+
+    static IllegalStateException stateNotPositive(String stateName, double value) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was " + value + ", expected > 0");
+    }
+
+    static IllegalStateException stateNegative(String stateName, long value) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was " + value + ", expected >= 0");
+    }
+
+    static IllegalStateException stateNegative(String stateName, double value) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was " + value + ", expected >= 0");
+    }
+
+    static IllegalStateException stateNotFinite(String stateName, double value) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was " + value + ", expected a finite number");
+    }
+
+    static IllegalStateException resultNotInRange(String resultName, long value, long fromInclusive, long toExclusive) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was " + value + ", expected in [" + fromInclusive + ", " + toExclusive + ")");
+    }
+
+    static IllegalStateException resultNotInRange(String resultName, double value, double fromInclusive, double toExclusive) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was " + value + ", expected in [" + fromInclusive + ", " + toExclusive + ")");
+    }
+
+    static IllegalStateException resultNotPositive(String resultName, long value) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was " + value + ", expected > 0");
+    }
+
+    static IllegalStateException resultNotPositive(String resultName, double value) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was " + value + ", expected > 0");
+    }
+
+    static IllegalStateException resultNegative(String resultName, long value) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was " + value + ", expected >= 0");
+    }
+
+    static IllegalStateException resultNegative(String resultName, double value) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was " + value + ", expected >= 0");
+    }
+
+    static IllegalStateException resultNotFinite(String resultName, double value) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was " + value + ", expected a finite number");
+    }
+
+    static IllegalArgumentException argumentIndex(String argumentName, long index, long length) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was " + index + ", expected an index in [0, " + length + ")");
+    }
+
+    static IllegalArgumentException argumentFromIndexSize(String argumentName, long fromIndex, long size, long length) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was the range [" + fromIndex + ", " + fromIndex + " + " + size + "), expected a range in [0, " + length + ")");
+    }
+
+    static IllegalArgumentException argumentFromToIndex(String argumentName, long fromIndex, long toIndex, long length) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was the range [" + fromIndex + ", " + toIndex + "), expected a range in [0, " + length + ")");
+    }
+
+    static IllegalArgumentException argumentRemaining(String argumentName, int remaining, int required) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " had " + remaining + " elements remaining, expected at least " + required);
+    }
+
+    static IllegalStateException stateIndex(String stateName, long index, long length) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was " + index + ", expected an index in [0, " + length + ")");
+    }
+
+    static IllegalStateException stateFromIndexSize(String stateName, long fromIndex, long size, long length) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was the range [" + fromIndex + ", " + fromIndex + " + " + size + "), expected a range in [0, " + length + ")");
+    }
+
+    static IllegalStateException stateFromToIndex(String stateName, long fromIndex, long toIndex, long length) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was the range [" + fromIndex + ", " + toIndex + "), expected a range in [0, " + length + ")");
+    }
+
+    static IllegalStateException stateRemaining(String stateName, int remaining, int required) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " had " + remaining + " elements remaining, expected at least " + required);
+    }
+
+    static IllegalStateException resultIndex(String resultName, long index, long length) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was " + index + ", expected an index in [0, " + length + ")");
+    }
+
+    static IllegalStateException resultFromIndexSize(String resultName, long fromIndex, long size, long length) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was the range [" + fromIndex + ", " + fromIndex + " + " + size + "), expected a range in [0, " + length + ")");
+    }
+
+    static IllegalStateException resultFromToIndex(String resultName, long fromIndex, long toIndex, long length) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was the range [" + fromIndex + ", " + toIndex + "), expected a range in [0, " + length + ")");
+    }
+
+    static IllegalStateException resultRemaining(String resultName, int remaining, int required) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " had " + remaining + " elements remaining, expected at least " + required);
+    }
+
+    static IllegalArgumentException argumentTooManyUtf8Bytes(String argumentName, int maxBytes) {
+        return illegalArgument(argumentName, "UTF-8 length of " + argumentName + " was > " + maxBytes);
+    }
+
+    static IllegalStateException stateTooManyUtf8Bytes(String stateName, int maxBytes) {
+        return illegalState(ContractKind.CHECK, stateName, "UTF-8 length of " + stateName + " was > " + maxBytes);
+    }
+
+    static IllegalStateException resultTooManyUtf8Bytes(String resultName, int maxBytes) {
+        return illegalState(ContractKind.ENSURE, resultName, "UTF-8 length of " + resultName + " was > " + maxBytes);
+    }
+
+    static IllegalArgumentException argumentMismatch(String argumentName, String regex) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " did not match " + regex);
+    }
+
+    static IllegalStateException stateMismatch(String stateName, String regex) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " did not match " + regex);
+    }
+
+    static IllegalStateException resultMismatch(String resultName, String regex) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " did not match " + regex);
+    }
+
+    static IllegalArgumentException argumentFormat(String argumentName, String format) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was not " + format);
+    }
+
+    static IllegalStateException stateFormat(String stateName, String format) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was not " + format);
+    }
+
+    static IllegalStateException resultFormat(String resultName, String format) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was not " + format);
+    }
+
+    static IllegalArgumentException argumentNotOneOf(String argumentName, Object allowedValues) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was not one of " + allowedValues);
+    }
+
+    static IllegalStateException stateNotOneOf(String stateName, Object allowedValues) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was not one of " + allowedValues);
+    }
+
+    static IllegalStateException resultNotOneOf(String resultName, Object allowedValues) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was not one of " + allowedValues);
+    }
+
+    static IllegalArgumentException argumentDenied(String argumentName) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " was on the deny-list");
+    }
+
+    static IllegalStateException stateDenied(String stateName) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was on the deny-list");
+    }
+
+    static IllegalStateException resultDenied(String resultName) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was on the deny-list");
+    }
+
+    static IllegalArgumentException argumentMissingKey(String argumentName, String key) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " did not contain the key " + key);
+    }
+
+    static IllegalStateException stateMissingKey(String stateName, String key) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " did not contain the key " + key);
+    }
+
+    static IllegalStateException resultMissingKey(String resultName, String key) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " did not contain the key " + key);
+    }
+
+    static IllegalArgumentException argumentUnexpectedKey(String argumentName, Object allowedKeys, long index) {
+        return illegalArgument(argumentName, "Argument " + argumentName + " contained a key not in " + allowedKeys + atIndex(index));
+    }
+
+    static IllegalStateException stateUnexpectedKey(String stateName, Object allowedKeys, long index) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " contained a key not in " + allowedKeys + atIndex(index));
+    }
+
+    static IllegalStateException resultUnexpectedKey(String resultName, Object allowedKeys, long index) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " contained a key not in " + allowedKeys + atIndex(index));
+    }
+
+    static IllegalArgumentException argumentTooLarge(String argumentName, int maxSize) {
+        return illegalArgument(argumentName, "Size of " + argumentName + " was > " + maxSize);
+    }
+
+    static IllegalStateException stateTooLarge(String stateName, int maxSize) {
+        return illegalState(ContractKind.CHECK, stateName, "Size of " + stateName + " was > " + maxSize);
+    }
+
+    static IllegalStateException resultTooLarge(String resultName, int maxSize) {
+        return illegalState(ContractKind.ENSURE, resultName, "Size of " + resultName + " was > " + maxSize);
+    }
+
+    static IllegalArgumentException argumentTooSmall(String argumentName, int minSize) {
+        return illegalArgument(argumentName, "Size of " + argumentName + " was < " + minSize);
+    }
+
+    static IllegalStateException stateTooSmall(String stateName, int minSize) {
+        return illegalState(ContractKind.CHECK, stateName, "Size of " + stateName + " was < " + minSize);
+    }
+
+    static IllegalStateException resultTooSmall(String resultName, int minSize) {
+        return illegalState(ContractKind.ENSURE, resultName, "Size of " + resultName + " was < " + minSize);
+    }
+
+    static RuntimeException element(ContractKind kind, String name, String element, long index) {
+        switch(kind) {
+            case REQUIRE:
+                return argumentElement(name, element, index);
+            case CHECK:
+                return stateElement(name, element, index);
+            default:
+                return resultElement(name, element, index);
+        }
+    }
+
+    static IllegalArgumentException argumentCondition(String conditionDescription) {
+        return illegalArgument(conditionDescription, "Argument did not meet condition: " + conditionDescription);
+    }
+
+    static IllegalArgumentException argumentCondition(Supplier<String> conditionDescription) {
+        return argumentCondition(conditionDescription.get());
+    }
+
+    static IllegalArgumentException argumentCondition(String conditionDescriptionTemplate, long a) {
+        return illegalArgument(conditionDescriptionTemplate, "Argument did not meet condition: " + format(conditionDescriptionTemplate, a));
+    }
+
+    static IllegalArgumentException argumentCondition(String conditionDescriptionTemplate, long a, long b) {
+        return illegalArgument(conditionDescriptionTemplate, "Argument did not meet condition: " + format(conditionDescriptionTemplate, a, b));
+    }
+
+    static IllegalArgumentException argumentCondition(String conditionDescriptionTemplate, @Nullable Object a) {
+        return illegalArgument(conditionDescriptionTemplate, "Argument did not meet condition: " + format(conditionDescriptionTemplate, a));
+    }
+
+    static IllegalArgumentException argumentCondition(String conditionDescriptionTemplate, @Nullable Object a, @Nullable Object b) {
+        return illegalArgument(conditionDescriptionTemplate, "Argument did not meet condition: " + format(conditionDescriptionTemplate, a, b));
+    }
+
+    static IllegalStateException stateObjectNull(String stateName) {
+        return illegalState(ContractKind.CHECK, stateName, "State object " + stateName + " was null");
+    }
+
+    static IllegalStateException stateObjectEmpty(String stateName) {
+        return illegalState(ContractKind.CHECK, stateName, "State object " + stateName + " was empty");
+    }
+
+    static IllegalStateException stateNull(String stateName) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was null");
+    }
+
+    static IllegalStateException stateEmpty(String stateName) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was empty");
+    }
+
+    static IllegalStateException stateBlank(String stateName) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " was blank");
+    }
+
+    static IllegalStateException stateTooLong(String stateName, int maxLength) {
+        return illegalState(ContractKind.CHECK, stateName, "Length of " + stateName + " was > " + maxLength);
+    }
+
+    static IllegalStateException stateElement(String stateName, String element, long index) {
+        return illegalState(ContractKind.CHECK, stateName, "State " + stateName + " contained " + element + atIndex(index));
+    }
+
+    static IllegalStateException stateCondition(String conditionDescription) {
+        return illegalState(ContractKind.CHECK, conditionDescription, "State did not meet condition: " + conditionDescription);
+    }
+
+    static IllegalStateException stateCondition(Supplier<String> conditionDescription) {
+        return stateCondition(conditionDescription.get());
+    }
+
+    static IllegalStateException stateCondition(String conditionDescriptionTemplate, long a) {
+        return illegalState(ContractKind.CHECK, conditionDescriptionTemplate, "State did not meet condition: " + format(conditionDescriptionTemplate, a));
+    }
+
+    static IllegalStateException stateCondition(String conditionDescriptionTemplate, long a, long b) {
+        return illegalState(ContractKind.CHECK, conditionDescriptionTemplate, "State did not meet condition: " + format(conditionDescriptionTemplate, a, b));
+    }
+
+    static IllegalStateException stateCondition(String conditionDescriptionTemplate, @Nullable Object a) {
+        return illegalState(ContractKind.CHECK, conditionDescriptionTemplate, "State did not meet condition: " + format(conditionDescriptionTemplate, a));
+    }
+
+    static IllegalStateException stateCondition(String conditionDescriptionTemplate, @Nullable Object a, @Nullable Object b) {
+        return illegalState(ContractKind.CHECK, conditionDescriptionTemplate, "State did not meet condition: " + format(conditionDescriptionTemplate, a, b));
+    }
+
+    static IllegalStateException resultNull(String resultName) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was null");
+    }
+
+    static IllegalStateException resultEmpty(String resultName) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was empty");
+    }
+
+    static IllegalStateException resultBlank(String resultName) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " was blank");
+    }
+
+    static IllegalStateException resultTooLong(String resultName, int maxLength) {
+        return illegalState(ContractKind.ENSURE, resultName, "Length of " + resultName + " was > " + maxLength);
+    }
+
+    static IllegalStateException resultElement(String resultName, String element, long index) {
+        return illegalState(ContractKind.ENSURE, resultName, "Result " + resultName + " contained " + element + atIndex(index));
+    }
+
+    static IllegalStateException resultCondition(String conditionDescription) {
+        return illegalState(ContractKind.ENSURE, conditionDescription, "Result did not meet condition: " + conditionDescription);
+    }
+
+    static IllegalStateException resultCondition(Supplier<String> conditionDescription) {
+        return resultCondition(conditionDescription.get());
+    }
+
+    static IllegalStateException resultCondition(String conditionDescriptionTemplate, long a) {
+        return illegalState(ContractKind.ENSURE, conditionDescriptionTemplate, "Result did not meet condition: " + format(conditionDescriptionTemplate, a));
+    }
+
+    static IllegalStateException resultCondition(String conditionDescriptionTemplate, long a, long b) {
+        return illegalState(ContractKind.ENSURE, conditionDescriptionTemplate, "Result did not meet condition: " + format(conditionDescriptionTemplate, a, b));
+    }
+
+    static IllegalStateException resultCondition(String conditionDescriptionTemplate, @Nullable Object a) {
+        return illegalState(ContractKind.ENSURE, conditionDescriptionTemplate, "Result did not meet condition: " + format(conditionDescriptionTemplate, a));
+    }
+
+    static IllegalStateException resultCondition(String conditionDescriptionTemplate, @Nullable Object a, @Nullable Object b) {
+        return illegalState(ContractKind.ENSURE, conditionDescriptionTemplate, "Result did not meet condition: " + format(conditionDescriptionTemplate, a, b));
+    }
+
+    static IllegalStateException resultPredicate(@Nullable Object result, String conditionDescription) {
+        return result == null ? resultConditionOnNull(conditionDescription) : resultCondition(conditionDescription);
+    }
+
+    static IllegalStateException resultPredicate(@Nullable Object result, Supplier<String> conditionDescription) {
+        return result == null ? resultConditionOnNull(conditionDescription) : resultCondition(conditionDescription);
+    }
+
+    static IllegalStateException resultConditionOnNull(String conditionDescription) {
+        return illegalState(ContractKind.ENSURE, conditionDescription, "Result did not meet condition: " + conditionDescription + ", it was null instead");
+    }
+
+    static IllegalStateException resultConditionOnNull(Supplier<String> conditionDescription) {
+        return resultConditionOnNull(conditionDescription.get());
+    }
+
+    /**
+     * <p>Describes the position of an element, which is unknown (negative) if a stream has been split.</p>
+     */
+    private static String atIndex(long index) {
+        return index >= 0 ? " at index " + index : "";
+    }
+
+    /**
+     * <p>Replaces each <code>%s</code> in the template by the next value. Unlike {@link String#format(String, Object...)}
+     * this never fails: missing values leave the placeholder as it is and surplus values are appended in brackets.</p>
+     */
+    static String format(String template, @Nullable Object... values) {
+        StringBuilder builder = new StringBuilder(template.length() + 16 * values.length);
+        int templateStart = 0;
+        int valueIndex = 0;
+        while(valueIndex < values.length) {
+            int placeholderStart = template.indexOf("%s", templateStart);
+            if(placeholderStart == -1) {
+                break;
+            }
+            builder.append(template, templateStart, placeholderStart).append(values[valueIndex++]);
+            templateStart = placeholderStart + 2;
+        }
+        builder.append(template, templateStart, template.length());
+        if(valueIndex < values.length) {
+            builder.append(" [").append(values[valueIndex++]);
+            while(valueIndex < values.length) {
+                builder.append(", ").append(values[valueIndex++]);
+            }
+            builder.append(']');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * <p>Builds one exception for all violations collected by a {@link Validator}. Each violation is recorded on its
+     * own, the message lists them separated by semicolons.</p>
+     */
+    static IllegalArgumentException argumentViolations(Violation[] violations, String[] names, int[] maxLengths, int count) {
+        StringBuilder message = new StringBuilder(64 * count);
+        for(int i = 0; i < count; i++) {
+            String violationMessage = argumentMessage(violations[i], names[i], maxLengths[i]);
+            ContractMetrics.failed(ContractKind.REQUIRE, names[i]);
+            ContractEvents.violation(ContractKind.REQUIRE, names[i], violationMessage);
+            if(i > 0) {
+                message.append("; ");
+            }
+            message.append(violationMessage);
+        }
+        return newIllegalArgument(message.toString());
+    }
+
+    static String argumentMessage(Violation violation, String name, int maxLength) {
+        switch(violation) {
+            case TOO_LONG:
+                return "Length of " + name + " was > " + maxLength;
+            case UNMET_CONDITION:
+                return "Argument did not meet condition: " + name;
+            default:
+                return "Argument " + violation.describe(name);
+        }
+    }
+
+    private static IllegalArgumentException illegalArgument(String key, String message) {
+        ContractMetrics.failed(ContractKind.REQUIRE, key);
+        ContractEvents.violation(ContractKind.REQUIRE, key, message);
+        return newIllegalArgument(message);
+    }
+
+    private static IllegalArgumentException newIllegalArgument(String message) {
+        if(ContractConfiguration.isStacklessExceptions()) {
+            return new ArgumentContractViolationException(message);
+        }
+        return new IllegalArgumentException(message);
+    }
+
+    private static IllegalStateException illegalState(ContractKind kind, String key, String message) {
+        ContractMetrics.failed(kind, key);
+        ContractEvents.violation(kind, key, message);
+        if(ContractConfiguration.isStacklessExceptions()) {
+            return new StateContractViolationException(message);
+        }
+        return new IllegalStateException(message);
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>This class contains static methods to enforce contracts on the format of text ("is a UUID", "is an ISO-8601
+ * instant", "is an IP address" and "looks like an e-mail address").</p>
+ *
+ * <p>The contracts only validate: they scan the characters once and never build the parsed object, so they do not
+ * allocate, unlike {@link java.util.UUID#fromString(String)}, {@link java.time.Instant#parse(CharSequence)},
+ * {@link java.net.InetAddress#getByName(String)} or a regular expression. Parse the text afterwards if its value is
+ * needed. The formats are stricter than those parsers:</p>
+ * <ul>
+ *     <li>A UUID has the canonical form of {@link java.util.UUID#toString()}: 32 hex digits in groups of 8, 4, 4, 4
+ *     and 12, separated by hyphens. Upper case hex digits are allowed, shortened groups like <code>1-2-3-4-5</code>
+ *     are not.</li>
+ *     <li>An ISO-8601 instant has the format of RFC 3339: <code>yyyy-MM-ddTHH:mm:ss</code>, optionally followed by 1
+ *     to 9 digits of a fraction of a second, and either <code>Z</code> or an offset <code>+HH:mm</code> or
+ *     <code>-HH:mm</code> of at most 18 hours. <code>T</code> and <code>Z</code> may be lower case. The date has to
+ *     exist and the second may be 60 only at 23:59 (a leap second). Every accepted instant can be parsed by
+ *     {@link java.time.Instant#parse(CharSequence)}.</li>
+ *     <li>An IPv4 address has four numbers from 0 to 255 separated by dots. Leading zeros are rejected, because some
+ *     parsers read them as octal numbers, and so are shortened forms like <code>127.1</code>.</li>
+ *     <li>An IPv6 address has one of the text forms of RFC 4291: eight groups of 1 to 4 hex digits separated by
+ *     colons, where one run of groups may be replaced by <code>::</code> and the last two groups may be written as
+ *     an IPv4 address. Brackets, zone ids and prefix lengths are rejected.</li>
+ *     <li>An e-mail address is checked for the form used in practice: a local part of at most 64 ASCII letters,
+ *     digits and <code>!#$%&amp;'*+-/=?^_`{|}~</code>, separated by single dots (an RFC 5322
+ *     <code>dot-atom</code>), an <code>@</code> and a domain name of at least two labels of ASCII letters, digits
+ *     and inner hyphens, with at most 254 chars in total. Quoted local parts, comments, IP address literals and
+ *     internationalized addresses are rejected. Whether the address exists can only be found out by sending a mail
+ *     to it.</li>
+ * </ul>
+ *
+ * <p>There are methods to</p>
+ * <ul>
+ *     <li>require arguments to meet conditions (preconditions)</li>
+ *     <li>check states (invariants)</li>
+ *     <li>ensure results to meet conditions (postconditions)</li>
+ * </ul>
+ */
+public final class FormatContracts {
+    private FormatContracts() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to be a UUID in canonical form, e.g.
+     * <code>123e4567-e89b-12d3-a456-426614174000</code>.</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or is not a UUID
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireUuid(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!Formats.isUuid(argument)) {
+            throw Failures.argumentFormat(argumentName, Formats.UUID);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to be a UUID in canonical form, e.g.
+     * <code>123e4567-e89b-12d3-a456-426614174000</code>.</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or is not a UUID
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkUuid(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!Formats.isUuid(state)) {
+            throw Failures.stateFormat(stateName, Formats.UUID);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to be a UUID in canonical form, e.g.
+     * <code>123e4567-e89b-12d3-a456-426614174000</code>.</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or is not a UUID
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureUuid(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!Formats.isUuid(result)) {
+            throw Failures.resultFormat(resultName, Formats.UUID);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to be an instant in the ISO-8601 format of
+     * RFC 3339, e.g. <code>2024-02-29T12:30:00.5+01:00</code>.</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or is not an ISO-8601 instant
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireIsoInstant(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!Formats.isIsoInstant(argument)) {
+            throw Failures.argumentFormat(argumentName, Formats.ISO_INSTANT);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to be an instant in the ISO-8601 format of RFC 3339,
+     * e.g. <code>2024-02-29T12:30:00.5+01:00</code>.</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or is not an ISO-8601 instant
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkIsoInstant(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!Formats.isIsoInstant(state)) {
+            throw Failures.stateFormat(stateName, Formats.ISO_INSTANT);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to be an instant in the ISO-8601 format of
+     * RFC 3339, e.g. <code>2024-02-29T12:30:00.5+01:00</code>.</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or is not an ISO-8601 instant
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureIsoInstant(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!Formats.isIsoInstant(result)) {
+            throw Failures.resultFormat(resultName, Formats.ISO_INSTANT);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to be an IPv4 address in dotted decimal form,
+     * e.g. <code>192.168.0.1</code>.</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or is not an IPv4 address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireIpv4(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!Formats.isIpv4(argument)) {
+            throw Failures.argumentFormat(argumentName, Formats.IPV4);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to be an IPv4 address in dotted decimal form, e.g.
+     * <code>192.168.0.1</code>.</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or is not an IPv4 address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkIpv4(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!Formats.isIpv4(state)) {
+            throw Failures.stateFormat(stateName, Formats.IPV4);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to be an IPv4 address in dotted decimal form, e.g.
+     * <code>192.168.0.1</code>.</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or is not an IPv4 address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureIpv4(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!Formats.isIpv4(result)) {
+            throw Failures.resultFormat(resultName, Formats.IPV4);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to be an IPv6 address in one of the text forms
+     * of RFC 4291, e.g. <code>2001:db8::1</code>.</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or is not an IPv6 address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireIpv6(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!Formats.isIpv6(argument)) {
+            throw Failures.argumentFormat(argumentName, Formats.IPV6);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to be an IPv6 address in one of the text forms of
+     * RFC 4291, e.g. <code>2001:db8::1</code>.</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or is not an IPv6 address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkIpv6(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!Formats.isIpv6(state)) {
+            throw Failures.stateFormat(stateName, Formats.IPV6);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to be an IPv6 address in one of the text forms of
+     * RFC 4291, e.g. <code>2001:db8::1</code>.</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or is not an IPv6 address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureIpv6(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!Formats.isIpv6(result)) {
+            throw Failures.resultFormat(resultName, Formats.IPV6);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to look like an e-mail address, e.g.
+     * <code>jane.doe@example.com</code>.</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or does not look like an e-mail address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireEmailLike(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!Formats.isEmailLike(argument)) {
+            throw Failures.argumentFormat(argumentName, Formats.EMAIL);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to look like an e-mail address, e.g.
+     * <code>jane.doe@example.com</code>.</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or does not look like an e-mail address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkEmailLike(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!Formats.isEmailLike(state)) {
+            throw Failures.stateFormat(stateName, Formats.EMAIL);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to look like an e-mail address, e.g.
+     * <code>jane.doe@example.com</code>.</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or does not look like an e-mail address
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureEmailLike(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!Formats.isEmailLike(result)) {
+            throw Failures.resultFormat(resultName, Formats.EMAIL);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+}
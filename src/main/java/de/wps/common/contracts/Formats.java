@@ -0,0 +1,287 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+/**
+ * <p>This class contains scanners which decide whether a {@link CharSequence} is well-formed in one of the formats of
+ * {@link FormatContracts} (see there for the exact formats). They read each char once, at most, and never build the
+ * parsed object, so they do not allocate.</p>
+ */
+final class Formats {
+    static final String UUID = "a UUID";
+    static final String ISO_INSTANT = "an ISO-8601 instant";
+    static final String IPV4 = "an IPv4 address";
+    static final String IPV6 = "an IPv6 address";
+    static final String EMAIL = "an e-mail address";
+
+    private static final int MAX_EMAIL_LENGTH = 254;
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final int MAX_IPV6_LENGTH = 45;
+
+    private static final long ATEXT_LOW = mask("!#$%&'*+-/0123456789=?");
+    private static final long ATEXT_HIGH = mask("ABCDEFGHIJKLMNOPQRSTUVWXYZ^_`abcdefghijklmnopqrstuvwxyz{|}~");
+
+    private Formats() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Returns whether the characters are a UUID in canonical form.</p>
+     */
+    static boolean isUuid(CharSequence chars) {
+        if(chars.length() != 36) {
+            return false;
+        }
+        for(int i = 0; i < 36; i++) {
+            char c = chars.charAt(i);
+            if(i == 8 || i == 13 || i == 18 || i == 23) {
+                if(c != '-') {
+                    return false;
+                }
+            } else if(!isHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>Returns whether the characters are an instant in the format of RFC 3339. Each field is checked while it is
+     * read, including the number of days of the month.</p>
+     */
+    static boolean isIsoInstant(CharSequence chars) {
+        int length = chars.length();
+        if(length < 20) {
+            return false;
+        }
+        int century = twoDigits(chars, 0);
+        int yearOfCentury = twoDigits(chars, 2);
+        int month = twoDigits(chars, 5);
+        int day = twoDigits(chars, 8);
+        if(century < 0 || yearOfCentury < 0 || chars.charAt(4) != '-' || chars.charAt(7) != '-' || month < 1 || month > 12
+                || day < 1 || day > daysInMonth(century * 100 + yearOfCentury, month)) {
+            return false;
+        }
+        int hour = twoDigits(chars, 11);
+        int minute = twoDigits(chars, 14);
+        int second = twoDigits(chars, 17);
+        if((chars.charAt(10) | 0x20) != 't' || chars.charAt(13) != ':' || chars.charAt(16) != ':' || hour < 0 || hour > 23
+                || minute < 0 || minute > 59 || second < 0 || second > 60 || second == 60 && (hour != 23 || minute != 59)) {
+            return false;
+        }
+        int i = 19;
+        if(chars.charAt(i) == '.') {
+            int fractionStart = ++i;
+            while(i < length && isDigit(chars.charAt(i))) {
+                i++;
+            }
+            if(i == fractionStart || i - fractionStart > 9 || i == length) {
+                return false;
+            }
+        }
+        char zone = chars.charAt(i);
+        if((zone | 0x20) == 'z') {
+            return i + 1 == length;
+        }
+        if(zone != '+' && zone != '-' || i + 6 != length || chars.charAt(i + 3) != ':') {
+            return false;
+        }
+        int offsetHours = twoDigits(chars, i + 1);
+        int offsetMinutes = twoDigits(chars, i + 4);
+        return offsetHours >= 0 && offsetMinutes >= 0 && offsetMinutes <= 59
+                && (offsetHours < 18 || offsetHours == 18 && offsetMinutes == 0);
+    }
+
+    /**
+     * <p>Returns whether the characters are an IPv4 address in dotted decimal form without leading zeros.</p>
+     */
+    static boolean isIpv4(CharSequence chars) {
+        return isIpv4(chars, 0, chars.length());
+    }
+
+    /**
+     * <p>Returns whether the characters are an IPv6 address. Groups are counted while they are read; an IPv4 address
+     * in place of the last two groups ends the address.</p>
+     */
+    static boolean isIpv6(CharSequence chars) {
+        int length = chars.length();
+        if(length < 2 || length > MAX_IPV6_LENGTH) {
+            return false;
+        }
+        int groups = 0;
+        boolean compressed = false;
+        int i = 0;
+        if(chars.charAt(0) == ':') {
+            if(chars.charAt(1) != ':') {
+                return false;
+            }
+            compressed = true;
+            i = 2;
+        }
+        while(i < length) {
+            int groupStart = i;
+            while(i < length && i - groupStart < 5 && isHexDigit(chars.charAt(i))) {
+                i++;
+            }
+            if(i < length && chars.charAt(i) == '.') {
+                if(groups > 6 || !isIpv4(chars, groupStart, length)) {
+                    return false;
+                }
+                groups += 2;
+                break;
+            }
+            if(i == groupStart || i - groupStart > 4) {
+                return false;
+            }
+            groups++;
+            if(i == length) {
+                break;
+            }
+            if(chars.charAt(i) != ':' || ++i == length) {
+                return false;
+            }
+            if(chars.charAt(i) == ':') {
+                if(compressed) {
+                    return false;
+                }
+                compressed = true;
+                i++;
+            }
+        }
+        return compressed ? groups < 8 : groups == 8;
+    }
+
+    /**
+     * <p>Returns whether the characters are a dot-atom local part, an <code>@</code> and a domain name.</p>
+     */
+    static boolean isEmailLike(CharSequence chars) {
+        int length = chars.length();
+        if(length > MAX_EMAIL_LENGTH) {
+            return false;
+        }
+        int i = 0;
+        char previous = '.';
+        for(; i < length; i++) {
+            char c = chars.charAt(i);
+            if(c == '@') {
+                break;
+            }
+            if(c == '.' ? previous == '.' : !isAtext(c)) {
+                return false;
+            }
+            previous = c;
+        }
+        if(i == 0 || i == length || i > MAX_LOCAL_PART_LENGTH || previous == '.') {
+            return false;
+        }
+        int labelLength = 0;
+        int dots = 0;
+        for(i++; i < length; i++) {
+            char c = chars.charAt(i);
+            if(c == '.') {
+                if(labelLength == 0 || previous == '-') {
+                    return false;
+                }
+                dots++;
+                labelLength = 0;
+            } else if(isLetterOrDigit(c) || c == '-' && labelLength > 0) {
+                if(++labelLength > MAX_LABEL_LENGTH) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+            previous = c;
+        }
+        return dots > 0 && labelLength > 0 && previous != '-';
+    }
+
+    private static boolean isIpv4(CharSequence chars, int start, int end) {
+        int numbers = 0;
+        int i = start;
+        while(true) {
+            int numberStart = i;
+            int value = 0;
+            while(i < end && i - numberStart < 4 && isDigit(chars.charAt(i))) {
+                value = value * 10 + chars.charAt(i++) - '0';
+            }
+            int digits = i - numberStart;
+            if(digits == 0 || digits > 3 || value > 255 || digits > 1 && chars.charAt(numberStart) == '0') {
+                return false;
+            }
+            numbers++;
+            if(i == end) {
+                return numbers == 4;
+            }
+            if(numbers == 4 || chars.charAt(i++) != '.') {
+                return false;
+            }
+        }
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if(month == 2) {
+            return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        }
+        return 30 + ((month + (month >> 3)) & 1);
+    }
+
+    /**
+     * <p>Returns the number of the two digits at index and index + 1, or -1 if they are not both digits.</p>
+     */
+    private static int twoDigits(CharSequence chars, int index) {
+        char tens = chars.charAt(index);
+        char ones = chars.charAt(index + 1);
+        return isDigit(tens) && isDigit(ones) ? (tens - '0') * 10 + ones - '0' : -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        char lowerCase = (char) (c | 0x20);
+        return isDigit(c) || lowerCase >= 'a' && lowerCase <= 'f';
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        char lowerCase = (char) (c | 0x20);
+        return isDigit(c) || lowerCase >= 'a' && lowerCase <= 'z';
+    }
+
+    private static boolean isAtext(char c) {
+        if(c < 64) {
+            return (ATEXT_LOW & 1L << c) != 0;
+        }
+        return c < 128 && (ATEXT_HIGH & 1L << (c - 64)) != 0;
+    }
+
+    /**
+     * <p>Builds a bit mask of ASCII chars from 0 to 63 or from 64 to 127 (shifts of a long only use the lowest six
+     * bits of the distance).</p>
+     */
+    private static long mask(String chars) {
+        long mask = 0;
+        for(int i = 0; i < chars.length(); i++) {
+            mask |= 1L << chars.charAt(i);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,544 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.nio.Buffer;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>This class contains static methods to enforce contracts on indexes and ranges of arrays, buffers and collections,
+ * and on the remaining elements of {@link Buffer buffers}.</p>
+ *
+ * <p>The index contracts have the semantics of {@link Objects#checkIndex(int, int)},
+ * {@link Objects#checkFromIndexSize(int, int, int)} and {@link Objects#checkFromToIndex(int, int, int)}, but compare
+ * the values directly. The JIT compiler turns <code>index &gt;= 0 &amp;&amp; index &lt; length</code> into the single
+ * unsigned comparison of its own array bounds checks, so an index checked by a contract is not checked again when the
+ * array is accessed, and checks in loops are hoisted out of the loop where possible:</p>
+ *
+ * <pre>
+ * requireFromIndexSize(offset, 4, bytes.length, "offset");
+ * int value = (bytes[offset] &amp; 0xFF) &lt;&lt; 24 | (bytes[offset + 1] &amp; 0xFF) &lt;&lt; 16 | ...
+ * </pre>
+ *
+ * <p>Violations are reported with the exceptions and messages of this library instead of
+ * {@link IndexOutOfBoundsException}. No {@link IndexOutOfBoundsException} is created on the way, so rejecting an index
+ * stays cheap with {@link ContractConfiguration#setStacklessExceptions(boolean) stackless exceptions}. These are
+ * condition contracts, which can be disabled per kind (see {@link ContractConfiguration}).</p>
+ *
+ * <p>There are methods to</p>
+ * <ul>
+ *     <li>require arguments to meet conditions (preconditions)</li>
+ *     <li>check states (invariants)</li>
+ *     <li>ensure results to meet conditions (postconditions)</li>
+ * </ul>
+ */
+public final class IndexContracts {
+    private IndexContracts() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Requires the int argument to be an index in the range from 0 (inclusive) to length (exclusive) (see
+     * {@link Objects#checkIndex(int, int)}).</p>
+     *
+     * @param argument The index to check
+     * @param length The length of the indexed array, buffer or collection
+     * @param argumentName The name of the argument
+     * @return The checked index
+     * @throws IllegalArgumentException if argument is negative or not less than length, or length is negative
+     */
+    public static int requireIndex(int argument, int length, @NonNull String argumentName) {
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return argument;
+        }
+        if(!isIndex(argument, length)) {
+            throw Failures.argumentIndex(argumentName, argument, length);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Requires the int argument fromIndex and size to describe a range [fromIndex, fromIndex + size) in the range
+     * from 0 (inclusive) to length (exclusive) (see {@link Objects#checkFromIndexSize(int, int, int)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param size The size of the range
+     * @param length The length of the indexed array, buffer or collection
+     * @param argumentName The name of the argument
+     * @return The checked fromIndex
+     * @throws IllegalArgumentException if fromIndex or size is negative, or the range exceeds length
+     */
+    public static int requireFromIndexSize(int fromIndex, int size, int length, @NonNull String argumentName) {
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromIndexSize(fromIndex, size, length)) {
+            throw Failures.argumentFromIndexSize(argumentName, fromIndex, size, length);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Requires the int argument fromIndex and toIndex to describe a range [fromIndex, toIndex) in the range from 0
+     * (inclusive) to length (exclusive) (see {@link Objects#checkFromToIndex(int, int, int)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param toIndex The end of the range (exclusive)
+     * @param length The length of the indexed array, buffer or collection
+     * @param argumentName The name of the argument
+     * @return The checked fromIndex
+     * @throws IllegalArgumentException if fromIndex is negative or greater than toIndex, or toIndex is greater than length
+     */
+    public static int requireFromToIndex(int fromIndex, int toIndex, int length, @NonNull String argumentName) {
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromToIndex(fromIndex, toIndex, length)) {
+            throw Failures.argumentFromToIndex(argumentName, fromIndex, toIndex, length);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Checks the int state to be an index in the range from 0 (inclusive) to length (exclusive) (see
+     * {@link Objects#checkIndex(int, int)}).</p>
+     *
+     * @param state The index to check
+     * @param length The length of the indexed array, buffer or collection
+     * @param stateName The name of the state
+     * @return The checked index
+     * @throws IllegalStateException if state is negative or not less than length, or length is negative
+     */
+    public static int checkIndex(int state, int length, @NonNull String stateName) {
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return state;
+        }
+        if(!isIndex(state, length)) {
+            throw Failures.stateIndex(stateName, state, length);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Checks the int state fromIndex and size to describe a range [fromIndex, fromIndex + size) in the range
+     * from 0 (inclusive) to length (exclusive) (see {@link Objects#checkFromIndexSize(int, int, int)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param size The size of the range
+     * @param length The length of the indexed array, buffer or collection
+     * @param stateName The name of the state
+     * @return The checked fromIndex
+     * @throws IllegalStateException if fromIndex or size is negative, or the range exceeds length
+     */
+    public static int checkFromIndexSize(int fromIndex, int size, int length, @NonNull String stateName) {
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromIndexSize(fromIndex, size, length)) {
+            throw Failures.stateFromIndexSize(stateName, fromIndex, size, length);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Checks the int state fromIndex and toIndex to describe a range [fromIndex, toIndex) in the range from 0
+     * (inclusive) to length (exclusive) (see {@link Objects#checkFromToIndex(int, int, int)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param toIndex The end of the range (exclusive)
+     * @param length The length of the indexed array, buffer or collection
+     * @param stateName The name of the state
+     * @return The checked fromIndex
+     * @throws IllegalStateException if fromIndex is negative or greater than toIndex, or toIndex is greater than length
+     */
+    public static int checkFromToIndex(int fromIndex, int toIndex, int length, @NonNull String stateName) {
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromToIndex(fromIndex, toIndex, length)) {
+            throw Failures.stateFromToIndex(stateName, fromIndex, toIndex, length);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Ensures the int result to be an index in the range from 0 (inclusive) to length (exclusive) (see
+     * {@link Objects#checkIndex(int, int)}).</p>
+     *
+     * @param result The index to check
+     * @param length The length of the indexed array, buffer or collection
+     * @param resultName The name of the result
+     * @return The checked index
+     * @throws IllegalStateException if result is negative or not less than length, or length is negative
+     */
+    public static int ensureIndex(int result, int length, @NonNull String resultName) {
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        if(!isIndex(result, length)) {
+            throw Failures.resultIndex(resultName, result, length);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Ensures the int result fromIndex and size to describe a range [fromIndex, fromIndex + size) in the range
+     * from 0 (inclusive) to length (exclusive) (see {@link Objects#checkFromIndexSize(int, int, int)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param size The size of the range
+     * @param length The length of the indexed array, buffer or collection
+     * @param resultName The name of the result
+     * @return The checked fromIndex
+     * @throws IllegalStateException if fromIndex or size is negative, or the range exceeds length
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, @NonNull String resultName) {
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromIndexSize(fromIndex, size, length)) {
+            throw Failures.resultFromIndexSize(resultName, fromIndex, size, length);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Ensures the int result fromIndex and toIndex to describe a range [fromIndex, toIndex) in the range from 0
+     * (inclusive) to length (exclusive) (see {@link Objects#checkFromToIndex(int, int, int)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param toIndex The end of the range (exclusive)
+     * @param length The length of the indexed array, buffer or collection
+     * @param resultName The name of the result
+     * @return The checked fromIndex
+     * @throws IllegalStateException if fromIndex is negative or greater than toIndex, or toIndex is greater than length
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, @NonNull String resultName) {
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromToIndex(fromIndex, toIndex, length)) {
+            throw Failures.resultFromToIndex(resultName, fromIndex, toIndex, length);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Requires the long argument to be an index in the range from 0 (inclusive) to length (exclusive) (see
+     * {@link Objects#checkIndex(long, long)}).</p>
+     *
+     * @param argument The index to check
+     * @param length The length of the indexed array, buffer or collection
+     * @param argumentName The name of the argument
+     * @return The checked index
+     * @throws IllegalArgumentException if argument is negative or not less than length, or length is negative
+     */
+    public static long requireIndex(long argument, long length, @NonNull String argumentName) {
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return argument;
+        }
+        if(!isIndex(argument, length)) {
+            throw Failures.argumentIndex(argumentName, argument, length);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Requires the long argument fromIndex and size to describe a range [fromIndex, fromIndex + size) in the range
+     * from 0 (inclusive) to length (exclusive) (see {@link Objects#checkFromIndexSize(long, long, long)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param size The size of the range
+     * @param length The length of the indexed array, buffer or collection
+     * @param argumentName The name of the argument
+     * @return The checked fromIndex
+     * @throws IllegalArgumentException if fromIndex or size is negative, or the range exceeds length
+     */
+    public static long requireFromIndexSize(long fromIndex, long size, long length, @NonNull String argumentName) {
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromIndexSize(fromIndex, size, length)) {
+            throw Failures.argumentFromIndexSize(argumentName, fromIndex, size, length);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Requires the long argument fromIndex and toIndex to describe a range [fromIndex, toIndex) in the range from 0
+     * (inclusive) to length (exclusive) (see {@link Objects#checkFromToIndex(long, long, long)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param toIndex The end of the range (exclusive)
+     * @param length The length of the indexed array, buffer or collection
+     * @param argumentName The name of the argument
+     * @return The checked fromIndex
+     * @throws IllegalArgumentException if fromIndex is negative or greater than toIndex, or toIndex is greater than length
+     */
+    public static long requireFromToIndex(long fromIndex, long toIndex, long length, @NonNull String argumentName) {
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromToIndex(fromIndex, toIndex, length)) {
+            throw Failures.argumentFromToIndex(argumentName, fromIndex, toIndex, length);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Checks the long state to be an index in the range from 0 (inclusive) to length (exclusive) (see
+     * {@link Objects#checkIndex(long, long)}).</p>
+     *
+     * @param state The index to check
+     * @param length The length of the indexed array, buffer or collection
+     * @param stateName The name of the state
+     * @return The checked index
+     * @throws IllegalStateException if state is negative or not less than length, or length is negative
+     */
+    public static long checkIndex(long state, long length, @NonNull String stateName) {
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return state;
+        }
+        if(!isIndex(state, length)) {
+            throw Failures.stateIndex(stateName, state, length);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Checks the long state fromIndex and size to describe a range [fromIndex, fromIndex + size) in the range
+     * from 0 (inclusive) to length (exclusive) (see {@link Objects#checkFromIndexSize(long, long, long)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param size The size of the range
+     * @param length The length of the indexed array, buffer or collection
+     * @param stateName The name of the state
+     * @return The checked fromIndex
+     * @throws IllegalStateException if fromIndex or size is negative, or the range exceeds length
+     */
+    public static long checkFromIndexSize(long fromIndex, long size, long length, @NonNull String stateName) {
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromIndexSize(fromIndex, size, length)) {
+            throw Failures.stateFromIndexSize(stateName, fromIndex, size, length);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Checks the long state fromIndex and toIndex to describe a range [fromIndex, toIndex) in the range from 0
+     * (inclusive) to length (exclusive) (see {@link Objects#checkFromToIndex(long, long, long)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param toIndex The end of the range (exclusive)
+     * @param length The length of the indexed array, buffer or collection
+     * @param stateName The name of the state
+     * @return The checked fromIndex
+     * @throws IllegalStateException if fromIndex is negative or greater than toIndex, or toIndex is greater than length
+     */
+    public static long checkFromToIndex(long fromIndex, long toIndex, long length, @NonNull String stateName) {
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromToIndex(fromIndex, toIndex, length)) {
+            throw Failures.stateFromToIndex(stateName, fromIndex, toIndex, length);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Ensures the long result to be an index in the range from 0 (inclusive) to length (exclusive) (see
+     * {@link Objects#checkIndex(long, long)}).</p>
+     *
+     * @param result The index to check
+     * @param length The length of the indexed array, buffer or collection
+     * @param resultName The name of the result
+     * @return The checked index
+     * @throws IllegalStateException if result is negative or not less than length, or length is negative
+     */
+    public static long ensureIndex(long result, long length, @NonNull String resultName) {
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        if(!isIndex(result, length)) {
+            throw Failures.resultIndex(resultName, result, length);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Ensures the long result fromIndex and size to describe a range [fromIndex, fromIndex + size) in the range
+     * from 0 (inclusive) to length (exclusive) (see {@link Objects#checkFromIndexSize(long, long, long)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param size The size of the range
+     * @param length The length of the indexed array, buffer or collection
+     * @param resultName The name of the result
+     * @return The checked fromIndex
+     * @throws IllegalStateException if fromIndex or size is negative, or the range exceeds length
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, @NonNull String resultName) {
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromIndexSize(fromIndex, size, length)) {
+            throw Failures.resultFromIndexSize(resultName, fromIndex, size, length);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Ensures the long result fromIndex and toIndex to describe a range [fromIndex, toIndex) in the range from 0
+     * (inclusive) to length (exclusive) (see {@link Objects#checkFromToIndex(long, long, long)}).</p>
+     *
+     * @param fromIndex The start of the range (inclusive)
+     * @param toIndex The end of the range (exclusive)
+     * @param length The length of the indexed array, buffer or collection
+     * @param resultName The name of the result
+     * @return The checked fromIndex
+     * @throws IllegalStateException if fromIndex is negative or greater than toIndex, or toIndex is greater than length
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, @NonNull String resultName) {
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return fromIndex;
+        }
+        if(!isFromToIndex(fromIndex, toIndex, length)) {
+            throw Failures.resultFromToIndex(resultName, fromIndex, toIndex, length);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return fromIndex;
+    }
+
+    /**
+     * <p>Requires the {@link Buffer} argument to have at least the given number of elements remaining between its
+     * position and its limit (and not to be null), e.g. before reading a fixed size record from a
+     * {@link java.nio.ByteBuffer}.</p>
+     *
+     * @param argument The buffer to check
+     * @param required The number of elements which have to remain
+     * @param argumentName The name of the argument
+     * @return The checked buffer
+     * @throws IllegalArgumentException if argument is null or has less than required elements remaining
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Buffer> @NonNull T requireRemaining(@Nullable T argument, int required, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(ContractConfiguration.REQUIRE_ENABLED && argument.remaining() < required) {
+            throw Failures.argumentRemaining(argumentName, argument.remaining(), required);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link Buffer} state to have at least the given number of elements remaining between its
+     * position and its limit (and not to be null), e.g. before reading a fixed size record from a
+     * {@link java.nio.ByteBuffer}.</p>
+     *
+     * @param state The buffer to check
+     * @param required The number of elements which have to remain
+     * @param stateName The name of the state
+     * @return The checked buffer
+     * @throws IllegalStateException if state is null or has less than required elements remaining
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Buffer> @NonNull T checkRemaining(@Nullable T state, int required, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(ContractConfiguration.CHECK_ENABLED && state.remaining() < required) {
+            throw Failures.stateRemaining(stateName, state.remaining(), required);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link Buffer} result to have at least the given number of elements remaining between its
+     * position and its limit (and not to be null), e.g. before reading a fixed size record from a
+     * {@link java.nio.ByteBuffer}.</p>
+     *
+     * @param result The buffer to check
+     * @param required The number of elements which have to remain
+     * @param resultName The name of the result
+     * @return The checked buffer
+     * @throws IllegalStateException if result is null or has less than required elements remaining
+     * @param <T> Type of the buffer
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Buffer> @NonNull T ensureRemaining(@Nullable T result, int required, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(ContractConfiguration.ENSURE_ENABLED && result.remaining() < required) {
+            throw Failures.resultRemaining(resultName, result.remaining(), required);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    private static boolean isIndex(int index, int length) {
+        return index >= 0 && index < length;
+    }
+
+    private static boolean isFromIndexSize(int fromIndex, int size, int length) {
+        return (length | fromIndex | size) >= 0 && size <= length - fromIndex;
+    }
+
+    private static boolean isFromToIndex(int fromIndex, int toIndex, int length) {
+        return fromIndex >= 0 && fromIndex <= toIndex && toIndex <= length;
+    }
+
+    private static boolean isIndex(long index, long length) {
+        return index >= 0 && index < length;
+    }
+
+    private static boolean isFromIndexSize(long fromIndex, long size, long length) {
+        return (length | fromIndex | size) >= 0 && size <= length - fromIndex;
+    }
+
+    private static boolean isFromToIndex(long fromIndex, long toIndex, long length) {
+        return fromIndex >= 0 && fromIndex <= toIndex && toIndex <= length;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>An immutable set of map keys, e.g. the names of the properties of a configuration or of a JSON object, built once
+ * and checked by {@link CollectionContracts#requireContainsKeys(Map, KeySpec, String)} and
+ * {@link CollectionContracts#requireOnlyKeys(Map, KeySpec, String)} etc.</p>
+ *
+ * <p>The keys are kept in the order they were given and in an {@link AllowedValues} table for lookups. Each check is a
+ * single pass over the smaller side: "contains keys" looks up the keys of the spec in the map, "only keys" looks up the
+ * keys of the map in the spec. If the other side is smaller, the pass stops after at most its size + 1 lookups,
+ * because each lookup that succeeds uses up a different key of the other side.</p>
+ */
+public final class KeySpec {
+    private final String[] keys;
+    private final AllowedValues table;
+
+    private KeySpec(AllowedValues table) {
+        this.table = table;
+        this.keys = table.values();
+    }
+
+    /**
+     * <p>Creates the key spec. Duplicates are ignored.</p>
+     *
+     * @param keys The keys
+     * @return The key spec
+     * @throws IllegalArgumentException if keys contains null
+     */
+    public static @NonNull KeySpec of(@NonNull String... keys) {
+        return copyOf(Arrays.asList(keys));
+    }
+
+    /**
+     * <p>Creates the key spec from a collection, e.g. {@link Map#keySet()} of a template. Duplicates are ignored.</p>
+     *
+     * @param keys The keys
+     * @return The key spec
+     * @throws IllegalArgumentException if keys contains null
+     */
+    public static @NonNull KeySpec copyOf(@NonNull Collection<String> keys) {
+        int index = Elements.indexOfNull(keys);
+        if(index >= 0) {
+            throw new IllegalArgumentException("Argument keys contained a null element at index " + index);
+        }
+        return new KeySpec(AllowedValues.copyOf(keys));
+    }
+
+    /**
+     * <p>Returns whether the key is one of the keys of the spec.</p>
+     *
+     * @param key The key to look up
+     * @return true if key is a string of the spec, false otherwise
+     */
+    public boolean contains(@Nullable Object key) {
+        return key instanceof String && table.contains((String) key);
+    }
+
+    /**
+     * <p>Returns the number of keys.</p>
+     *
+     * @return The number of keys
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * <p>Returns the first key of the spec (in the order given) which the map does not contain, or null.</p>
+     */
+    @Nullable String missingKey(Map<?, ?> map) {
+        for(String key : keys) {
+            if(!map.containsKey(key)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>Returns the index of the first key of the map (in iteration order) which is not a key of the spec, or -1.</p>
+     */
+    int indexOfUnexpectedKey(Map<?, ?> map) {
+        int index = 0;
+        for(Object key : map.keySet()) {
+            if(!contains(key)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * <p>Lists the first keys in the order they were given, followed by their number if there are more.</p>
+     */
+    @Override
+    public String toString() {
+        return table.toString();
+    }
+}
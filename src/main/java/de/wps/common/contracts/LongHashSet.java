@@ -0,0 +1,109 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+/**
+ * <p>A set of <code>long</code> values with open addressing and linear probing, used to find duplicates in primitive
+ * arrays without boxing.</p>
+ *
+ * <p>The values are stored in a <code>long[]</code> whose length is a power of two, which is kept at most half full.
+ * 0 marks an empty slot, so the value 0 itself is tracked by a flag. The slot of a value is given by the low bits of
+ * the finalizer of MurmurHash3, so sequential values are spread over the table.</p>
+ */
+final class LongHashSet {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * <p>Creates a set with space for the expected number of values, but for at most
+     * {@value Elements#MAX_PRESIZED_ELEMENTS}. More values are added by growing the table.</p>
+     */
+    LongHashSet(int expectedSize) {
+        table = new long[capacityFor(Math.min(expectedSize, Elements.MAX_PRESIZED_ELEMENTS))];
+        mask = table.length - 1;
+    }
+
+    /**
+     * <p>Adds the value, returns false if it was already contained.</p>
+     */
+    boolean add(long value) {
+        if(value == 0) {
+            if(containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+        int slot = (int) hash(value) & mask;
+        long current;
+        while((current = table[slot]) != 0) {
+            if(current == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        if(++size > table.length >>> 1) {
+            grow();
+        }
+        return true;
+    }
+
+    static long hash(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private void grow() {
+        if(table.length == MAX_CAPACITY) {
+            if(size == MAX_CAPACITY - 1) {
+                throw new IllegalStateException("More than " + size + " distinct values");
+            }
+            return;
+        }
+        long[] oldTable = table;
+        table = new long[oldTable.length << 1];
+        mask = table.length - 1;
+        for(long value : oldTable) {
+            if(value != 0) {
+                int slot = (int) hash(value) & mask;
+                while(table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        if(expectedSize >= MAX_CAPACITY >>> 1) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit(Math.max(2 * expectedSize - 1, 1)) << 1;
+    }
+}
@@ -0,0 +1,551 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * <p>This class contains static methods to enforce contracts on numbers ("in range", "positive", "not negative" and
+ * "finite").</p>
+ *
+ * <p>The methods take and return primitive <code>int</code>, <code>long</code> and <code>double</code> values, so
+ * unlike <code>require(boolean, Supplier)</code> or <code>ensure(T, Predicate, String)</code> they neither box the
+ * value nor capture it in a lambda. The message is only built if the contract is violated:</p>
+ *
+ * <pre>
+ * this.port = requireInRange(port, 0, 65536, "port");
+ * </pre>
+ *
+ * <p>Ranges include the lower and exclude the upper bound, like indexes. With a lower bound of 0, the JIT compiler
+ * merges the two comparisons of a range check into a single unsigned comparison, the same shape {@link
+ * java.util.Objects#checkIndex(int, int)} is compiled to, so it can eliminate dominated array bounds checks. Checks of
+ * <code>double</code> values fail for NaN.</p>
+ *
+ * <p>These are condition contracts, which can be disabled per kind (see {@link ContractConfiguration}).</p>
+ *
+ * <p>There are methods to</p>
+ * <ul>
+ *     <li>require arguments to meet conditions (preconditions)</li>
+ *     <li>check states (invariants)</li>
+ *     <li>ensure results to meet conditions (postconditions)</li>
+ * </ul>
+ */
+public final class NumberContracts {
+    private NumberContracts() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Requires the int argument to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param argument The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is not in the range
+     */
+    public static int requireInRange(int argument, int fromInclusive, int toExclusive, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && (argument < fromInclusive || argument >= toExclusive)) {
+            throw Failures.argumentNotInRange(argumentName, argument, fromInclusive, toExclusive);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the int state to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param state The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is not in the range
+     */
+    public static int checkInRange(int state, int fromInclusive, int toExclusive, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && (state < fromInclusive || state >= toExclusive)) {
+            throw Failures.stateNotInRange(stateName, state, fromInclusive, toExclusive);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the int result to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param result The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is not in the range
+     */
+    public static int ensureInRange(int result, int fromInclusive, int toExclusive, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && (result < fromInclusive || result >= toExclusive)) {
+            throw Failures.resultNotInRange(resultName, result, fromInclusive, toExclusive);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the int argument to be positive (&gt; 0).</p>
+     *
+     * @param argument The value to check
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is zero or negative
+     */
+    public static int requirePositive(int argument, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && argument <= 0) {
+            throw Failures.argumentNotPositive(argumentName, argument);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the int state to be positive (&gt; 0).</p>
+     *
+     * @param state The value to check
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is zero or negative
+     */
+    public static int checkPositive(int state, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && state <= 0) {
+            throw Failures.stateNotPositive(stateName, state);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the int result to be positive (&gt; 0).</p>
+     *
+     * @param result The value to check
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is zero or negative
+     */
+    public static int ensurePositive(int result, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && result <= 0) {
+            throw Failures.resultNotPositive(resultName, result);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the int argument to be not negative (&gt;= 0).</p>
+     *
+     * @param argument The value to check
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is negative
+     */
+    public static int requireNonNegative(int argument, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && argument < 0) {
+            throw Failures.argumentNegative(argumentName, argument);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the int state to be not negative (&gt;= 0).</p>
+     *
+     * @param state The value to check
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is negative
+     */
+    public static int checkNonNegative(int state, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && state < 0) {
+            throw Failures.stateNegative(stateName, state);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the int result to be not negative (&gt;= 0).</p>
+     *
+     * @param result The value to check
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is negative
+     */
+    public static int ensureNonNegative(int result, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && result < 0) {
+            throw Failures.resultNegative(resultName, result);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the long argument to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param argument The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is not in the range
+     */
+    public static long requireInRange(long argument, long fromInclusive, long toExclusive, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && (argument < fromInclusive || argument >= toExclusive)) {
+            throw Failures.argumentNotInRange(argumentName, argument, fromInclusive, toExclusive);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the long state to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param state The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is not in the range
+     */
+    public static long checkInRange(long state, long fromInclusive, long toExclusive, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && (state < fromInclusive || state >= toExclusive)) {
+            throw Failures.stateNotInRange(stateName, state, fromInclusive, toExclusive);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the long result to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param result The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is not in the range
+     */
+    public static long ensureInRange(long result, long fromInclusive, long toExclusive, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && (result < fromInclusive || result >= toExclusive)) {
+            throw Failures.resultNotInRange(resultName, result, fromInclusive, toExclusive);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the long argument to be positive (&gt; 0).</p>
+     *
+     * @param argument The value to check
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is zero or negative
+     */
+    public static long requirePositive(long argument, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && argument <= 0) {
+            throw Failures.argumentNotPositive(argumentName, argument);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the long state to be positive (&gt; 0).</p>
+     *
+     * @param state The value to check
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is zero or negative
+     */
+    public static long checkPositive(long state, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && state <= 0) {
+            throw Failures.stateNotPositive(stateName, state);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the long result to be positive (&gt; 0).</p>
+     *
+     * @param result The value to check
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is zero or negative
+     */
+    public static long ensurePositive(long result, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && result <= 0) {
+            throw Failures.resultNotPositive(resultName, result);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the long argument to be not negative (&gt;= 0).</p>
+     *
+     * @param argument The value to check
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is negative
+     */
+    public static long requireNonNegative(long argument, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && argument < 0) {
+            throw Failures.argumentNegative(argumentName, argument);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the long state to be not negative (&gt;= 0).</p>
+     *
+     * @param state The value to check
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is negative
+     */
+    public static long checkNonNegative(long state, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && state < 0) {
+            throw Failures.stateNegative(stateName, state);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the long result to be not negative (&gt;= 0).</p>
+     *
+     * @param result The value to check
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is negative
+     */
+    public static long ensureNonNegative(long result, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && result < 0) {
+            throw Failures.resultNegative(resultName, result);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the double argument to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param argument The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is not in the range or is NaN
+     */
+    public static double requireInRange(double argument, double fromInclusive, double toExclusive, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && (!(argument >= fromInclusive && argument < toExclusive))) {
+            throw Failures.argumentNotInRange(argumentName, argument, fromInclusive, toExclusive);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the double state to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param state The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is not in the range or is NaN
+     */
+    public static double checkInRange(double state, double fromInclusive, double toExclusive, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && (!(state >= fromInclusive && state < toExclusive))) {
+            throw Failures.stateNotInRange(stateName, state, fromInclusive, toExclusive);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the double result to be in the range from fromInclusive (inclusive) to toExclusive (exclusive).</p>
+     *
+     * @param result The value to check
+     * @param fromInclusive The lower bound of the range (inclusive)
+     * @param toExclusive The upper bound of the range (exclusive)
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is not in the range or is NaN
+     */
+    public static double ensureInRange(double result, double fromInclusive, double toExclusive, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && (!(result >= fromInclusive && result < toExclusive))) {
+            throw Failures.resultNotInRange(resultName, result, fromInclusive, toExclusive);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the double argument to be positive (&gt; 0).</p>
+     *
+     * @param argument The value to check
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is zero or negative or is NaN
+     */
+    public static double requirePositive(double argument, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && !(argument > 0)) {
+            throw Failures.argumentNotPositive(argumentName, argument);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the double state to be positive (&gt; 0).</p>
+     *
+     * @param state The value to check
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is zero or negative or is NaN
+     */
+    public static double checkPositive(double state, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && !(state > 0)) {
+            throw Failures.stateNotPositive(stateName, state);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the double result to be positive (&gt; 0).</p>
+     *
+     * @param result The value to check
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is zero or negative or is NaN
+     */
+    public static double ensurePositive(double result, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && !(result > 0)) {
+            throw Failures.resultNotPositive(resultName, result);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the double argument to be not negative (&gt;= 0).</p>
+     *
+     * @param argument The value to check
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is negative or is NaN
+     */
+    public static double requireNonNegative(double argument, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && !(argument >= 0)) {
+            throw Failures.argumentNegative(argumentName, argument);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the double state to be not negative (&gt;= 0).</p>
+     *
+     * @param state The value to check
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is negative or is NaN
+     */
+    public static double checkNonNegative(double state, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && !(state >= 0)) {
+            throw Failures.stateNegative(stateName, state);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the double result to be not negative (&gt;= 0).</p>
+     *
+     * @param result The value to check
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is negative or is NaN
+     */
+    public static double ensureNonNegative(double result, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && !(result >= 0)) {
+            throw Failures.resultNegative(resultName, result);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the double argument to be finite (neither infinite nor NaN).</p>
+     *
+     * @param argument The value to check
+     * @param argumentName The name of the argument
+     * @return The checked value
+     * @throws IllegalArgumentException if argument is infinite or NaN
+     */
+    public static double requireFinite(double argument, @NonNull String argumentName) {
+        if(ContractConfiguration.REQUIRE_ENABLED && !Double.isFinite(argument)) {
+            throw Failures.argumentNotFinite(argumentName, argument);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the double state to be finite (neither infinite nor NaN).</p>
+     *
+     * @param state The value to check
+     * @param stateName The name of the state
+     * @return The checked value
+     * @throws IllegalStateException if state is infinite or NaN
+     */
+    public static double checkFinite(double state, @NonNull String stateName) {
+        if(ContractConfiguration.CHECK_ENABLED && !Double.isFinite(state)) {
+            throw Failures.stateNotFinite(stateName, state);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the double result to be finite (neither infinite nor NaN).</p>
+     *
+     * @param result The value to check
+     * @param resultName The name of the result
+     * @return The checked value
+     * @throws IllegalStateException if result is infinite or NaN
+     */
+    public static double ensureFinite(double result, @NonNull String resultName) {
+        if(ContractConfiguration.ENSURE_ENABLED && !Double.isFinite(result)) {
+            throw Failures.resultNotFinite(resultName, result);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.Predicate;
+
+/**
+ * <p>This class contains the parallel loops of the <code>...InParallel</code> element contracts.</p>
+ *
+ * <p>Like {@link Elements}, each method returns the index of the first violating element or -1. The elements are split
+ * into ranges, which are scanned by {@link RecursiveAction fork/join tasks} in the current pool (or the common pool).
+ * The lowest violating index found so far is shared by all tasks: a task stops as soon as a violation before its
+ * current position is known, so the scan ends shortly after the first violation, and the result is always the lowest
+ * violating index, independent of the scheduling.</p>
+ *
+ * <p>Arrays and {@link RandomAccess} lists are split by index. Other collections are split by their
+ * {@link Spliterator}, if it is {@link Spliterator#ORDERED} (so each split off part is a prefix in iteration order) and
+ * {@link Spliterator#SUBSIZED} (so the index of each part is known). Collections with other spliterators, collections
+ * below {@link ContractConfiguration#getParallelThreshold()} and pools without parallelism are scanned
+ * sequentially.</p>
+ *
+ * <p>Sortedness is checked like any other condition, the element at index i is compared with the one at i - 1, so the
+ * pairs across range borders are checked as well. Only arrays and {@link RandomAccess} lists are checked in
+ * parallel.</p>
+ *
+ * <p>Duplicates cannot be found range by range, so the elements are partitioned by hash instead: each task reads all
+ * elements, but only adds those of its partition to its own set. A duplicate always falls into the same partition as
+ * the element it duplicates, so the lowest index reported by any task is the index of the first duplicate. The tasks
+ * read more, but together hash and store each element once, as a sequential scan does.</p>
+ */
+final class ParallelScan {
+    private static final int CHECK_INTERVAL = 1024;
+    private static final int TASKS_PER_THREAD = 4;
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private ParallelScan() {
+        // Should not be instantiated
+    }
+
+    static int indexOfNull(Object[] array) {
+        return indexOfMismatch(array, Elements.NOT_NULL);
+    }
+
+    static int indexOfNull(Collection<?> collection) {
+        return indexOfMismatch(collection, Elements.NOT_NULL);
+    }
+
+    static <E> int indexOfMismatch(E[] array, Predicate<? super E> predicate) {
+        if(!worthSplitting(array.length)) {
+            return Elements.indexOfMismatch(array, predicate);
+        }
+        return indexOfMismatch(0, array.length, i -> predicate.test(array[i]));
+    }
+
+    static <E> int indexOfMismatch(Collection<E> collection, Predicate<? super E> predicate) {
+        int size = collection.size();
+        if(!worthSplitting(size)) {
+            return Elements.indexOfMismatch(collection, predicate);
+        }
+        if(collection instanceof RandomAccess && collection instanceof List) {
+            List<E> list = (List<E>) collection;
+            return indexOfMismatch(0, size, i -> predicate.test(list.get(i)));
+        }
+        Spliterator<E> spliterator = collection.spliterator();
+        if(!spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SUBSIZED)) {
+            return Elements.indexOfMismatch(collection, predicate);
+        }
+        AtomicInteger lowest = new AtomicInteger(NOT_FOUND);
+        new SpliteratorScan<>(spliterator, 0, predicate, lowest, leafSize(size)).invoke();
+        return result(lowest);
+    }
+
+    static int indexOfDuplicate(Object[] array) {
+        if(!worthSplitting(array.length)) {
+            return Elements.indexOfDuplicate(array);
+        }
+        return indexOfDuplicateElement(array.length, i -> array[i]);
+    }
+
+    static int indexOfDuplicate(Collection<?> collection) {
+        int size = collection.size();
+        if(!worthSplitting(size) || !(collection instanceof RandomAccess && collection instanceof List)) {
+            return Elements.indexOfDuplicate(collection);
+        }
+        List<?> list = (List<?>) collection;
+        return indexOfDuplicateElement(size, list::get);
+    }
+
+    static int indexOfDuplicate(int[] array) {
+        if(!worthSplitting(array.length)) {
+            return Elements.indexOfDuplicate(array);
+        }
+        return indexOfDuplicateValue(array.length, i -> array[i]);
+    }
+
+    static int indexOfDuplicate(long[] array) {
+        if(!worthSplitting(array.length)) {
+            return Elements.indexOfDuplicate(array);
+        }
+        return indexOfDuplicateValue(array.length, i -> array[i]);
+    }
+
+    static <E> int indexOfInversion(E[] array, Comparator<? super E> comparator) {
+        if(!worthSplitting(array.length)) {
+            return Elements.indexOfInversion(array, comparator);
+        }
+        return indexOfMismatch(1, array.length, i -> comparator.compare(array[i - 1], array[i]) <= 0);
+    }
+
+    static <E> int indexOfInversion(Collection<E> collection, Comparator<? super E> comparator) {
+        int size = collection.size();
+        if(!worthSplitting(size) || !(collection instanceof RandomAccess && collection instanceof List)) {
+            return Elements.indexOfInversion(collection, comparator);
+        }
+        List<E> list = (List<E>) collection;
+        return indexOfMismatch(1, size, i -> comparator.compare(list.get(i - 1), list.get(i)) <= 0);
+    }
+
+    static int indexOfInversion(int[] array) {
+        if(!worthSplitting(array.length)) {
+            return Elements.indexOfInversion(array);
+        }
+        return indexOfMismatch(1, array.length, i -> array[i - 1] <= array[i]);
+    }
+
+    static int indexOfInversion(long[] array) {
+        if(!worthSplitting(array.length)) {
+            return Elements.indexOfInversion(array);
+        }
+        return indexOfMismatch(1, array.length, i -> array[i - 1] <= array[i]);
+    }
+
+    private static int indexOfMismatch(int from, int to, IntPredicate condition) {
+        AtomicInteger lowest = new AtomicInteger(NOT_FOUND);
+        new IndexedScan(condition, lowest, from, to, leafSize(to - from)).invoke();
+        return result(lowest);
+    }
+
+    private static int indexOfDuplicateElement(int size, IntFunction<?> elements) {
+        int partitionBits = partitionBits();
+        AtomicInteger lowest = new AtomicInteger(NOT_FOUND);
+        List<ObjectDistinctScan> scans = new ArrayList<>();
+        for(int partition = 0; partition < 1 << partitionBits; partition++) {
+            scans.add(new ObjectDistinctScan(elements, size, partition, partitionBits, lowest));
+        }
+        ForkJoinTask.invokeAll(scans);
+        return result(lowest);
+    }
+
+    private static int indexOfDuplicateValue(int size, IntToLongFunction values) {
+        int partitionBits = partitionBits();
+        AtomicInteger lowest = new AtomicInteger(NOT_FOUND);
+        List<LongDistinctScan> scans = new ArrayList<>();
+        for(int partition = 0; partition < 1 << partitionBits; partition++) {
+            scans.add(new LongDistinctScan(values, size, partition, partitionBits, lowest));
+        }
+        ForkJoinTask.invokeAll(scans);
+        return result(lowest);
+    }
+
+    private static int partitionBits() {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(parallelism() - 1);
+    }
+
+    private static boolean worthSplitting(int size) {
+        return size >= ContractConfiguration.PARALLEL_THRESHOLD && parallelism() > 1;
+    }
+
+    private static int parallelism() {
+        ForkJoinPool pool = ForkJoinTask.getPool();
+        return pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    private static int leafSize(int size) {
+        return Math.max(CHECK_INTERVAL, size / (TASKS_PER_THREAD * parallelism()));
+    }
+
+    private static int result(AtomicInteger lowest) {
+        int index = lowest.get();
+        return index == NOT_FOUND ? -1 : index;
+    }
+
+    private static void found(AtomicInteger lowest, int index) {
+        lowest.accumulateAndGet(index, Math::min);
+    }
+
+    /**
+     * <p>Scans the index range [from, to) of an array or a {@link RandomAccess} list, the condition tests the element
+     * at an index.</p>
+     */
+    private static final class IndexedScan extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntPredicate condition;
+        private final AtomicInteger lowest;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        IndexedScan(IntPredicate condition, AtomicInteger lowest, int from, int to, int leafSize) {
+            this.condition = condition;
+            this.lowest = lowest;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if(lowest.get() < from) {
+                return;
+            }
+            if(to - from > leafSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new IndexedScan(condition, lowest, from, middle, leafSize),
+                        new IndexedScan(condition, lowest, middle, to, leafSize));
+                return;
+            }
+            for(int i = from; i < to; i++) {
+                if(i % CHECK_INTERVAL == 0 && lowest.get() < i) {
+                    return;
+                }
+                if(!condition.test(i)) {
+                    found(lowest, i);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Scans the elements of an {@link Spliterator#ORDERED} and {@link Spliterator#SUBSIZED} spliterator, whose first
+     * element has the index origin.
+     * Prefixes split off are scanned by forked tasks, the remaining suffix by this task.</p>
+     */
+    private static final class SpliteratorScan<E> extends RecursiveAction implements Consumer<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<E> spliterator;
+        private final int origin;
+        private final Predicate<? super E> predicate;
+        private final AtomicInteger lowest;
+        private final int leafSize;
+        private boolean matched;
+
+        SpliteratorScan(Spliterator<E> spliterator, int origin, Predicate<? super E> predicate, AtomicInteger lowest, int leafSize) {
+            this.spliterator = spliterator;
+            this.origin = origin;
+            this.predicate = predicate;
+            this.lowest = lowest;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            int index = origin;
+            List<SpliteratorScan<E>> prefixScans = new ArrayList<>();
+            Spliterator<E> prefix;
+            while(spliterator.estimateSize() > leafSize && (prefix = spliterator.trySplit()) != null) {
+                SpliteratorScan<E> prefixScan = new SpliteratorScan<>(prefix, index, predicate, lowest, leafSize);
+                index += (int) prefix.getExactSizeIfKnown();
+                prefixScan.fork();
+                prefixScans.add(prefixScan);
+            }
+            scan(index);
+            for(SpliteratorScan<E> prefixScan : prefixScans) {
+                prefixScan.join();
+            }
+        }
+
+        private void scan(int from) {
+            for(int i = from; ; i++) {
+                if(i % CHECK_INTERVAL == 0 && lowest.get() < i) {
+                    return;
+                }
+                matched = true;
+                if(!spliterator.tryAdvance(this)) {
+                    return;
+                }
+                if(!matched) {
+                    found(lowest, i);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void accept(E element) {
+            matched = predicate.test(element);
+        }
+    }
+
+    /**
+     * <p>Scans all indexes [0, size) for a duplicate of an earlier element, but only considers the elements whose hash
+     * falls into one partition.</p>
+     */
+    private abstract static class DistinctScan extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int size;
+        private final AtomicInteger lowest;
+
+        DistinctScan(int size, AtomicInteger lowest) {
+            this.size = size;
+            this.lowest = lowest;
+        }
+
+        @Override
+        protected void compute() {
+            for(int i = 0; i < size; i++) {
+                if(i % CHECK_INTERVAL == 0 && lowest.get() < i) {
+                    return;
+                }
+                if(isDuplicate(i)) {
+                    found(lowest, i);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * <p>Returns true if the element at the index belongs to the partition of this scan and was seen before.</p>
+         */
+        abstract boolean isDuplicate(int index);
+    }
+
+    private static final class ObjectDistinctScan extends DistinctScan {
+        private static final long serialVersionUID = 1L;
+
+        private final IntFunction<?> elements;
+        private final int partition;
+        private final int partitionShift;
+        private final Set<Object> seen;
+
+        ObjectDistinctScan(IntFunction<?> elements, int size, int partition, int partitionBits, AtomicInteger lowest) {
+            super(size, lowest);
+            this.elements = elements;
+            this.partition = partition;
+            this.partitionShift = Integer.SIZE - partitionBits;
+            this.seen = Elements.newHashSet(size >>> partitionBits);
+        }
+
+        @Override
+        boolean isDuplicate(int index) {
+            Object element = elements.apply(index);
+            // Fibonacci hashing, so the partition does not depend on the bits HashSet uses for its buckets
+            int hash = Objects.hashCode(element) * 0x9e3779b9;
+            return hash >>> partitionShift == partition && !seen.add(element);
+        }
+    }
+
+    private static final class LongDistinctScan extends DistinctScan {
+        private static final long serialVersionUID = 1L;
+
+        private final IntToLongFunction values;
+        private final int partition;
+        private final int partitionShift;
+        private final LongHashSet seen;
+
+        LongDistinctScan(IntToLongFunction values, int size, int partition, int partitionBits, AtomicInteger lowest) {
+            super(size, lowest);
+            this.values = values;
+            this.partition = partition;
+            this.partitionShift = Long.SIZE - partitionBits;
+            this.seen = new LongHashSet(size >>> partitionBits);
+        }
+
+        @Override
+        boolean isDuplicate(int index) {
+            long value = values.applyAsLong(index);
+            // The high bits of the hash, LongHashSet uses the low bits for its slots
+            return (int) (LongHashSet.hash(value) >>> partitionShift) == partition && !seen.add(value);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * <p>A bounded cache of compiled regular expressions, which backs the <code>...Matches</code> contracts of
+ * {@link StringContracts} taking a regular expression as string.</p>
+ *
+ * <p>Lookups are lock-free reads of a {@link ConcurrentHashMap}. A hit only marks the pattern as referenced, the
+ * counters are {@link LongAdder}s, so threads matching the same expressions do not contend. A miss compiles the
+ * expression without holding a lock and then inserts it under the lock of the cache. If the cache is full, the
+ * pattern to evict is chosen by the CLOCK algorithm, an approximation of LRU: a hand moves over the cached patterns,
+ * clears the reference mark of marked ones (giving them a second chance) and evicts the first unmarked one.</p>
+ *
+ * <p>The size of the {@link #shared() shared cache} is set by the system property
+ * {@value ContractConfiguration#PATTERN_CACHE_SIZE_PROPERTY} (see {@link ContractConfiguration#getPatternCacheSize()}).
+ * Its {@link #stats() statistics} show whether it is large enough: a steady rate of evictions means that expressions
+ * are compiled again and again. Patterns used in hot code are better compiled once and passed to the contracts taking
+ * a {@link Pattern}, which bypass the cache.</p>
+ */
+public final class PatternCache {
+    private static final PatternCache SHARED = new PatternCache(ContractConfiguration.PATTERN_CACHE_SIZE);
+
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+    private final Node[] clock;
+    private int size;
+    private int hand;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    PatternCache(int capacity) {
+        this.clock = new Node[capacity];
+    }
+
+    /**
+     * <p>Returns the cache shared by all contracts.</p>
+     *
+     * @return The shared pattern cache
+     */
+    public static PatternCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * <p>Returns the maximum number of cached patterns.</p>
+     *
+     * @return The capacity of the cache
+     */
+    public int capacity() {
+        return clock.length;
+    }
+
+    /**
+     * <p>Returns the number of cached patterns.</p>
+     *
+     * @return The current size of the cache
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * <p>Returns the hits, misses and evictions since the cache was created or {@link #reset()}. Lookups running
+     * concurrently may or may not be included.</p>
+     *
+     * @return The current statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * <p>Removes all patterns and statistics.</p>
+     */
+    public synchronized void reset() {
+        nodes.clear();
+        Arrays.fill(clock, null);
+        size = 0;
+        hand = 0;
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * <p>Returns the compiled regular expression, compiling and caching it if it is not cached yet.</p>
+     *
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid
+     */
+    Pattern get(String regex) {
+        Node node = nodes.get(regex);
+        if(node != null) {
+            if(!node.referenced) {
+                node.referenced = true;
+            }
+            hits.increment();
+            return node.pattern;
+        }
+        misses.increment();
+        Pattern pattern = Pattern.compile(regex);
+        return clock.length > 0 ? insert(regex, pattern) : pattern;
+    }
+
+    private synchronized Pattern insert(String regex, Pattern pattern) {
+        Node cached = nodes.get(regex);
+        if(cached != null) {
+            return cached.pattern;
+        }
+        Node node = new Node(regex, pattern);
+        if(size < clock.length) {
+            clock[size++] = node;
+        } else {
+            while(clock[hand].referenced) {
+                clock[hand].referenced = false;
+                hand = (hand + 1) % clock.length;
+            }
+            nodes.remove(clock[hand].regex);
+            evictions.increment();
+            clock[hand] = node;
+            hand = (hand + 1) % clock.length;
+        }
+        nodes.put(regex, node);
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return "PatternCache[capacity=" + capacity() + ", size=" + size() + ", hits=" + hits.sum() + ", misses=" + misses.sum()
+                + ", evictions=" + evictions.sum() + "]";
+    }
+
+    private static final class Node {
+        private final String regex;
+        private final Pattern pattern;
+        private volatile boolean referenced;
+
+        private Node(String regex, Pattern pattern) {
+            this.regex = regex;
+            this.pattern = pattern;
+        }
+    }
+
+    /**
+     * <p>The statistics of a pattern cache.</p>
+     *
+     * @param hits How often a cached pattern was used
+     * @param misses How often an expression had to be compiled
+     * @param evictions How often a pattern was removed to make room for another one
+     */
+    public record Stats(long hits, long misses, long evictions) {
+    }
+}
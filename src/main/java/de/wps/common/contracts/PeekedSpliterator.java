@@ -0,0 +1,111 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * <p>A {@link Spliterator} which has taken the first element from its source to see whether there is one, and
+ * returns it again before the remaining elements.</p>
+ *
+ * <p>Apart from the first element the source is consumed lazily. The characteristics and size estimates are those of
+ * the source (including the peeked element), and splitting splits the source, the first element going with the
+ * prefix.</p>
+ */
+final class PeekedSpliterator<T> implements Spliterator<T>, Consumer<T> {
+    private final Spliterator<T> source;
+    private T first;
+    private boolean firstPending;
+
+    PeekedSpliterator(Spliterator<T> source) {
+        this.source = source;
+    }
+
+    private PeekedSpliterator(T first, Spliterator<T> source) {
+        this.source = source;
+        this.first = first;
+        this.firstPending = true;
+    }
+
+    /**
+     * <p>Takes the first element from the source.</p>
+     *
+     * @return false if the source was empty
+     */
+    boolean peek() {
+        firstPending = source.tryAdvance(this);
+        return firstPending;
+    }
+
+    @Override
+    public void accept(T t) {
+        first = t;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if(firstPending) {
+            action.accept(takeFirst());
+            return true;
+        }
+        return source.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        if(firstPending) {
+            action.accept(takeFirst());
+        }
+        source.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<T> prefix = source.trySplit();
+        if(prefix == null || !firstPending) {
+            return prefix;
+        }
+        return new PeekedSpliterator<>(takeFirst(), prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = source.estimateSize();
+        return firstPending && size < Long.MAX_VALUE ? size + 1 : size;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics();
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        return source.getComparator();
+    }
+
+    private T takeFirst() {
+        T t = first;
+        first = null;
+        firstPending = false;
+        return t;
+    }
+}
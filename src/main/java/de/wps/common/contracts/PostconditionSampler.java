@@ -0,0 +1,152 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>Evaluates expensive postconditions only for a sample of the calls.</p>
+ *
+ * <p>A sampler is meant to be used for one call site and held in a <code>static final</code> field:</p>
+ * <pre>
+ * private static final PostconditionSampler CONSISTENT_GRAPH = PostconditionSampler.oneIn(100);
+ *
+ * return CONSISTENT_GRAPH.ensure(graph, g -&gt; g.isConsistent(), "graph is consistent");
+ * </pre>
+ *
+ * <p>The decision to sample uses {@link ThreadLocalRandom} and the counters are {@link LongAdder}s, so threads do not
+ * contend on the sampler. Like {@link BaseContracts#ensure(Object, Predicate, String)}, a sampler does nothing if
+ * <code>ensure</code> contracts are {@link ContractConfiguration disabled}. Only sampled calls are counted as passed in
+ * {@link ContractMetrics}, the skipped ones are only counted by the sampler.</p>
+ */
+public final class PostconditionSampler {
+    private final int rate;
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    private PostconditionSampler(int rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * <p>Creates a sampler which evaluates the predicate for one in <code>rate</code> calls on average.</p>
+     *
+     * @param rate The sampling rate, 1 evaluates every call
+     * @return A new sampler with its own counters
+     * @throws IllegalArgumentException if rate is less than 1
+     */
+    public static PostconditionSampler oneIn(int rate) {
+        if(rate < 1) {
+            throw new IllegalArgumentException("rate " + rate + " must be at least 1");
+        }
+        return new PostconditionSampler(rate);
+    }
+
+    /**
+     * <p>Ensures that a result object is not null and, if this call is sampled, meets the condition of a predicate.</p>
+     *
+     * @param result A result to check
+     * @param resultPredicate A predicate to check the result, evaluated for sampled calls only
+     * @param conditionDescription A textual description of the condition to check
+     * @param <T> Class of the result object to check
+     * @return result if check succeeds or was skipped
+     * @throws IllegalStateException if result is null or a sampled predicate test is false
+     */
+    public <T> T ensure(@Nullable T result, @NonNull Predicate<T> resultPredicate, @NonNull String conditionDescription) {
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        if(result == null) {
+            throw Failures.resultPredicate(result, conditionDescription);
+        }
+        if(sample()) {
+            if(!ContractEvents.testResult(resultPredicate, result, conditionDescription)) {
+                throw Failures.resultPredicate(result, conditionDescription);
+            }
+            ContractMetrics.ensurePassed(conditionDescription);
+        }
+        return result;
+    }
+
+    /**
+     * <p>Ensures that a result object is not null and, if this call is sampled, meets the condition of a predicate.</p>
+     *
+     * @param result A result to check
+     * @param resultPredicate A predicate to check the result, evaluated for sampled calls only
+     * @param conditionDescription A supplier of a textual description of the condition to check
+     * @param <T> Class of the result object to check
+     * @return result if check succeeds or was skipped
+     * @throws IllegalStateException if result is null or a sampled predicate test is false
+     */
+    public <T> T ensure(@Nullable T result, @NonNull Predicate<T> resultPredicate, @NonNull Supplier<String> conditionDescription) {
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        if(result == null || sample() && !ContractEvents.testResult(resultPredicate, result, conditionDescription)) {
+            throw Failures.resultPredicate(result, conditionDescription);
+        }
+        return result;
+    }
+
+    /**
+     * <p>Returns the sampling rate of this sampler.</p>
+     *
+     * @return The rate n, if one in n calls is evaluated
+     */
+    public int rate() {
+        return rate;
+    }
+
+    /**
+     * <p>Returns how often the predicate was evaluated.</p>
+     *
+     * @return The number of sampled calls
+     */
+    public long sampledCount() {
+        return sampled.sum();
+    }
+
+    /**
+     * <p>Returns how often the predicate was skipped.</p>
+     *
+     * @return The number of skipped calls
+     */
+    public long skippedCount() {
+        return skipped.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "PostconditionSampler[rate=1/" + rate + ", sampled=" + sampledCount() + ", skipped=" + skippedCount() + "]";
+    }
+
+    private boolean sample() {
+        if(rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0) {
+            sampled.increment();
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>This class contains the size probes of the size contracts.</p>
+ *
+ * <p>Most collections know their size, but some count their elements on every call of <code>size()</code>: the
+ * lock-free queues of <code>java.util.concurrent</code> and the sub-map views of sorted maps (and the key, value and
+ * entry views which may belong to such a sub-map). For these classes the elements are iterated instead, and the
+ * iteration stops when the limit is reached, so the cost depends on the limit and not on the size.</p>
+ *
+ * <p>Whether a class counts on <code>size()</code> is decided once per class by its name and the names of its
+ * superclasses, and cached in a {@link ClassValue}.</p>
+ */
+final class Sizes {
+    private static final Set<String> COUNTING_CLASSES = Set.of(
+            "java.util.concurrent.ConcurrentLinkedQueue",
+            "java.util.concurrent.ConcurrentLinkedDeque",
+            "java.util.concurrent.LinkedTransferQueue",
+            "java.util.concurrent.ConcurrentSkipListMap$SubMap",
+            "java.util.concurrent.ConcurrentSkipListMap$KeySet",
+            "java.util.concurrent.ConcurrentSkipListMap$Values",
+            "java.util.concurrent.ConcurrentSkipListMap$EntrySet",
+            "java.util.TreeMap$NavigableSubMap",
+            "java.util.TreeMap$NavigableSubMap$EntrySetView",
+            "java.util.TreeMap$KeySet");
+
+    private static final ClassValue<Boolean> COUNTING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for(Class<?> current = type; current != null; current = current.getSuperclass()) {
+                if(COUNTING_CLASSES.contains(current.getName())) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
+    private Sizes() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Returns the size of the collection if it is at most limit, or -1 otherwise.</p>
+     */
+    static int sizeUpTo(Collection<?> collection, int limit) {
+        int size = countsOnSize(collection.getClass()) ? count(collection.iterator(), limit) : collection.size();
+        return size > limit ? -1 : size;
+    }
+
+    /**
+     * <p>Returns the size of the map if it is at most limit, or -1 otherwise.</p>
+     */
+    static int sizeUpTo(Map<?, ?> map, int limit) {
+        int size = countsOnSize(map.getClass()) ? count(map.keySet().iterator(), limit) : map.size();
+        return size > limit ? -1 : size;
+    }
+
+    static boolean countsOnSize(Class<?> type) {
+        return COUNTING.get(type);
+    }
+
+    /**
+     * <p>Counts at most limit elements, so it never computes limit + 1, and returns -1 if there are more.</p>
+     */
+    private static int count(Iterator<?> iterator, int limit) {
+        int count = 0;
+        while(iterator.hasNext()) {
+            if(count >= limit) {
+                return -1;
+            }
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>Looks up lines in a UTF-8 text file, which is sorted by {@link String#compareTo(String)}, by a binary search over
+ * the byte offsets of the file, without loading it.</p>
+ *
+ * <p>Every step reads from the middle of the remaining range to the start of the next line and compares that line, so
+ * a lookup reads about log2(size of the file) short ranges. The reads are positional, so lookups from several threads
+ * do not interfere. Lines end with <code>\n</code> or <code>\r\n</code>.</p>
+ */
+final class SortedLines implements Closeable {
+    private static final int CHUNK_SIZE = 256;
+
+    private final FileChannel channel;
+    private final long size;
+
+    SortedLines(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+    }
+
+    boolean contains(String value) {
+        try {
+            long low = 0;
+            long high = size;
+            ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            while(low < high) {
+                long middle = (low + high) >>> 1;
+                long lineStart = middle == 0 ? 0 : nextLineStart(middle - 1, high, chunk);
+                if(lineStart >= high) {
+                    high = middle;
+                    continue;
+                }
+                long lineEnd = readLine(lineStart, chunk, line);
+                int comparison = decode(line).compareTo(value);
+                if(comparison == 0) {
+                    return true;
+                }
+                if(comparison < 0) {
+                    low = lineEnd + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return false;
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * <p>Returns the offset after the first line feed at or after position, or limit if there is none before it.</p>
+     */
+    private long nextLineStart(long position, long limit, ByteBuffer chunk) throws IOException {
+        while(position < limit) {
+            int read = read(position, chunk);
+            for(int i = 0; i < read; i++) {
+                if(chunk.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return limit;
+    }
+
+    /**
+     * <p>Reads the line starting at start into line and returns the offset of its line feed or the end of the file.</p>
+     */
+    private long readLine(long start, ByteBuffer chunk, ByteArrayOutputStream line) throws IOException {
+        line.reset();
+        long position = start;
+        while(position < size) {
+            int read = read(position, chunk);
+            for(int i = 0; i < read; i++) {
+                if(chunk.get(i) == '\n') {
+                    line.write(chunk.array(), 0, i);
+                    return position + i;
+                }
+            }
+            line.write(chunk.array(), 0, read);
+            position += read;
+        }
+        return size;
+    }
+
+    private int read(long position, ByteBuffer chunk) throws IOException {
+        chunk.clear();
+        int read = channel.read(chunk, position);
+        if(read <= 0) {
+            throw new IOException("Unexpected end of file at " + position + ", the file has been changed");
+        }
+        return read;
+    }
+
+    private static String decode(ByteArrayOutputStream line) {
+        String decoded = line.toString(StandardCharsets.UTF_8);
+        return decoded.endsWith("\r") ? decoded.substring(0, decoded.length() - 1) : decoded;
+    }
+}
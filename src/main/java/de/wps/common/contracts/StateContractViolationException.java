@@ -0,0 +1,41 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+/**
+ * <p>Stackless {@link IllegalStateException} thrown for a violated state check or postcondition (a <code>check</code> or <code>ensure</code> contract) if
+ * {@link ContractConfiguration#setStacklessExceptions(boolean) stackless exceptions} are enabled.</p>
+ */
+public class StateContractViolationException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    StateContractViolationException(String message) {
+        super(message);
+    }
+
+    /**
+     * <p>Does not capture a stack trace, which is the expensive part of creating an exception.</p>
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,717 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>This class contains static methods to enforce contracts on streams and other sources of elements, which are too
+ * large (or too expensive) to be collected into a {@link Collection} first.</p>
+ *
+ * <p>The element contracts ("no null elements" and "all match") do not consume their source. They return a wrapper,
+ * which checks every element when it is consumed and throws when reaching a violating element:</p>
+ *
+ * <pre>
+ * requireAllMatch(records, Record::isValid, "records")
+ *     .map(Record::toRow)
+ *     .forEach(writer::write);
+ * </pre>
+ *
+ * <p>The wrapped streams and spliterators keep the characteristics and size estimates of the source, so parallel
+ * streams split as before. The predicate has to be thread-safe for parallel streams. The reported index of a violating
+ * element is its position in the source, as long as the source splits into {@link Spliterator#SUBSIZED} parts,
+ * otherwise it is omitted. If the kind of contract is disabled (see {@link ContractConfiguration}), the source is
+ * returned unwrapped.</p>
+ *
+ * <p>The emptiness contracts take only the first element from a stream and return a stream with all elements. An
+ * iterator is only asked whether it has a next element, so it is returned as it is.</p>
+ */
+public final class StreamContracts {
+    private StreamContracts() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Requires the {@link Stream} argument to be not empty and not null.</p>
+     *
+     * <p>Only the first element is taken from the argument to check this. The returned stream contains all elements of
+     * the argument (including the first one) and has to be used instead of the argument.</p>
+     *
+     * @param argument The stream to check
+     * @param argumentName The name of the argument
+     * @return A stream with the elements of the checked stream
+     * @throws IllegalArgumentException if argument is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> requireNotEmpty(@Nullable Stream<T> argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        PeekedSpliterator<T> spliterator = new PeekedSpliterator<>(argument.spliterator());
+        if(!spliterator.peek()) {
+            throw Failures.argumentEmpty(argumentName);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return stream(spliterator, argument);
+    }
+
+    /**
+     * <p>Requires the {@link Iterable} argument to be not empty and not null.</p>
+     *
+     * <p>For a {@link Collection} this calls {@link Collection#isEmpty()}, for other iterables it creates an iterator
+     * and asks it for a first element. Iterables which can only be iterated once should be checked as {@link Stream} or
+     * {@link Iterator} instead.</p>
+     *
+     * @param argument The iterable to check
+     * @param argumentName The name of the argument
+     * @return The checked iterable
+     * @throws IllegalArgumentException if argument is empty or is null
+     * @param <T> Type of the iterable
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Iterable<?>> @NonNull T requireNotEmpty(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(isEmpty(argument)) {
+            throw Failures.argumentEmpty(argumentName);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Requires the {@link Iterator} argument to be not empty and not null.</p>
+     *
+     * <p>This only calls {@link Iterator#hasNext()}, so no element is consumed and the iterator can be used as it is.</p>
+     *
+     * @param argument The iterator to check
+     * @param argumentName The name of the argument
+     * @return The checked iterator
+     * @throws IllegalArgumentException if argument is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> requireNotEmpty(@Nullable Iterator<T> argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!argument.hasNext()) {
+            throw Failures.argumentEmpty(argumentName);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the state {@link Stream} to be not empty and not null.</p>
+     *
+     * <p>Only the first element is taken from the state to check this. The returned stream contains all elements of the
+     * state (including the first one) and has to be used instead of the state.</p>
+     *
+     * @param state The stream to check
+     * @param stateName The name of the state
+     * @return A stream with the elements of the checked stream
+     * @throws IllegalStateException if state is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> checkNotEmpty(@Nullable Stream<T> state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        PeekedSpliterator<T> spliterator = new PeekedSpliterator<>(state.spliterator());
+        if(!spliterator.peek()) {
+            throw Failures.stateEmpty(stateName);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return stream(spliterator, state);
+    }
+
+    /**
+     * <p>Checks the state {@link Iterable} to be not empty and not null.</p>
+     *
+     * <p>For a {@link Collection} this calls {@link Collection#isEmpty()}, for other iterables it creates an iterator
+     * and asks it for a first element. Iterables which can only be iterated once should be checked as {@link Stream} or
+     * {@link Iterator} instead.</p>
+     *
+     * @param state The iterable to check
+     * @param stateName The name of the state
+     * @return The checked iterable
+     * @throws IllegalStateException if state is empty or is null
+     * @param <T> Type of the iterable
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Iterable<?>> @NonNull T checkNotEmpty(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(isEmpty(state)) {
+            throw Failures.stateEmpty(stateName);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Checks the state {@link Iterator} to be not empty and not null.</p>
+     *
+     * <p>This only calls {@link Iterator#hasNext()}, so no element is consumed and the iterator can be used as it is.</p>
+     *
+     * @param state The iterator to check
+     * @param stateName The name of the state
+     * @return The checked iterator
+     * @throws IllegalStateException if state is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> checkNotEmpty(@Nullable Iterator<T> state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!state.hasNext()) {
+            throw Failures.stateEmpty(stateName);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the result {@link Stream} to be not empty and not null.</p>
+     *
+     * <p>Only the first element is taken from the result to check this. The returned stream contains all elements of
+     * the result (including the first one) and has to be used instead of the result.</p>
+     *
+     * @param result The stream to check
+     * @param resultName The name of the result
+     * @return A stream with the elements of the checked stream
+     * @throws IllegalStateException if result is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> ensureNotEmpty(@Nullable Stream<T> result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        PeekedSpliterator<T> spliterator = new PeekedSpliterator<>(result.spliterator());
+        if(!spliterator.peek()) {
+            throw Failures.resultEmpty(resultName);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return stream(spliterator, result);
+    }
+
+    /**
+     * <p>Ensures the result {@link Iterable} to be not empty and not null.</p>
+     *
+     * <p>For a {@link Collection} this calls {@link Collection#isEmpty()}, for other iterables it creates an iterator
+     * and asks it for a first element. Iterables which can only be iterated once should be checked as {@link Stream} or
+     * {@link Iterator} instead.</p>
+     *
+     * @param result The iterable to check
+     * @param resultName The name of the result
+     * @return The checked iterable
+     * @throws IllegalStateException if result is empty or is null
+     * @param <T> Type of the iterable
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends Iterable<?>> @NonNull T ensureNotEmpty(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(isEmpty(result)) {
+            throw Failures.resultEmpty(resultName);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Ensures the result {@link Iterator} to be not empty and not null.</p>
+     *
+     * <p>This only calls {@link Iterator#hasNext()}, so no element is consumed and the iterator can be used as it is.</p>
+     *
+     * @param result The iterator to check
+     * @param resultName The name of the result
+     * @return The checked iterator
+     * @throws IllegalStateException if result is empty or is null
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> ensureNotEmpty(@Nullable Iterator<T> result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!result.hasNext()) {
+            throw Failures.resultEmpty(resultName);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link Stream} argument to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned stream has to be used instead of the
+     * argument and throws an IllegalArgumentException when reaching a violating element.</p>
+     *
+     * @param argument The stream to check
+     * @param argumentName The name of the argument
+     * @return A stream checking the elements of the argument
+     * @throws IllegalArgumentException if argument is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> requireNoNullElements(@Nullable Stream<T> argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return argument;
+        }
+        return validating(argument, Elements.NOT_NULL, ContractKind.REQUIRE, argumentName, Elements.NULL_ELEMENT);
+    }
+
+    /**
+     * <p>Checks the state {@link Stream} to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned stream has to be used instead of the
+     * state and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param state The stream to check
+     * @param stateName The name of the state
+     * @return A stream checking the elements of the state
+     * @throws IllegalStateException if state is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> checkNoNullElements(@Nullable Stream<T> state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return state;
+        }
+        return validating(state, Elements.NOT_NULL, ContractKind.CHECK, stateName, Elements.NULL_ELEMENT);
+    }
+
+    /**
+     * <p>Ensures the result {@link Stream} to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned stream has to be used instead of the
+     * result and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param result The stream to check
+     * @param resultName The name of the result
+     * @return A stream checking the elements of the result
+     * @throws IllegalStateException if result is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> ensureNoNullElements(@Nullable Stream<T> result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        return validating(result, Elements.NOT_NULL, ContractKind.ENSURE, resultName, Elements.NULL_ELEMENT);
+    }
+
+    /**
+     * <p>Requires the {@link Stream} argument to contain only elements matching the predicate (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned stream has to be used instead of the
+     * argument and throws an IllegalArgumentException when reaching a violating element.</p>
+     *
+     * @param argument The stream to check
+     * @param predicate The predicate all elements have to match
+     * @param argumentName The name of the argument
+     * @return A stream checking the elements of the argument
+     * @throws IllegalArgumentException if argument is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> requireAllMatch(@Nullable Stream<T> argument, @NonNull Predicate<? super T> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return argument;
+        }
+        return validating(argument, predicate, ContractKind.REQUIRE, argumentName, Elements.MISMATCHING_ELEMENT);
+    }
+
+    /**
+     * <p>Checks the state {@link Stream} to contain only elements matching the predicate (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned stream has to be used instead of the
+     * state and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param state The stream to check
+     * @param predicate The predicate all elements have to match
+     * @param stateName The name of the state
+     * @return A stream checking the elements of the state
+     * @throws IllegalStateException if state is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> checkAllMatch(@Nullable Stream<T> state, @NonNull Predicate<? super T> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return state;
+        }
+        return validating(state, predicate, ContractKind.CHECK, stateName, Elements.MISMATCHING_ELEMENT);
+    }
+
+    /**
+     * <p>Ensures the result {@link Stream} to contain only elements matching the predicate (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned stream has to be used instead of the
+     * result and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param result The stream to check
+     * @param predicate The predicate all elements have to match
+     * @param resultName The name of the result
+     * @return A stream checking the elements of the result
+     * @throws IllegalStateException if result is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Stream<T> ensureAllMatch(@Nullable Stream<T> result, @NonNull Predicate<? super T> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        return validating(result, predicate, ContractKind.ENSURE, resultName, Elements.MISMATCHING_ELEMENT);
+    }
+
+    /**
+     * <p>Requires the {@link Iterator} argument to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are returned by {@link Iterator#next()}. The returned iterator has
+     * to be used instead of the argument and throws an IllegalArgumentException when reaching a violating element.</p>
+     *
+     * @param argument The iterator to check
+     * @param argumentName The name of the argument
+     * @return An iterator checking the elements of the argument
+     * @throws IllegalArgumentException if argument is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> requireNoNullElements(@Nullable Iterator<T> argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return argument;
+        }
+        return new ValidatingIterator<>(argument, Elements.NOT_NULL, ContractKind.REQUIRE, argumentName, Elements.NULL_ELEMENT);
+    }
+
+    /**
+     * <p>Checks the state {@link Iterator} to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are returned by {@link Iterator#next()}. The returned iterator has
+     * to be used instead of the state and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param state The iterator to check
+     * @param stateName The name of the state
+     * @return An iterator checking the elements of the state
+     * @throws IllegalStateException if state is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> checkNoNullElements(@Nullable Iterator<T> state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return state;
+        }
+        return new ValidatingIterator<>(state, Elements.NOT_NULL, ContractKind.CHECK, stateName, Elements.NULL_ELEMENT);
+    }
+
+    /**
+     * <p>Ensures the result {@link Iterator} to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are returned by {@link Iterator#next()}. The returned iterator has
+     * to be used instead of the result and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param result The iterator to check
+     * @param resultName The name of the result
+     * @return An iterator checking the elements of the result
+     * @throws IllegalStateException if result is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> ensureNoNullElements(@Nullable Iterator<T> result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        return new ValidatingIterator<>(result, Elements.NOT_NULL, ContractKind.ENSURE, resultName, Elements.NULL_ELEMENT);
+    }
+
+    /**
+     * <p>Requires the {@link Iterator} argument to contain only elements matching the predicate (and not to be
+     * null).</p>
+     *
+     * <p>The elements are checked lazily when they are returned by {@link Iterator#next()}. The returned iterator has
+     * to be used instead of the argument and throws an IllegalArgumentException when reaching a violating element.</p>
+     *
+     * @param argument The iterator to check
+     * @param predicate The predicate all elements have to match
+     * @param argumentName The name of the argument
+     * @return An iterator checking the elements of the argument
+     * @throws IllegalArgumentException if argument is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> requireAllMatch(@Nullable Iterator<T> argument, @NonNull Predicate<? super T> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return argument;
+        }
+        return new ValidatingIterator<>(argument, predicate, ContractKind.REQUIRE, argumentName, Elements.MISMATCHING_ELEMENT);
+    }
+
+    /**
+     * <p>Checks the state {@link Iterator} to contain only elements matching the predicate (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are returned by {@link Iterator#next()}. The returned iterator has
+     * to be used instead of the state and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param state The iterator to check
+     * @param predicate The predicate all elements have to match
+     * @param stateName The name of the state
+     * @return An iterator checking the elements of the state
+     * @throws IllegalStateException if state is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> checkAllMatch(@Nullable Iterator<T> state, @NonNull Predicate<? super T> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return state;
+        }
+        return new ValidatingIterator<>(state, predicate, ContractKind.CHECK, stateName, Elements.MISMATCHING_ELEMENT);
+    }
+
+    /**
+     * <p>Ensures the result {@link Iterator} to contain only elements matching the predicate (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are returned by {@link Iterator#next()}. The returned iterator has
+     * to be used instead of the result and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param result The iterator to check
+     * @param predicate The predicate all elements have to match
+     * @param resultName The name of the result
+     * @return An iterator checking the elements of the result
+     * @throws IllegalStateException if result is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Iterator<T> ensureAllMatch(@Nullable Iterator<T> result, @NonNull Predicate<? super T> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        return new ValidatingIterator<>(result, predicate, ContractKind.ENSURE, resultName, Elements.MISMATCHING_ELEMENT);
+    }
+
+    /**
+     * <p>Requires the {@link Spliterator} argument to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned spliterator has to be used instead of the
+     * argument and throws an IllegalArgumentException when reaching a violating element.</p>
+     *
+     * @param argument The spliterator to check
+     * @param argumentName The name of the argument
+     * @return A spliterator checking the elements of the argument
+     * @throws IllegalArgumentException if argument is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Spliterator<T> requireNoNullElements(@Nullable Spliterator<T> argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return argument;
+        }
+        return new ValidatingSpliterator<>(argument, Elements.NOT_NULL, ContractKind.REQUIRE, argumentName, Elements.NULL_ELEMENT, 0);
+    }
+
+    /**
+     * <p>Checks the state {@link Spliterator} to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned spliterator has to be used instead of the
+     * state and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param state The spliterator to check
+     * @param stateName The name of the state
+     * @return A spliterator checking the elements of the state
+     * @throws IllegalStateException if state is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Spliterator<T> checkNoNullElements(@Nullable Spliterator<T> state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return state;
+        }
+        return new ValidatingSpliterator<>(state, Elements.NOT_NULL, ContractKind.CHECK, stateName, Elements.NULL_ELEMENT, 0);
+    }
+
+    /**
+     * <p>Ensures the result {@link Spliterator} to contain no null elements (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned spliterator has to be used instead of the
+     * result and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param result The spliterator to check
+     * @param resultName The name of the result
+     * @return A spliterator checking the elements of the result
+     * @throws IllegalStateException if result is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Spliterator<T> ensureNoNullElements(@Nullable Spliterator<T> result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        return new ValidatingSpliterator<>(result, Elements.NOT_NULL, ContractKind.ENSURE, resultName, Elements.NULL_ELEMENT, 0);
+    }
+
+    /**
+     * <p>Requires the {@link Spliterator} argument to contain only elements matching the predicate (and not to be
+     * null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned spliterator has to be used instead of the
+     * argument and throws an IllegalArgumentException when reaching a violating element.</p>
+     *
+     * @param argument The spliterator to check
+     * @param predicate The predicate all elements have to match
+     * @param argumentName The name of the argument
+     * @return A spliterator checking the elements of the argument
+     * @throws IllegalArgumentException if argument is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Spliterator<T> requireAllMatch(@Nullable Spliterator<T> argument, @NonNull Predicate<? super T> predicate, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!ContractConfiguration.REQUIRE_ENABLED) {
+            return argument;
+        }
+        return new ValidatingSpliterator<>(argument, predicate, ContractKind.REQUIRE, argumentName, Elements.MISMATCHING_ELEMENT, 0);
+    }
+
+    /**
+     * <p>Checks the state {@link Spliterator} to contain only elements matching the predicate (and not to be null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned spliterator has to be used instead of the
+     * state and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param state The spliterator to check
+     * @param predicate The predicate all elements have to match
+     * @param stateName The name of the state
+     * @return A spliterator checking the elements of the state
+     * @throws IllegalStateException if state is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Spliterator<T> checkAllMatch(@Nullable Spliterator<T> state, @NonNull Predicate<? super T> predicate, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!ContractConfiguration.CHECK_ENABLED) {
+            return state;
+        }
+        return new ValidatingSpliterator<>(state, predicate, ContractKind.CHECK, stateName, Elements.MISMATCHING_ELEMENT, 0);
+    }
+
+    /**
+     * <p>Ensures the result {@link Spliterator} to contain only elements matching the predicate (and not to be
+     * null).</p>
+     *
+     * <p>The elements are checked lazily when they are consumed. The returned spliterator has to be used instead of the
+     * result and throws an IllegalStateException when reaching a violating element.</p>
+     *
+     * @param result The spliterator to check
+     * @param predicate The predicate all elements have to match
+     * @param resultName The name of the result
+     * @return A spliterator checking the elements of the result
+     * @throws IllegalStateException if result is null (violating elements are reported when consumed)
+     * @param <T> Type of the elements
+     */
+    @EnsuresNonNull("#1")
+    public static <T> @NonNull Spliterator<T> ensureAllMatch(@Nullable Spliterator<T> result, @NonNull Predicate<? super T> predicate, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!ContractConfiguration.ENSURE_ENABLED) {
+            return result;
+        }
+        return new ValidatingSpliterator<>(result, predicate, ContractKind.ENSURE, resultName, Elements.MISMATCHING_ELEMENT, 0);
+    }
+
+    private static <T> Stream<T> validating(Stream<T> source, Predicate<? super T> predicate, ContractKind kind, String name, String element) {
+        return stream(new ValidatingSpliterator<>(source.spliterator(), predicate, kind, name, element, 0), source);
+    }
+
+    private static <T> Stream<T> stream(Spliterator<T> spliterator, Stream<T> source) {
+        return StreamSupport.stream(spliterator, source.isParallel()).onClose(source::close);
+    }
+
+    private static boolean isEmpty(Iterable<?> iterable) {
+        if(iterable instanceof Collection) {
+            return ((Collection<?>) iterable).isEmpty();
+        }
+        return !iterable.iterator().hasNext();
+    }
+}
@@ -18,12 +18,17 @@
  */
 package de.wps.common.contracts;
 
+import java.util.regex.Pattern;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
- * <p>This class contains static methods to enforce contracts on strings ("has length" and "has text").</p>
+ * <p>This class contains static methods to enforce contracts on strings ("has length", "has text", "matches", "is one of" and "is not in").</p>
+ *
+ * <p>The contracts are overloaded for {@link String} and any other {@link CharSequence}. The overloads for character
+ * sequences check them in place, so validating a {@link StringBuilder} or a {@link java.nio.CharBuffer} over a network
+ * buffer does not copy it.</p>
  *
  * <p>There are methods to</p>
  * <ul>
@@ -44,11 +49,12 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String requireHasLength(@Nullable String argument, @NonNull String argumentName) {
         if(argument == null) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was null");
+            throw Failures.argumentNull(argumentName);
         }
         if(argument.isEmpty()) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was empty");
+            throw Failures.argumentEmpty(argumentName);
         }
+        ContractMetrics.requirePassed(argumentName);
         return argument;
     }
 
@@ -64,11 +70,12 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String requireHasText(@Nullable String argument, @NonNull String argumentName) {
         if(argument == null) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was null");
+            throw Failures.argumentNull(argumentName);
         }
         if(argument.isBlank()) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was blank");
+            throw Failures.argumentBlank(argumentName);
         }
+        ContractMetrics.requirePassed(argumentName);
         return argument;
     }
 
@@ -84,11 +91,12 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String requireMaxLength(@Nullable String argument, int maxLength, @NonNull String argumentName) {
         if(argument == null) {
-            throw new IllegalArgumentException("Argument " + argumentName + " was null");
+            throw Failures.argumentNull(argumentName);
         }
         if(argument.length() > maxLength) {
-            throw new IllegalArgumentException("Length of " + argumentName + " was > " + maxLength);
+            throw Failures.argumentTooLong(argumentName, maxLength);
         }
+        ContractMetrics.requirePassed(argumentName);
         return argument;
     }
 
@@ -103,11 +111,12 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String checkHasLength(@Nullable String state, @NonNull String stateName) {
         if(state == null) {
-            throw new IllegalStateException("State " + stateName + " was null");
+            throw Failures.stateNull(stateName);
         }
         if(state.isEmpty()) {
-            throw new IllegalStateException("State " + stateName + " was empty");
+            throw Failures.stateEmpty(stateName);
         }
+        ContractMetrics.checkPassed(stateName);
         return state;
     }
 
@@ -122,11 +131,12 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String checkHasText(@Nullable String state, @NonNull String stateName) {
         if(state == null) {
-            throw new IllegalStateException("State " + stateName + " was null");
+            throw Failures.stateNull(stateName);
         }
         if(state.isBlank()) {
-            throw new IllegalStateException("State " + stateName + " was blank");
+            throw Failures.stateBlank(stateName);
         }
+        ContractMetrics.checkPassed(stateName);
         return state;
     }
 
@@ -142,11 +152,12 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String checkMaxLength(@Nullable String state, int maxLength, @NonNull String stateName) {
         if(state == null) {
-            throw new IllegalStateException("State " + stateName + " was null");
+            throw Failures.stateNull(stateName);
         }
         if(state.length() > maxLength) {
-            throw new IllegalStateException("Length of " + stateName + " was > " + maxLength);
+            throw Failures.stateTooLong(stateName, maxLength);
         }
+        ContractMetrics.checkPassed(stateName);
         return state;
     }
 
@@ -161,11 +172,12 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String ensureHasLength(@Nullable String result, @NonNull String resultName) {
         if(result == null) {
-            throw new IllegalStateException("Result " + resultName + " was null");
+            throw Failures.resultNull(resultName);
         }
         if(result.isEmpty()) {
-            throw new IllegalStateException("Result " + resultName + " was empty");
+            throw Failures.resultEmpty(resultName);
         }
+        ContractMetrics.ensurePassed(resultName);
         return result;
     }
 
@@ -180,11 +192,12 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String ensureHasText(@Nullable String result, @NonNull String resultName) {
         if(result == null) {
-            throw new IllegalStateException("Result " + resultName + " was null");
+            throw Failures.resultNull(resultName);
         }
         if(result.isBlank()) {
-            throw new IllegalStateException("Result " + resultName + " was blank");
+            throw Failures.resultBlank(resultName);
         }
+        ContractMetrics.ensurePassed(resultName);
         return result;
     }
 
@@ -201,11 +214,612 @@ public class StringContracts {
     @EnsuresNonNull("#1")
     public static @NonNull String ensureMaxLength(@Nullable String result, int maxLength, @NonNull String resultName) {
         if(result == null) {
-            throw new IllegalStateException("Result " + resultName + " was null");
+            throw Failures.resultNull(resultName);
         }
         if(result.length() > maxLength) {
-            throw new IllegalStateException("Length of " + resultName + " was > " + maxLength);
+            throw Failures.resultTooLong(resultName, maxLength);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not empty and not null.</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is empty or is null
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireHasLength(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(argument.length() == 0) {
+            throw Failures.argumentEmpty(argumentName);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not empty and not null.</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is empty or is null
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkHasLength(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(state.length() == 0) {
+            throw Failures.stateEmpty(stateName);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not empty and not null.</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is empty or is null
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureHasLength(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(result.length() == 0) {
+            throw Failures.resultEmpty(resultName);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not blank and not null (with the white space rules of {@link
+     * String#isBlank()}).</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param argument The character sequence to check
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is blank or is null
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireHasText(@Nullable T argument, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(CharSequences.isBlank(argument)) {
+            throw Failures.argumentBlank(argumentName);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not blank and not null (with the white space rules of {@link
+     * String#isBlank()}).</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param state The character sequence to check
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is blank or is null
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkHasText(@Nullable T state, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(CharSequences.isBlank(state)) {
+            throw Failures.stateBlank(stateName);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not blank and not null (with the white space rules of {@link
+     * String#isBlank()}).</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param result The character sequence to check
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is blank or is null
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureHasText(@Nullable T result, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(CharSequences.isBlank(result)) {
+            throw Failures.resultBlank(resultName);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and its length less or equal maxLength.</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param argument The character sequence to check
+     * @param maxLength Maximum length of argument
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or its length &gt; maxLength
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireMaxLength(@Nullable T argument, int maxLength, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(argument.length() > maxLength) {
+            throw Failures.argumentTooLong(argumentName, maxLength);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and its length less or equal maxLength.</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param state The character sequence to check
+     * @param maxLength Maximum length of state
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or its length &gt; maxLength
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkMaxLength(@Nullable T state, int maxLength, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(state.length() > maxLength) {
+            throw Failures.stateTooLong(stateName, maxLength);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and its length less or equal maxLength.</p>
+     *
+     * <p>Unlike the {@link String} variant this accepts any character sequence, e.g. a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and checks it in place without copying it into a string.</p>
+     *
+     * @param result The character sequence to check
+     * @param maxLength Maximum length of result
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or its length &gt; maxLength
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureMaxLength(@Nullable T result, int maxLength, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(result.length() > maxLength) {
+            throw Failures.resultTooLong(resultName, maxLength);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to take at most maxBytes bytes when encoded
+     * as UTF-8, e.g. to fit into a database column or a message header limited in bytes.</p>
+     *
+     * <p>The encoded length is counted in a single pass over the chars, without encoding the argument, and the count
+     * stops as soon as maxBytes is exceeded. Unpaired surrogates count as 1 byte, like the replacement character
+     * written by {@link String#getBytes(java.nio.charset.Charset)}.</p>
+     *
+     * @param argument The character sequence to check
+     * @param maxBytes Maximum length of argument in UTF-8 bytes
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or its UTF-8 length &gt; maxBytes
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireMaxUtf8Length(@Nullable T argument, int maxBytes, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!CharSequences.hasMaxUtf8Length(argument, maxBytes)) {
+            throw Failures.argumentTooManyUtf8Bytes(argumentName, maxBytes);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to take at most maxBytes bytes when encoded
+     * as UTF-8, e.g. to fit into a database column or a message header limited in bytes.</p>
+     *
+     * <p>The encoded length is counted in a single pass over the chars, without encoding the state, and the count
+     * stops as soon as maxBytes is exceeded. Unpaired surrogates count as 1 byte, like the replacement character
+     * written by {@link String#getBytes(java.nio.charset.Charset)}.</p>
+     *
+     * @param state The character sequence to check
+     * @param maxBytes Maximum length of state in UTF-8 bytes
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or its UTF-8 length &gt; maxBytes
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkMaxUtf8Length(@Nullable T state, int maxBytes, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!CharSequences.hasMaxUtf8Length(state, maxBytes)) {
+            throw Failures.stateTooManyUtf8Bytes(stateName, maxBytes);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to take at most maxBytes bytes when encoded
+     * as UTF-8, e.g. to fit into a database column or a message header limited in bytes.</p>
+     *
+     * <p>The encoded length is counted in a single pass over the chars, without encoding the result, and the count
+     * stops as soon as maxBytes is exceeded. Unpaired surrogates count as 1 byte, like the replacement character
+     * written by {@link String#getBytes(java.nio.charset.Charset)}.</p>
+     *
+     * @param result The character sequence to check
+     * @param maxBytes Maximum length of result in UTF-8 bytes
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or its UTF-8 length &gt; maxBytes
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureMaxUtf8Length(@Nullable T result, int maxBytes, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!CharSequences.hasMaxUtf8Length(result, maxBytes)) {
+            throw Failures.resultTooManyUtf8Bytes(resultName, maxBytes);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to match the regular expression as a whole.</p>
+     *
+     * <p>The expression is compiled once and kept in the bounded {@link PatternCache#shared() shared pattern cache},
+     * so it is not compiled again on every call like with <code>argument.toString().matches(regex)</code>.</p>
+     *
+     * @param argument The character sequence to check
+     * @param regex The regular expression to match
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or does not match regex
+     * @throws java.util.regex.PatternSyntaxException if regex is not a valid regular expression
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireMatches(@Nullable T argument, @NonNull String regex, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!PatternCache.shared().get(regex).matcher(argument).matches()) {
+            throw Failures.argumentMismatch(argumentName, regex);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Requires the {@link CharSequence} argument to be not null and to match the compiled pattern as a whole. The
+     * pattern is used as it is, bypassing the {@link PatternCache}.</p>
+     *
+     * @param argument The character sequence to check
+     * @param pattern The pattern to match
+     * @param argumentName The name of the argument
+     * @return The checked character sequence
+     * @throws IllegalArgumentException if argument is null or does not match pattern
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T requireMatches(@Nullable T argument, @NonNull Pattern pattern, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!pattern.matcher(argument).matches()) {
+            throw Failures.argumentMismatch(argumentName, pattern.pattern());
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to match the regular expression as a whole.</p>
+     *
+     * <p>The expression is compiled once and kept in the bounded {@link PatternCache#shared() shared pattern cache},
+     * so it is not compiled again on every call like with <code>state.toString().matches(regex)</code>.</p>
+     *
+     * @param state The character sequence to check
+     * @param regex The regular expression to match
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or does not match regex
+     * @throws java.util.regex.PatternSyntaxException if regex is not a valid regular expression
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkMatches(@Nullable T state, @NonNull String regex, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!PatternCache.shared().get(regex).matcher(state).matches()) {
+            throw Failures.stateMismatch(stateName, regex);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Checks the {@link CharSequence} state to be not null and to match the compiled pattern as a whole. The
+     * pattern is used as it is, bypassing the {@link PatternCache}.</p>
+     *
+     * @param state The character sequence to check
+     * @param pattern The pattern to match
+     * @param stateName The name of the state
+     * @return The checked character sequence
+     * @throws IllegalStateException if state is null or does not match pattern
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T checkMatches(@Nullable T state, @NonNull Pattern pattern, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!pattern.matcher(state).matches()) {
+            throw Failures.stateMismatch(stateName, pattern.pattern());
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to match the regular expression as a whole.</p>
+     *
+     * <p>The expression is compiled once and kept in the bounded {@link PatternCache#shared() shared pattern cache},
+     * so it is not compiled again on every call like with <code>result.toString().matches(regex)</code>.</p>
+     *
+     * @param result The character sequence to check
+     * @param regex The regular expression to match
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or does not match regex
+     * @throws java.util.regex.PatternSyntaxException if regex is not a valid regular expression
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureMatches(@Nullable T result, @NonNull String regex, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!PatternCache.shared().get(regex).matcher(result).matches()) {
+            throw Failures.resultMismatch(resultName, regex);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Ensures the {@link CharSequence} result to be not null and to match the compiled pattern as a whole. The
+     * pattern is used as it is, bypassing the {@link PatternCache}.</p>
+     *
+     * @param result The character sequence to check
+     * @param pattern The pattern to match
+     * @param resultName The name of the result
+     * @return The checked character sequence
+     * @throws IllegalStateException if result is null or does not match pattern
+     * @param <T> Type of the character sequence
+     */
+    @EnsuresNonNull("#1")
+    public static <T extends CharSequence> @NonNull T ensureMatches(@Nullable T result, @NonNull Pattern pattern, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!pattern.matcher(result).matches()) {
+            throw Failures.resultMismatch(resultName, pattern.pattern());
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link String} argument to be not null and one of the allowed values, e.g. a currency code
+     * from a fixed list.</p>
+     *
+     * <p>Build the {@link AllowedValues} once and keep them in a <code>static final</code> field. The message of a
+     * violation lists the allowed values, but not the argument.</p>
+     *
+     * @param argument The string to check
+     * @param allowedValues The allowed values
+     * @param argumentName The name of the argument
+     * @return The checked string
+     * @throws IllegalArgumentException if argument is null or not one of allowedValues
+     */
+    @EnsuresNonNull("#1")
+    public static @NonNull String requireOneOf(@Nullable String argument, @NonNull AllowedValues allowedValues, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(!allowedValues.contains(argument)) {
+            throw Failures.argumentNotOneOf(argumentName, allowedValues);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link String} state to be not null and one of the allowed values, e.g. a currency code
+     * from a fixed list.</p>
+     *
+     * <p>Build the {@link AllowedValues} once and keep them in a <code>static final</code> field. The message of a
+     * violation lists the allowed values, but not the state.</p>
+     *
+     * @param state The string to check
+     * @param allowedValues The allowed values
+     * @param stateName The name of the state
+     * @return The checked string
+     * @throws IllegalStateException if state is null or not one of allowedValues
+     */
+    @EnsuresNonNull("#1")
+    public static @NonNull String checkOneOf(@Nullable String state, @NonNull AllowedValues allowedValues, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(!allowedValues.contains(state)) {
+            throw Failures.stateNotOneOf(stateName, allowedValues);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link String} result to be not null and one of the allowed values, e.g. a currency code
+     * from a fixed list.</p>
+     *
+     * <p>Build the {@link AllowedValues} once and keep them in a <code>static final</code> field. The message of a
+     * violation lists the allowed values, but not the result.</p>
+     *
+     * @param result The string to check
+     * @param allowedValues The allowed values
+     * @param resultName The name of the result
+     * @return The checked string
+     * @throws IllegalStateException if result is null or not one of allowedValues
+     */
+    @EnsuresNonNull("#1")
+    public static @NonNull String ensureOneOf(@Nullable String result, @NonNull AllowedValues allowedValues, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(!allowedValues.contains(result)) {
+            throw Failures.resultNotOneOf(resultName, allowedValues);
+        }
+        ContractMetrics.ensurePassed(resultName);
+        return result;
+    }
+
+    /**
+     * <p>Requires the {@link String} argument to be not null and not on the deny-list.</p>
+     *
+     * <p>Most strings not on the list are passed by the Bloom filter of the {@link DenyList}, only probable hits are
+     * confirmed by the exact lookup. The message of a violation does not contain the argument.</p>
+     *
+     * @param argument The string to check
+     * @param denyList The denied values
+     * @param argumentName The name of the argument
+     * @return The checked string
+     * @throws IllegalArgumentException if argument is null or on denyList
+     * @throws java.io.UncheckedIOException if the file of denyList cannot be read
+     */
+    @EnsuresNonNull("#1")
+    public static @NonNull String requireNotIn(@Nullable String argument, @NonNull DenyList denyList, @NonNull String argumentName) {
+        if(argument == null) {
+            throw Failures.argumentNull(argumentName);
+        }
+        if(denyList.contains(argument)) {
+            throw Failures.argumentDenied(argumentName);
+        }
+        ContractMetrics.requirePassed(argumentName);
+        return argument;
+    }
+
+    /**
+     * <p>Checks the {@link String} state to be not null and not on the deny-list.</p>
+     *
+     * <p>Most strings not on the list are passed by the Bloom filter of the {@link DenyList}, only probable hits are
+     * confirmed by the exact lookup. The message of a violation does not contain the state.</p>
+     *
+     * @param state The string to check
+     * @param denyList The denied values
+     * @param stateName The name of the state
+     * @return The checked string
+     * @throws IllegalStateException if state is null or on denyList
+     * @throws java.io.UncheckedIOException if the file of denyList cannot be read
+     */
+    @EnsuresNonNull("#1")
+    public static @NonNull String checkNotIn(@Nullable String state, @NonNull DenyList denyList, @NonNull String stateName) {
+        if(state == null) {
+            throw Failures.stateNull(stateName);
+        }
+        if(denyList.contains(state)) {
+            throw Failures.stateDenied(stateName);
+        }
+        ContractMetrics.checkPassed(stateName);
+        return state;
+    }
+
+    /**
+     * <p>Ensures the {@link String} result to be not null and not on the deny-list.</p>
+     *
+     * <p>Most strings not on the list are passed by the Bloom filter of the {@link DenyList}, only probable hits are
+     * confirmed by the exact lookup. The message of a violation does not contain the result.</p>
+     *
+     * @param result The string to check
+     * @param denyList The denied values
+     * @param resultName The name of the result
+     * @return The checked string
+     * @throws IllegalStateException if result is null or on denyList
+     * @throws java.io.UncheckedIOException if the file of denyList cannot be read
+     */
+    @EnsuresNonNull("#1")
+    public static @NonNull String ensureNotIn(@Nullable String result, @NonNull DenyList denyList, @NonNull String resultName) {
+        if(result == null) {
+            throw Failures.resultNull(resultName);
+        }
+        if(denyList.contains(result)) {
+            throw Failures.resultDenied(resultName);
         }
+        ContractMetrics.ensurePassed(resultName);
         return result;
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * <p>An {@link Iterator} checking each element of its source with a predicate when it is returned by
+ * {@link #next()}.</p>
+ */
+final class ValidatingIterator<T> implements Iterator<T> {
+    private final Iterator<T> source;
+    private final Predicate<? super T> predicate;
+    private final ContractKind kind;
+    private final String name;
+    private final String element;
+    private long index;
+
+    ValidatingIterator(Iterator<T> source, Predicate<? super T> predicate, ContractKind kind, String name, String element) {
+        this.source = source;
+        this.predicate = predicate;
+        this.kind = kind;
+        this.name = name;
+        this.element = element;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public T next() {
+        T next = source.next();
+        if(!predicate.test(next)) {
+            throw Failures.element(kind, name, element, index);
+        }
+        index++;
+        return next;
+    }
+
+    @Override
+    public void remove() {
+        source.remove();
+    }
+}
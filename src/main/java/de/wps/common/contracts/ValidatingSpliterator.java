@@ -0,0 +1,112 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <p>A {@link Spliterator} checking each element of its source with a predicate when it is consumed.</p>
+ *
+ * <p>It reports the characteristics and size estimates of the source and splits like the source, so parallel streams
+ * built on it split as well as streams on the source. The index of a violating element is tracked as long as the
+ * source splits into {@link Spliterator#SUBSIZED} parts, otherwise it is unknown (-1).</p>
+ *
+ * <p>The spliterator is its own consumer for the source, so consuming elements does not allocate.</p>
+ */
+final class ValidatingSpliterator<T> implements Spliterator<T>, Consumer<T> {
+    private final Spliterator<T> source;
+    private final Predicate<? super T> predicate;
+    private final ContractKind kind;
+    private final String name;
+    private final String element;
+    private long index;
+    private Consumer<? super T> downstream;
+
+    ValidatingSpliterator(Spliterator<T> source, Predicate<? super T> predicate, ContractKind kind, String name, String element, long index) {
+        this.source = source;
+        this.predicate = predicate;
+        this.kind = kind;
+        this.name = name;
+        this.element = element;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        downstream = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public void accept(T t) {
+        if(!predicate.test(t)) {
+            throw Failures.element(kind, name, element, index);
+        }
+        if(index >= 0) {
+            index++;
+        }
+        downstream.accept(t);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<T> prefix = source.trySplit();
+        if(prefix == null) {
+            return null;
+        }
+        long prefixIndex = index;
+        long prefixSize = prefix.getExactSizeIfKnown();
+        if(index >= 0 && prefixSize >= 0 && prefix.hasCharacteristics(SUBSIZED)) {
+            index += prefixSize;
+        } else {
+            prefixIndex = -1;
+            index = -1;
+        }
+        return new ValidatingSpliterator<>(prefix, predicate, kind, name, element, prefixIndex);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return source.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics();
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        return source.getComparator();
+    }
+}
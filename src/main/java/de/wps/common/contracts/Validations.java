@@ -0,0 +1,166 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>This class contains static methods to validate objects without throwing.</p>
+ *
+ * <p>Each method has the semantics of the corresponding contract method of {@link BaseContracts},
+ * {@link StringContracts} or {@link CollectionContracts}, but returns a {@link Violation} instead of throwing an
+ * exception. This is meant for bulk validation in hot loops (e.g. of imported records), where invalid input is
+ * expected and the cost of creating and catching exceptions would dominate:</p>
+ *
+ * <pre>
+ * for(Record record : records) {
+ *     if(Validations.hasText(record.name()).isViolated()) {
+ *         rejected++;
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>None of the methods allocates. Validations are independent of the contract switches of
+ * {@link ContractConfiguration} and are not recorded in {@link ContractMetrics}.</p>
+ */
+public final class Validations {
+    private Validations() {
+        // Should not be instantiated
+    }
+
+    /**
+     * <p>Validates the object to be not null (see {@link BaseContracts#requireNotNull(Object, String)}).</p>
+     *
+     * @param object The object to validate
+     * @return {@link Violation#NULL} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation notNull(@Nullable Object object) {
+        return object == null ? Violation.NULL : Violation.NONE;
+    }
+
+    /**
+     * <p>Validates the {@link Optional} to be present and not null (see
+     * {@link BaseContracts#requirePresent(Optional, String)}).</p>
+     *
+     * @param optional The optional to validate
+     * @return {@link Violation#NULL}, {@link Violation#EMPTY} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation present(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") @Nullable Optional<?> optional) {
+        //noinspection OptionalAssignedToNull
+        if(optional == null) {
+            return Violation.NULL;
+        }
+        return optional.isPresent() ? Violation.NONE : Violation.EMPTY;
+    }
+
+    /**
+     * <p>Validates the condition (see {@link BaseContracts#require(boolean, String)}).</p>
+     *
+     * @param condition The condition to validate
+     * @return {@link Violation#UNMET_CONDITION} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation condition(boolean condition) {
+        return condition ? Violation.NONE : Violation.UNMET_CONDITION;
+    }
+
+    /**
+     * <p>Validates the condition, null counting as false (see {@link BaseContracts#require(Boolean, String)}).</p>
+     *
+     * @param condition The condition to validate
+     * @return {@link Violation#UNMET_CONDITION} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation condition(@Nullable Boolean condition) {
+        return condition != null && condition ? Violation.NONE : Violation.UNMET_CONDITION;
+    }
+
+    /**
+     * <p>Validates the {@link String} to be not empty and not null (see
+     * {@link StringContracts#requireHasLength(String, String)}).</p>
+     *
+     * @param string The string to validate
+     * @return {@link Violation#NULL}, {@link Violation#EMPTY} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation hasLength(@Nullable String string) {
+        if(string == null) {
+            return Violation.NULL;
+        }
+        return string.isEmpty() ? Violation.EMPTY : Violation.NONE;
+    }
+
+    /**
+     * <p>Validates the {@link String} to be not blank and not null (see
+     * {@link StringContracts#requireHasText(String, String)}).</p>
+     *
+     * @param string The string to validate
+     * @return {@link Violation#NULL}, {@link Violation#BLANK} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation hasText(@Nullable String string) {
+        if(string == null) {
+            return Violation.NULL;
+        }
+        return string.isBlank() ? Violation.BLANK : Violation.NONE;
+    }
+
+    /**
+     * <p>Validates the {@link String} to be not null and its length less or equal maxLength (see
+     * {@link StringContracts#requireMaxLength(String, int, String)}).</p>
+     *
+     * @param string The string to validate
+     * @param maxLength Maximum length of string
+     * @return {@link Violation#NULL}, {@link Violation#TOO_LONG} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation maxLength(@Nullable String string, int maxLength) {
+        if(string == null) {
+            return Violation.NULL;
+        }
+        return string.length() > maxLength ? Violation.TOO_LONG : Violation.NONE;
+    }
+
+    /**
+     * <p>Validates the {@link Collection} to be not empty and not null (see
+     * {@link CollectionContracts#requireNotEmpty(Collection, String)}).</p>
+     *
+     * @param collection The collection to validate
+     * @return {@link Violation#NULL}, {@link Violation#EMPTY} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation notEmpty(@Nullable Collection<?> collection) {
+        if(collection == null) {
+            return Violation.NULL;
+        }
+        return collection.isEmpty() ? Violation.EMPTY : Violation.NONE;
+    }
+
+    /**
+     * <p>Validates the {@link Map} to be not empty and not null (see
+     * {@link CollectionContracts#requireNotEmpty(Map, String)}).</p>
+     *
+     * @param map The map to validate
+     * @return {@link Violation#NULL}, {@link Violation#EMPTY} or {@link Violation#NONE}
+     */
+    public static @NonNull Violation notEmpty(@Nullable Map<?, ?> map) {
+        if(map == null) {
+            return Violation.NULL;
+        }
+        return map.isEmpty() ? Violation.EMPTY : Violation.NONE;
+    }
+}
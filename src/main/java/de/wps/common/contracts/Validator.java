@@ -0,0 +1,297 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>A validator collecting all violated contracts of several arguments instead of stopping at the first one.</p>
+ *
+ * <p>It supports the checks of {@link Validations} and reports every violation at once, e.g. to validate all fields of
+ * a request object and tell the client about all invalid fields in one response:</p>
+ *
+ * <pre>
+ * validator.reset()
+ *     .hasText(request.name(), "name")
+ *     .maxLength(request.name(), 100, "name")
+ *     .notNull(request.birthDate(), "birthDate")
+ *     .matches(request.email(), EMAIL, "email is valid")
+ *     .throwIfInvalid();
+ * </pre>
+ *
+ * <p>The violations are stored in backing arrays which are only grown when more violations occur than fit into them,
+ * and which are reused after {@link #reset()}. Therefore validating a valid object allocates nothing (provided the
+ * checked values themselves do not allocate, e.g. by boxing).</p>
+ *
+ * <p>A validator is not thread-safe. Use one instance per thread (or per validated object) and reset it before
+ * reusing it.</p>
+ */
+public final class Validator {
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Violation[] violations;
+    private String[] names;
+    private int[] maxLengths;
+    private int count;
+
+    /**
+     * <p>Creates a validator with space for 8 violations before growing.</p>
+     */
+    public Validator() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p>Creates a validator with space for the given number of violations before growing.</p>
+     *
+     * @param initialCapacity The number of violations to reserve space for
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     */
+    public Validator(int initialCapacity) {
+        if(initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity " + initialCapacity + " must be at least 1");
+        }
+        violations = new Violation[initialCapacity];
+        names = new String[initialCapacity];
+        maxLengths = new int[initialCapacity];
+    }
+
+    /**
+     * <p>Validates the argument to be not null.</p>
+     *
+     * @param argument The argument to validate
+     * @param argumentName The name of the argument
+     * @return This validator
+     */
+    public @NonNull Validator notNull(@Nullable Object argument, @NonNull String argumentName) {
+        return record(Validations.notNull(argument), argumentName, 0);
+    }
+
+    /**
+     * <p>Validates the argument to be present (and not to be null).</p>
+     *
+     * @param argument An {@link Optional} as argument to validate
+     * @param argumentName The name of the argument
+     * @return This validator
+     */
+    public @NonNull Validator present(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") @Nullable Optional<?> argument, @NonNull String argumentName) {
+        return record(Validations.present(argument), argumentName, 0);
+    }
+
+    /**
+     * <p>Validates the {@link Collection} argument to be not empty and not null.</p>
+     *
+     * @param argument The collection to validate
+     * @param argumentName The name of the argument
+     * @return This validator
+     */
+    public @NonNull Validator notEmpty(@Nullable Collection<?> argument, @NonNull String argumentName) {
+        return record(Validations.notEmpty(argument), argumentName, 0);
+    }
+
+    /**
+     * <p>Validates the {@link Map} argument to be not empty and not null.</p>
+     *
+     * @param argument The map to validate
+     * @param argumentName The name of the argument
+     * @return This validator
+     */
+    public @NonNull Validator notEmpty(@Nullable Map<?, ?> argument, @NonNull String argumentName) {
+        return record(Validations.notEmpty(argument), argumentName, 0);
+    }
+
+    /**
+     * <p>Validates the {@link String} argument to be not empty and not null.</p>
+     *
+     * @param argument The string to validate
+     * @param argumentName The name of the argument
+     * @return This validator
+     */
+    public @NonNull Validator hasLength(@Nullable String argument, @NonNull String argumentName) {
+        return record(Validations.hasLength(argument), argumentName, 0);
+    }
+
+    /**
+     * <p>Validates the {@link String} argument to be not blank and not null.</p>
+     *
+     * @param argument The string to validate
+     * @param argumentName The name of the argument
+     * @return This validator
+     */
+    public @NonNull Validator hasText(@Nullable String argument, @NonNull String argumentName) {
+        return record(Validations.hasText(argument), argumentName, 0);
+    }
+
+    /**
+     * <p>Validates the {@link String} argument to be not null and its length less or equal maxLength.</p>
+     *
+     * @param argument The string to validate
+     * @param maxLength Maximum length of argument
+     * @param argumentName The name of the argument
+     * @return This validator
+     */
+    public @NonNull Validator maxLength(@Nullable String argument, int maxLength, @NonNull String argumentName) {
+        return record(Validations.maxLength(argument, maxLength), argumentName, maxLength);
+    }
+
+    /**
+     * <p>Validates a condition on arguments.</p>
+     *
+     * @param condition A condition to validate
+     * @param conditionDescription A textual description of the condition
+     * @return This validator
+     */
+    public @NonNull Validator condition(boolean condition, @NonNull String conditionDescription) {
+        return record(Validations.condition(condition), conditionDescription, 0);
+    }
+
+    /**
+     * <p>Validates a condition on arguments, null counting as false.</p>
+     *
+     * @param condition A condition to validate
+     * @param conditionDescription A textual description of the condition
+     * @return This validator
+     */
+    public @NonNull Validator condition(@Nullable Boolean condition, @NonNull String conditionDescription) {
+        return record(Validations.condition(condition), conditionDescription, 0);
+    }
+
+    /**
+     * <p>Validates the argument to be not null and to match the predicate. The predicate is not called for null.</p>
+     *
+     * @param argument The argument to validate
+     * @param predicate The predicate the argument has to match
+     * @param conditionDescription A textual description of the condition
+     * @return This validator
+     * @param <T> Class of the argument to validate
+     */
+    public <T> @NonNull Validator matches(@Nullable T argument, @NonNull Predicate<? super T> predicate, @NonNull String conditionDescription) {
+        return record(Validations.condition(argument != null && predicate.test(argument)), conditionDescription, 0);
+    }
+
+    /**
+     * <p>Tells whether no violation has been recorded since the last {@link #reset()}.</p>
+     *
+     * @return true if all validations passed
+     */
+    public boolean isValid() {
+        return count == 0;
+    }
+
+    /**
+     * <p>Returns the number of violations recorded since the last {@link #reset()}.</p>
+     *
+     * @return The number of violations
+     */
+    public int violationCount() {
+        return count;
+    }
+
+    /**
+     * <p>Returns a recorded violation.</p>
+     *
+     * @param index The index of the violation, in the order of the validations
+     * @return The violation
+     * @throws IndexOutOfBoundsException if index is not less than {@link #violationCount()}
+     */
+    public @NonNull Violation violation(int index) {
+        return violations[Objects.checkIndex(index, count)];
+    }
+
+    /**
+     * <p>Returns the name of the argument (or the condition description) of a recorded violation.</p>
+     *
+     * @param index The index of the violation, in the order of the validations
+     * @return The name of the argument or the condition description
+     * @throws IndexOutOfBoundsException if index is not less than {@link #violationCount()}
+     */
+    public @NonNull String name(int index) {
+        return names[Objects.checkIndex(index, count)];
+    }
+
+    /**
+     * <p>Returns the messages of all recorded violations, which are the messages the equivalent <code>require</code>
+     * methods would throw.</p>
+     *
+     * @return The messages in the order of the validations
+     */
+    public @NonNull List<String> messages() {
+        List<String> messages = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            messages.add(Failures.argumentMessage(violations[i], names[i], maxLengths[i]));
+        }
+        return messages;
+    }
+
+    /**
+     * <p>Throws an exception listing all recorded violations, if there are any.</p>
+     *
+     * @throws IllegalArgumentException if at least one violation has been recorded
+     */
+    public void throwIfInvalid() {
+        if(count > 0) {
+            throw Failures.argumentViolations(violations, names, maxLengths, count);
+        }
+    }
+
+    /**
+     * <p>Removes all recorded violations, keeping the backing arrays for reuse.</p>
+     *
+     * @return This validator
+     */
+    public @NonNull Validator reset() {
+        Arrays.fill(names, 0, count, null);
+        count = 0;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "Validator" + messages();
+    }
+
+    private Validator record(Violation violation, String name, int maxLength) {
+        if(violation.isViolated()) {
+            add(violation, name, maxLength);
+        }
+        return this;
+    }
+
+    private void add(Violation violation, String name, int maxLength) {
+        if(count == violations.length) {
+            int capacity = 2 * count;
+            violations = Arrays.copyOf(violations, capacity);
+            names = Arrays.copyOf(names, capacity);
+            maxLengths = Arrays.copyOf(maxLengths, capacity);
+        }
+        violations[count] = violation;
+        names[count] = name;
+        maxLengths[count] = maxLength;
+        count++;
+    }
+}
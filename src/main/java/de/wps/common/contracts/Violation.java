@@ -0,0 +1,94 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * <p>The outcome of a validation in {@link Validations}.</p>
+ *
+ * <p>Every violation corresponds to the message of the exception the equivalent contract method would throw, e.g.
+ * {@link #NULL} to "Argument x was null". The constants are shared, so returning a violation never allocates.</p>
+ */
+public enum Violation {
+    /**
+     * <p>The validated object met the contract.</p>
+     */
+    NONE("was valid"),
+
+    /**
+     * <p>The validated object was null.</p>
+     */
+    NULL("was null"),
+
+    /**
+     * <p>The validated object was empty (an empty {@link String}, {@link java.util.Collection},
+     * {@link java.util.Map} or {@link java.util.Optional}).</p>
+     */
+    EMPTY("was empty"),
+
+    /**
+     * <p>The validated {@link String} was blank.</p>
+     */
+    BLANK("was blank"),
+
+    /**
+     * <p>The validated {@link String} was longer than allowed.</p>
+     */
+    TOO_LONG("was too long"),
+
+    /**
+     * <p>The validated condition was false (or null).</p>
+     */
+    UNMET_CONDITION("did not meet condition");
+
+    private final String description;
+
+    Violation(String description) {
+        this.description = description;
+    }
+
+    /**
+     * <p>Tells whether the validated object met the contract.</p>
+     *
+     * @return true for {@link #NONE}, false otherwise
+     */
+    public boolean isValid() {
+        return this == NONE;
+    }
+
+    /**
+     * <p>Tells whether the validated object violated the contract.</p>
+     *
+     * @return false for {@link #NONE}, true otherwise
+     */
+    public boolean isViolated() {
+        return this != NONE;
+    }
+
+    /**
+     * <p>Describes this outcome for the validated object.</p>
+     *
+     * @param name The name of the validated object or the condition description
+     * @return A description like "name was null"
+     */
+    public @NonNull String describe(@NonNull String name) {
+        return name + " " + description;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures the bytes allocated by the current thread for the allocation tests. The run is warmed up with 1.000
+ * iterations and then compared between 0 and 100.000 iterations, so that only allocations per iteration count.
+ */
+final class Allocations {
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Allocations() {
+        // Should not be instantiated
+    }
+
+    static void assertNoAllocation(IntConsumer run) {
+        assumeTrue(THREAD_BEAN.isThreadAllocatedMemorySupported(), "Requires allocation measurement");
+        THREAD_BEAN.setThreadAllocatedMemoryEnabled(true);
+        run.accept(1_000);
+        long baseline = allocatedBytes(() -> run.accept(0));
+
+        long allocated = allocatedBytes(() -> run.accept(100_000));
+
+        assertTrue(allocated - baseline < 1024, () -> "Allocated " + (allocated - baseline) + " bytes");
+    }
+
+    private static long allocatedBytes(Runnable runnable) {
+        long threadId = Thread.currentThread().getId();
+        long before = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        runnable.run();
+        return THREAD_BEAN.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AllowedValuesTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 5, 100, 5000})
+    void sameAsHashSet(int size) {
+        Random random = new Random(size);
+        List<String> values = new ArrayList<>();
+        for(int i = 0; i < size; i++) {
+            values.add(randomString(random));
+        }
+        Set<String> expected = new HashSet<>(values);
+        AllowedValues allowedValues = AllowedValues.copyOf(values);
+
+        assertEquals(expected.size(), allowedValues.size());
+        for(String value : values) {
+            assertTrue(allowedValues.contains(new String(value)), value);
+        }
+        for(int i = 0; i < 10_000; i++) {
+            String value = randomString(random);
+            assertEquals(expected.contains(value), allowedValues.contains(value), value);
+        }
+    }
+
+    @Test
+    void equalHashCodes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        AllowedValues allowedValues = AllowedValues.of("Aa", "C");
+
+        assertTrue(allowedValues.contains("Aa"));
+        assertFalse(allowedValues.contains("BB"));
+    }
+
+    @Test
+    void longValues() {
+        String value = "x".repeat(100);
+        AllowedValues allowedValues = AllowedValues.of(value, "y".repeat(63));
+
+        assertTrue(allowedValues.contains("x".repeat(100)));
+        assertTrue(allowedValues.contains("y".repeat(63)));
+        assertFalse(allowedValues.contains("x".repeat(64)));
+    }
+
+    @Test
+    void nullAndEmpty() {
+        AllowedValues allowedValues = AllowedValues.of("");
+
+        assertTrue(allowedValues.contains(""));
+        assertFalse(allowedValues.contains(null));
+        assertFalse(AllowedValues.of().contains(""));
+    }
+
+    @Test
+    void nullValue() {
+        IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> AllowedValues.copyOf(Arrays.asList("EUR", null)));
+        assertEquals("Argument values contained a null element at index 1", throwable.getMessage());
+    }
+
+    @Test
+    void duplicates() {
+        assertEquals(2, AllowedValues.of("EUR", "USD", "EUR").size());
+    }
+
+    @Test
+    void toStringListsFirstValues() {
+        assertEquals("[EUR, USD]", AllowedValues.of("EUR", "USD").toString());
+        assertEquals("[a, b, c, d, e, f, g, h, ... (10 values)]", AllowedValues.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j").toString());
+    }
+
+    private static String randomString(Random random) {
+        char[] chars = new char[1 + random.nextInt(4)];
+        for(int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('A' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
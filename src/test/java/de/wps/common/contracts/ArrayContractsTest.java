@@ -0,0 +1,290 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static de.wps.common.contracts.ArrayContracts.checkAllMatch;
+import static de.wps.common.contracts.ArrayContracts.checkDistinct;
+import static de.wps.common.contracts.ArrayContracts.checkNoNullElements;
+import static de.wps.common.contracts.ArrayContracts.checkNoNullElementsInParallel;
+import static de.wps.common.contracts.ArrayContracts.checkNotEmpty;
+import static de.wps.common.contracts.ArrayContracts.checkSorted;
+import static de.wps.common.contracts.ArrayContracts.checkSortedInParallel;
+import static de.wps.common.contracts.ArrayContracts.ensureAllMatch;
+import static de.wps.common.contracts.ArrayContracts.ensureDistinct;
+import static de.wps.common.contracts.ArrayContracts.ensureDistinctInParallel;
+import static de.wps.common.contracts.ArrayContracts.ensureNoNullElements;
+import static de.wps.common.contracts.ArrayContracts.ensureNotEmpty;
+import static de.wps.common.contracts.ArrayContracts.ensureSorted;
+import static de.wps.common.contracts.ArrayContracts.requireAllMatch;
+import static de.wps.common.contracts.ArrayContracts.requireAllMatchInParallel;
+import static de.wps.common.contracts.ArrayContracts.requireDistinct;
+import static de.wps.common.contracts.ArrayContracts.requireDistinctInParallel;
+import static de.wps.common.contracts.ArrayContracts.requireNoNullElements;
+import static de.wps.common.contracts.ArrayContracts.requireNotEmpty;
+import static de.wps.common.contracts.ArrayContracts.requireSorted;
+import static de.wps.common.contracts.ArrayContracts.requireSortedInParallel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ArrayContractsTest {
+
+    @Nested
+    class NotEmpty {
+        @Test
+        void require() {
+            String[] argument = {"a"};
+            assertSame(argument, requireNotEmpty(argument, "argument"));
+
+            IllegalArgumentException empty = assertThrows(IllegalArgumentException.class, () -> requireNotEmpty(new String[0], "argument"));
+            assertEquals("Argument argument was empty", empty.getMessage());
+            IllegalArgumentException nullArray = assertThrows(IllegalArgumentException.class, () -> requireNotEmpty((String[]) null, "argument"));
+            assertEquals("Argument argument was null", nullArray.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkNotEmpty(new Object[0], "state"));
+            assertEquals("State state was empty", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureNotEmpty((Object[]) null, "result"));
+            assertEquals("Result result was null", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class NoNullElements {
+        @Test
+        void require() {
+            String[] argument = {"a", "b"};
+            assertSame(argument, requireNoNullElements(argument, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoNullElements(new String[] {"a", null}, "argument"));
+            assertEquals("Argument argument contained a null element at index 1", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkNoNullElements(new Object[] {null}, "state"));
+            assertEquals("State state contained a null element at index 0", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureNoNullElements((Object[]) null, "result"));
+            assertEquals("Result result was null", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class AllMatch {
+        @Test
+        void require() {
+            Integer[] argument = {1, 2, 3};
+            assertSame(argument, requireAllMatch(argument, element -> element > 0, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireAllMatch(new Integer[] {1, 0, -1}, element -> element > 0, "argument"));
+            assertEquals("Argument argument contained an element not meeting the condition at index 1", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkAllMatch(new String[] {""}, element -> !element.isEmpty(), "state"));
+            assertEquals("State state contained an element not meeting the condition at index 0", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            String[] result = {};
+            assertSame(result, ensureAllMatch(result, element -> false, "result"));
+        }
+    }
+
+    @Nested
+    class InParallel {
+        @Test
+        void require() {
+            String[] argument = new String[100_000];
+            Arrays.fill(argument, "a");
+            assertSame(argument, requireAllMatchInParallel(argument, element -> element.length() == 1, "argument"));
+
+            argument[54_321] = "bc";
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireAllMatchInParallel(argument, element -> element.length() == 1, "argument"));
+            assertEquals("Argument argument contained an element not meeting the condition at index 54321", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            Object[] state = new Object[100_000];
+            Arrays.fill(state, 60_000, state.length, "filled");
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkNoNullElementsInParallel(state, "state"));
+            assertEquals("State state contained a null element at index 0", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Distinct {
+        @Test
+        void require() {
+            String[] argument = {"a", "b", null};
+            assertSame(argument, requireDistinct(argument, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireDistinct(new String[] {"a", "b", "c", "b", "a"}, "argument"));
+            assertEquals("Argument argument contained a duplicate element at index 3", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkDistinct(new int[] {1, 2, 3, 2}, "state"));
+            assertEquals("State state contained a duplicate element at index 3", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            long[] result = {0, -1, Long.MIN_VALUE, Long.MAX_VALUE};
+            assertSame(result, ensureDistinct(result, "result"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureDistinct((long[]) null, "result"));
+            assertEquals("Result result was null", throwable.getMessage());
+        }
+
+        @Test
+        void primitiveHashSet() {
+            int[] ints = new int[1000];
+            long[] longs = new long[1000];
+            for(int i = 0; i < ints.length; i++) {
+                ints[i] = i - 500;
+                longs[i] = (long) (i - 500) << 32;
+            }
+            assertSame(ints, requireDistinct(ints, "ints"));
+            assertSame(longs, requireDistinct(longs, "longs"));
+
+            ints[700] = 0;
+            longs[999] = 0;
+            IllegalArgumentException intDuplicate = assertThrows(IllegalArgumentException.class, () -> requireDistinct(ints, "ints"));
+            assertEquals("Argument ints contained a duplicate element at index 700", intDuplicate.getMessage());
+            IllegalArgumentException longDuplicate = assertThrows(IllegalArgumentException.class, () -> requireDistinct(longs, "longs"));
+            assertEquals("Argument longs contained a duplicate element at index 999", longDuplicate.getMessage());
+        }
+
+        @Test
+        void sameIndexAsHashSet() {
+            Random random = new Random(42);
+            for(int round = 0; round < 200; round++) {
+                long[] values = random.longs(1 + random.nextInt(2000), 0, 3000).toArray();
+                Set<Long> seen = new HashSet<>();
+                int expected = -1;
+                for(int i = 0; i < values.length; i++) {
+                    if(!seen.add(values[i])) {
+                        expected = i;
+                        break;
+                    }
+                }
+                String message = expected < 0 ? null : "Argument values contained a duplicate element at index " + expected;
+                assertEquals(message, messageOf(() -> requireDistinct(values, "values")));
+            }
+        }
+    }
+
+    @Nested
+    class Sorted {
+        @Test
+        void require() {
+            String[] argument = {"a", "b", "b", "c"};
+            assertSame(argument, requireSorted(argument, Comparator.naturalOrder(), "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireSorted(argument, Comparator.reverseOrder(), "argument"));
+            assertEquals("Argument argument contained an element out of order at index 1", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            int[] state = {Integer.MIN_VALUE, -1, 0, 0, Integer.MAX_VALUE};
+            assertSame(state, checkSorted(state, "state"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkSorted(new int[] {1, 3, 2}, "state"));
+            assertEquals("State state contained an element out of order at index 2", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            long[] result = {};
+            assertSame(result, ensureSorted(result, "result"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureSorted(new long[] {Long.MAX_VALUE, Long.MIN_VALUE}, "result"));
+            assertEquals("Result result contained an element out of order at index 1", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class OrderInParallel {
+        @Test
+        void require() {
+            long[] argument = new long[100_000];
+            Arrays.setAll(argument, i -> i * 7L);
+            assertSame(argument, requireDistinctInParallel(argument, "argument"));
+            assertSame(argument, requireSortedInParallel(argument, "argument"));
+
+            argument[80_000] = argument[40_000];
+            argument[90_000] = argument[10_000];
+            IllegalArgumentException duplicate = assertThrows(IllegalArgumentException.class, () -> requireDistinctInParallel(argument, "argument"));
+            assertEquals("Argument argument contained a duplicate element at index 80000", duplicate.getMessage());
+            IllegalArgumentException unsorted = assertThrows(IllegalArgumentException.class, () -> requireSortedInParallel(argument, "argument"));
+            assertEquals("Argument argument contained an element out of order at index 80000", unsorted.getMessage());
+        }
+
+        @Test
+        void check() {
+            Integer[] state = new Integer[100_000];
+            Arrays.setAll(state, i -> -i);
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkSortedInParallel(state, Comparator.naturalOrder(), "state"));
+            assertEquals("State state contained an element out of order at index 1", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            String[] result = new String[100_000];
+            Arrays.setAll(result, Integer::toString);
+            result[99_999] = null;
+            assertSame(result, ensureDistinctInParallel(result, "result"));
+        }
+    }
+
+    private static String messageOf(Runnable contract) {
+        try {
+            contract.run();
+            return null;
+        } catch(IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
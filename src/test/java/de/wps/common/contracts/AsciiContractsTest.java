@@ -0,0 +1,238 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static de.wps.common.contracts.AsciiContracts.checkDigits;
+import static de.wps.common.contracts.AsciiContracts.checkNoControlChars;
+import static de.wps.common.contracts.AsciiContracts.ensureHex;
+import static de.wps.common.contracts.AsciiContracts.ensureNoControlChars;
+import static de.wps.common.contracts.AsciiContracts.requireAscii;
+import static de.wps.common.contracts.AsciiContracts.requireDigits;
+import static de.wps.common.contracts.AsciiContracts.requireHex;
+import static de.wps.common.contracts.AsciiContracts.requireNoControlChars;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AsciiContractsTest {
+
+    @Nested
+    class Scan {
+        private final IntPredicate ascii = c -> c < 0x80;
+        private final IntPredicate digit = c -> c >= '0' && c <= '9';
+        private final IntPredicate hexDigit = c -> digit.test(c) || c >= 'A' && c <= 'F' || c >= 'a' && c <= 'f';
+        private final IntPredicate noControl = c -> c >= 0x20 && c != 0x7F;
+
+        @Test
+        void everyByteAtEveryPosition() {
+            for(int length = 1; length <= 24; length++) {
+                for(int position = 0; position < length; position++) {
+                    for(int value = 0; value < 256; value++) {
+                        byte[] bytes = new byte[length];
+                        Arrays.fill(bytes, (byte) '7');
+                        bytes[position] = (byte) value;
+                        assertScans(bytes);
+                    }
+                }
+            }
+        }
+
+        @Test
+        void randomBytes() {
+            Random random = new Random(42);
+            byte[] alphabet = "0123456789abcdefABCDEFgG/:@`\u0000\u001f\u007f".getBytes(ISO_8859_1);
+            for(int i = 0; i < 10_000; i++) {
+                byte[] bytes = new byte[random.nextInt(40)];
+                for(int j = 0; j < bytes.length; j++) {
+                    bytes[j] = random.nextInt(8) == 0 ? (byte) random.nextInt(256) : alphabet[random.nextInt(alphabet.length)];
+                }
+                assertScans(bytes);
+            }
+        }
+
+        @Test
+        void charsOutsideLatin1() {
+            assertEquals(1, AsciiScan.indexOfNonAscii("aĀ"));
+            assertEquals(1, AsciiScan.indexOfNonDigit("1İ"));
+            assertEquals(1, AsciiScan.indexOfNonHexDigit("fņ"));
+            assertEquals(-1, AsciiScan.indexOfControl("Ā\u0085 "));
+        }
+
+        private void assertScans(byte[] bytes) {
+            assertScan(ascii, bytes, AsciiScan.indexOfNonAscii(bytes), AsciiScan.indexOfNonAscii(ByteBuffer.wrap(bytes)),
+                    AsciiScan.indexOfNonAscii(new String(bytes, ISO_8859_1)));
+            assertScan(digit, bytes, AsciiScan.indexOfNonDigit(bytes), AsciiScan.indexOfNonDigit(ByteBuffer.wrap(bytes)),
+                    AsciiScan.indexOfNonDigit(new String(bytes, ISO_8859_1)));
+            assertScan(hexDigit, bytes, AsciiScan.indexOfNonHexDigit(bytes), AsciiScan.indexOfNonHexDigit(ByteBuffer.wrap(bytes)),
+                    AsciiScan.indexOfNonHexDigit(new String(bytes, ISO_8859_1)));
+            assertScan(noControl.or(c -> c >= 0x80), bytes, AsciiScan.indexOfControl(bytes), AsciiScan.indexOfControl(ByteBuffer.wrap(bytes)),
+                    AsciiScan.indexOfControl(new String(bytes, ISO_8859_1)));
+        }
+
+        private void assertScan(IntPredicate valid, byte[] bytes, int arrayIndex, int bufferIndex, int charIndex) {
+            int expected = -1;
+            for(int i = 0; i < bytes.length && expected == -1; i++) {
+                if(!valid.test(bytes[i] & 0xFF)) {
+                    expected = i;
+                }
+            }
+            assertEquals(expected, arrayIndex);
+            assertEquals(expected, bufferIndex);
+            assertEquals(expected, charIndex);
+        }
+    }
+
+    @Nested
+    class Ascii {
+        @Test
+        void require() {
+            String text = "GET /index.html HTTP/1.1";
+            assertSame(text, requireAscii(text, "text"));
+            assertEquals(0, requireAscii(new byte[0], "bytes").length);
+        }
+
+        @Test
+        void requireNonAscii() {
+            byte[] bytes = "Grüße".getBytes(UTF_8);
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireAscii(bytes, "bytes"));
+            assertEquals("Argument bytes contained a non-ASCII character at index 2", throwable.getMessage());
+        }
+
+        @Test
+        void requireNull() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireAscii((String) null, "text"));
+            assertEquals("Argument text was null", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Digits {
+        @ParameterizedTest
+        @ValueSource(strings = {"", "0", "8080", "0123456789012345678901234567890123456789"})
+        void require(String text) {
+            assertSame(text, requireDigits(text, "text"));
+            assertEquals(text.length(), requireDigits(text.getBytes(UTF_8), "bytes").length);
+        }
+
+        @Test
+        void requireOther() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireDigits("123456789:", "port"));
+            assertEquals("Argument port contained a character other than a digit at index 9", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkDigits("-1".getBytes(UTF_8), "state"));
+            assertEquals("State state contained a character other than a digit at index 0", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Hex {
+        @Test
+        void require() {
+            String text = "0123456789abcdefABCDEF";
+            assertSame(text, requireHex(text, "text"));
+            assertEquals(text.length(), requireHex(text.getBytes(UTF_8), "bytes").length);
+        }
+
+        @Test
+        void requireOther() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireHex(new StringBuilder("cafe babe"), "id"));
+            assertEquals("Argument id contained a character other than a hex digit at index 4", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureHex("0x1F", "result"));
+            assertEquals("Result result contained a character other than a hex digit at index 1", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class NoControlChars {
+        @Test
+        void require() {
+            String text = "Grüße, 世界 ~";
+            assertSame(text, requireNoControlChars(text, "text"));
+            assertEquals(text.getBytes(UTF_8).length, requireNoControlChars(text.getBytes(UTF_8), "bytes").length);
+        }
+
+        @Test
+        void requireControl() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoControlChars("Subject: hi\r\nBcc: x", "header"));
+            assertEquals("Argument header contained a control character at index 11", throwable.getMessage());
+        }
+
+        @Test
+        void checkDelete() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkNoControlChars("abc\u007f".getBytes(UTF_8), "state"));
+            assertEquals("State state contained a control character at index 3", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureNoControlChars("\u0000", "result"));
+            assertEquals("Result result contained a control character at index 0", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Buffers {
+        @Test
+        void checksFromPositionToLimit() {
+            ByteBuffer buffer = ByteBuffer.wrap("x12345678901234567y".getBytes(UTF_8));
+            buffer.position(1).limit(18);
+            assertSame(buffer, requireDigits(buffer, "buffer"));
+            assertEquals(1, buffer.position());
+        }
+
+        @Test
+        void reportsAbsoluteIndex() {
+            ByteBuffer buffer = ByteBuffer.wrap("0123456789abcdefgh".getBytes(UTF_8));
+            buffer.position(2);
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireHex(buffer, "buffer"));
+            assertEquals("Argument buffer contained a character other than a hex digit at index 16", throwable.getMessage());
+        }
+
+        @Test
+        void directAndReadOnly() {
+            byte[] bytes = "abcdefghijklmnopqrstuvwxyz\u0001".getBytes(UTF_8);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+            ByteBuffer readOnly = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+            assertSame(direct, requireAscii(direct, "direct"));
+            assertSame(readOnly, requireAscii(readOnly, "readOnly"));
+            assertEquals("Argument direct contained a control character at index 26",
+                    assertThrows(IllegalArgumentException.class, () -> requireNoControlChars(direct, "direct")).getMessage());
+            assertEquals("Argument readOnly contained a control character at index 26",
+                    assertThrows(IllegalArgumentException.class, () -> requireNoControlChars(readOnly, "readOnly")).getMessage());
+        }
+    }
+}
@@ -30,6 +30,7 @@ import static de.wps.common.contracts.BaseContracts.requirePresent;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Optional;
 import org.junit.jupiter.api.Nested;
@@ -281,6 +282,135 @@ class BaseContractsTest {
         }
     }
 
+    @Nested
+    class Template {
+        @Nested
+        class Require {
+            @Test
+            void trueTest() {
+                require(true, "index %s must not be negative", 1);
+                require(true, "index %s must not be negative", 1L);
+                require(true, "%s must be less than %s", 1L, 2L);
+                require(true, "value %s must be known", "value");
+                require(true, "%s must be before %s", "a", "b");
+            }
+
+            @Test
+            void falseWithInt() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class,
+                        () -> require(false, "index %s must not be negative", -1));
+                assertEquals("Argument did not meet condition: index -1 must not be negative", throwable.getMessage());
+            }
+
+            @Test
+            void falseWithLong() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class,
+                        () -> require(false, "index %s must not be negative", -1L));
+                assertEquals("Argument did not meet condition: index -1 must not be negative", throwable.getMessage());
+            }
+
+            @Test
+            void falseWithTwoLongs() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class,
+                        () -> require(false, "%s must be less than %s", 3L, 2L));
+                assertEquals("Argument did not meet condition: 3 must be less than 2", throwable.getMessage());
+            }
+
+            @Test
+            void falseWithObject() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class,
+                        () -> require(false, "value %s must be known", (Object) null));
+                assertEquals("Argument did not meet condition: value null must be known", throwable.getMessage());
+            }
+
+            @Test
+            void falseWithTwoObjects() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class,
+                        () -> require(false, "%s must be before %s", "b", "a"));
+                assertEquals("Argument did not meet condition: b must be before a", throwable.getMessage());
+            }
+
+            @Test
+            void missingPlaceholder() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class,
+                        () -> require(false, "values must be ordered", "b", "a"));
+                assertEquals("Argument did not meet condition: values must be ordered [b, a]", throwable.getMessage());
+            }
+
+            @Test
+            void missingValue() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class,
+                        () -> require(false, "%s must be less than %s and %s", 3L, 2L));
+                assertEquals("Argument did not meet condition: 3 must be less than 2 and %s", throwable.getMessage());
+            }
+        }
+
+        @Nested
+        class Check {
+            @Test
+            void trueTest() {
+                check(true, "index %s must not be negative", 1);
+                check(true, "%s must be before %s", "a", "b");
+            }
+
+            @Test
+            void falseWithInt() {
+                IllegalStateException throwable = assertThrows(IllegalStateException.class,
+                        () -> check(false, "index %s must not be negative", -1));
+                assertEquals("State did not meet condition: index -1 must not be negative", throwable.getMessage());
+            }
+
+            @Test
+            void falseWithTwoObjects() {
+                IllegalStateException throwable = assertThrows(IllegalStateException.class,
+                        () -> check(false, "%s must be before %s", "b", "a"));
+                assertEquals("State did not meet condition: b must be before a", throwable.getMessage());
+            }
+        }
+
+        @Nested
+        class Ensure {
+            @Test
+            void trueTest() {
+                ensure(true, "index %s must not be negative", 1);
+                ensure(true, "%s must be before %s", "a", "b");
+            }
+
+            @Test
+            void falseWithTwoLongs() {
+                IllegalStateException throwable = assertThrows(IllegalStateException.class,
+                        () -> ensure(false, "%s must be less than %s", 3L, 2L));
+                assertEquals("Result did not meet condition: 3 must be less than 2", throwable.getMessage());
+            }
+
+            @Test
+            void falseWithObject() {
+                IllegalStateException throwable = assertThrows(IllegalStateException.class,
+                        () -> ensure(false, "value %s must be known", "value"));
+                assertEquals("Result did not meet condition: value value must be known", throwable.getMessage());
+            }
+        }
+
+        @Nested
+        class Allocation {
+            @Test
+            void noAllocationIfConditionIsMet() {
+                Object value = new Object();
+                Allocations.assertNoAllocation(iterations -> runTemplateContracts(iterations, value));
+            }
+
+            private void runTemplateContracts(int iterations, Object value) {
+                for(int i = 0; i < iterations; i++) {
+                    require(i >= 0, "index %s must not be negative", i);
+                    require(i < iterations, "%s must be less than %s", i, iterations);
+                    check(i >= 0, "index %s must not be negative", (long) i);
+                    ensure(value != null, "value %s must not be null", value);
+                    ensure(i < iterations, "%s must be less than %s", value, value);
+                }
+            }
+        }
+    }
+
     @Nested
     class NotNull {
         @Nested
@@ -18,16 +18,59 @@
  */
 package de.wps.common.contracts;
 
+import static de.wps.common.contracts.CollectionContracts.checkAllMatch;
+import static de.wps.common.contracts.CollectionContracts.checkAllMatchInParallel;
+import static de.wps.common.contracts.CollectionContracts.checkDistinct;
+import static de.wps.common.contracts.CollectionContracts.checkMaxSize;
+import static de.wps.common.contracts.CollectionContracts.checkNoNullElements;
+import static de.wps.common.contracts.CollectionContracts.checkNoNullValues;
 import static de.wps.common.contracts.CollectionContracts.checkNotEmpty;
+import static de.wps.common.contracts.CollectionContracts.checkOnlyKeys;
+import static de.wps.common.contracts.CollectionContracts.checkSortedInParallel;
+import static de.wps.common.contracts.CollectionContracts.ensureAllMatch;
+import static de.wps.common.contracts.CollectionContracts.ensureAllValuesMatch;
+import static de.wps.common.contracts.CollectionContracts.ensureContainsKeys;
+import static de.wps.common.contracts.CollectionContracts.ensureDistinctInParallel;
+import static de.wps.common.contracts.CollectionContracts.ensureNoNullElements;
+import static de.wps.common.contracts.CollectionContracts.ensureNoNullElementsInParallel;
 import static de.wps.common.contracts.CollectionContracts.ensureNotEmpty;
+import static de.wps.common.contracts.CollectionContracts.ensureSizeBetween;
+import static de.wps.common.contracts.CollectionContracts.ensureSorted;
+import static de.wps.common.contracts.CollectionContracts.requireAllKeysMatch;
+import static de.wps.common.contracts.CollectionContracts.requireAllMatch;
+import static de.wps.common.contracts.CollectionContracts.requireAllMatchInParallel;
+import static de.wps.common.contracts.CollectionContracts.requireContainsKeys;
+import static de.wps.common.contracts.CollectionContracts.requireDistinct;
+import static de.wps.common.contracts.CollectionContracts.requireDistinctInParallel;
+import static de.wps.common.contracts.CollectionContracts.requireMaxSize;
+import static de.wps.common.contracts.CollectionContracts.requireNoNullElements;
+import static de.wps.common.contracts.CollectionContracts.requireNoNullElementsInParallel;
+import static de.wps.common.contracts.CollectionContracts.requireNoNullKeys;
+import static de.wps.common.contracts.CollectionContracts.requireNoNullValues;
 import static de.wps.common.contracts.CollectionContracts.requireNotEmpty;
+import static de.wps.common.contracts.CollectionContracts.requireOnlyKeys;
+import static de.wps.common.contracts.CollectionContracts.requireSizeBetween;
+import static de.wps.common.contracts.CollectionContracts.requireSorted;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -170,4 +213,356 @@ class CollectionContractsTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class Size {
+        @Test
+        void require() {
+            Collection<Integer> argument = new ConcurrentLinkedQueue<>(List.of(1, 2, 3));
+            assertSame(argument, requireSizeBetween(argument, 1, 3, "argument"));
+            assertSame(argument, requireMaxSize(argument, 3, "argument"));
+
+            IllegalArgumentException tooLarge = assertThrows(IllegalArgumentException.class, () -> requireMaxSize(argument, 2, "argument"));
+            assertEquals("Size of argument was > 2", tooLarge.getMessage());
+            IllegalArgumentException tooSmall = assertThrows(IllegalArgumentException.class, () -> requireSizeBetween(argument, 4, 10, "argument"));
+            assertEquals("Size of argument was < 4", tooSmall.getMessage());
+        }
+
+        @Test
+        void check() {
+            Map<String, Integer> map = new ConcurrentHashMap<>();
+            IntStream.range(0, 100).forEach(i -> map.put("key" + i, i));
+            assertSame(map.keySet(), checkMaxSize(map.keySet(), 100, "state"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkMaxSize(map.keySet(), 99, "state"));
+            assertEquals("Size of state was > 99", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            ConcurrentSkipListMap<Integer, Integer> map = new ConcurrentSkipListMap<>();
+            IntStream.range(0, 100).forEach(i -> map.put(i, i));
+            assertSame(map, ensureSizeBetween(map, 100, 100, "result"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureSizeBetween(map.subMap(10, 20), 1, 9, "result"));
+            assertEquals("Size of result was > 9", throwable.getMessage());
+        }
+
+        @Test
+        void unbounded() {
+            Collection<Integer> argument = new ConcurrentLinkedQueue<>(List.of(1, 2, 3));
+            assertSame(argument, requireSizeBetween(argument, 1, Integer.MAX_VALUE, "argument"));
+            assertSame(argument, requireMaxSize(argument, Integer.MAX_VALUE, "argument"));
+        }
+
+        @Test
+        void invertedRange() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> ensureSizeBetween(List.of(1), 2, 1, "result"));
+            assertEquals("minSize 2 must not be greater than maxSize 1", throwable.getMessage());
+        }
+
+        @Test
+        void nullTest() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireSizeBetween((List<?>) null, 0, 1, "argument"));
+            assertEquals("Argument argument was null", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class NoNullElements {
+        @Nested
+        class Require {
+            @Test
+            void testDefault() {
+                List<String> argument = List.of("a", "b");
+                assertSame(argument, requireNoNullElements(argument, "argument"));
+            }
+
+            @Test
+            void randomAccess() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoNullElements(Arrays.asList("a", null, null), "argument"));
+                assertEquals("Argument argument contained a null element at index 1", throwable.getMessage());
+            }
+
+            @Test
+            void sequentialAccess() {
+                LinkedList<String> argument = new LinkedList<>(Arrays.asList("a", "b", null));
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoNullElements(argument, "argument"));
+                assertEquals("Argument argument contained a null element at index 2", throwable.getMessage());
+            }
+
+            @Test
+            void nullTest() {
+                IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoNullElements(null, "argument"));
+                assertEquals("Argument argument was null", throwable.getMessage());
+            }
+        }
+
+        @Nested
+        class Check {
+            @Test
+            void testDefault() {
+                List<String> state = List.of("a");
+                assertSame(state, checkNoNullElements(state, "state"));
+            }
+
+            @Test
+            void nullElement() {
+                IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkNoNullElements(Arrays.asList((String) null), "state"));
+                assertEquals("State state contained a null element at index 0", throwable.getMessage());
+            }
+        }
+
+        @Nested
+        class Ensure {
+            @Test
+            void testDefault() {
+                List<String> result = List.of();
+                assertSame(result, ensureNoNullElements(result, "result"));
+            }
+
+            @Test
+            void nullElement() {
+                IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureNoNullElements(Arrays.asList("a", null), "result"));
+                assertEquals("Result result contained a null element at index 1", throwable.getMessage());
+            }
+
+            @Test
+            void nullTest() {
+                IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureNoNullElements(null, "result"));
+                assertEquals("Result result was null", throwable.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    class AllMatch {
+        @Test
+        void require() {
+            List<String> argument = List.of("a", "b");
+            assertSame(argument, requireAllMatch(argument, element -> element.length() == 1, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireAllMatch(new LinkedList<>(List.of("a", "bc")), element -> element.length() == 1, "argument"));
+            assertEquals("Argument argument contained an element not meeting the condition at index 1", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkAllMatch(List.of(1, 2, -3), element -> element > 0, "state"));
+            assertEquals("State state contained an element not meeting the condition at index 2", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureAllMatch(List.of(-1), element -> element > 0, "result"));
+            assertEquals("Result result contained an element not meeting the condition at index 0", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class MapElements {
+        @Test
+        void noNullKeys() {
+            Map<String, String> argument = new LinkedHashMap<>();
+            argument.put("a", "1");
+            assertSame(argument, requireNoNullKeys(argument, "argument"));
+
+            argument.put(null, "2");
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoNullKeys(argument, "argument"));
+            assertEquals("Argument argument contained a null key at index 1", throwable.getMessage());
+        }
+
+        @Test
+        void noNullValues() {
+            Map<String, String> argument = new LinkedHashMap<>();
+            argument.put("a", "1");
+            argument.put("b", null);
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoNullValues(argument, "argument"));
+            assertEquals("Argument argument contained a null value at index 1", throwable.getMessage());
+            IllegalStateException stateThrowable = assertThrows(IllegalStateException.class, () -> checkNoNullValues(argument, "state"));
+            assertEquals("State state contained a null value at index 1", stateThrowable.getMessage());
+        }
+
+        @Test
+        void allKeysMatch() {
+            Map<String, Integer> argument = new HashMap<>(Map.of("a", 1));
+            assertSame(argument, requireAllKeysMatch(argument, key -> key.length() == 1, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireAllKeysMatch(argument, String::isEmpty, "argument"));
+            assertEquals("Argument argument contained a key not meeting the condition at index 0", throwable.getMessage());
+        }
+
+        @Test
+        void allValuesMatch() {
+            Map<String, Integer> result = Map.of("a", -1);
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureAllValuesMatch(result, value -> value > 0, "result"));
+            assertEquals("Result result contained a value not meeting the condition at index 0", throwable.getMessage());
+        }
+
+        @Test
+        void nullMap() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoNullKeys(null, "argument"));
+            assertEquals("Argument argument was null", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Keys {
+        private final KeySpec keySpec = KeySpec.of("host", "port");
+
+        @Test
+        void require() {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            argument.put("port", 80);
+            argument.put("host", null);
+            assertSame(argument, requireContainsKeys(argument, keySpec, "argument"));
+            assertSame(argument, requireOnlyKeys(argument, keySpec, "argument"));
+
+            argument.remove("host");
+            argument.put("user", "admin");
+            IllegalArgumentException missing = assertThrows(IllegalArgumentException.class, () -> requireContainsKeys(argument, keySpec, "argument"));
+            assertEquals("Argument argument did not contain the key host", missing.getMessage());
+            IllegalArgumentException unexpected = assertThrows(IllegalArgumentException.class, () -> requireOnlyKeys(argument, keySpec, "argument"));
+            assertEquals("Argument argument contained a key not in [host, port] at index 1", unexpected.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkOnlyKeys(Map.of(1, 2), keySpec, "state"));
+            assertEquals("State state contained a key not in [host, port] at index 0", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureContainsKeys(new HashMap<>(), keySpec, "result"));
+            assertEquals("Result result did not contain the key host", throwable.getMessage());
+        }
+
+        @Test
+        void nullTest() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireContainsKeys(null, keySpec, "argument"));
+            assertEquals("Argument argument was null", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class InParallel {
+        private final List<Integer> elements = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+        @Test
+        void require() {
+            assertSame(elements, requireNoNullElementsInParallel(elements, "argument"));
+            assertSame(elements, requireAllMatchInParallel(elements, element -> element >= 0, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireAllMatchInParallel(elements, element -> element % 30_000 != 29_999, "argument"));
+            assertEquals("Argument argument contained an element not meeting the condition at index 29999", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            List<Integer> state = new LinkedList<>(elements);
+            state.set(77_777, null);
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkAllMatchInParallel(state, element -> element != null, "state"));
+            assertEquals("State state contained an element not meeting the condition at index 77777", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            List<Integer> result = new ArrayList<>(elements);
+            result.set(99_999, null);
+            result.set(12_345, null);
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureNoNullElementsInParallel(result, "result"));
+            assertEquals("Result result contained a null element at index 12345", throwable.getMessage());
+        }
+
+        @Test
+        void nullTest() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNoNullElementsInParallel(null, "argument"));
+            assertEquals("Argument argument was null", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Distinct {
+        @Test
+        void require() {
+            List<String> argument = Arrays.asList("a", "b", null);
+            assertSame(argument, requireDistinct(argument, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireDistinct(Arrays.asList("a", null, "b", null), "argument"));
+            assertEquals("Argument argument contained a duplicate element at index 3", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            List<Integer> state = new LinkedList<>(List.of(1, 2, 3, 1));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkDistinct(state, "state"));
+            assertEquals("State state contained a duplicate element at index 3", throwable.getMessage());
+        }
+
+        @Test
+        void nullTest() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireDistinct(null, "argument"));
+            assertEquals("Argument argument was null", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Sorted {
+        @Test
+        void require() {
+            List<String> argument = List.of("b", "B", "c");
+            assertSame(argument, requireSorted(argument, String.CASE_INSENSITIVE_ORDER, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireSorted(argument, Comparator.naturalOrder(), "argument"));
+            assertEquals("Argument argument contained an element out of order at index 1", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            Set<Integer> result = new TreeSet<>(List.of(3, 1, 2));
+            assertSame(result, ensureSorted(result, Comparator.naturalOrder(), "result"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureSorted(result, Comparator.reverseOrder(), "result"));
+            assertEquals("Result result contained an element out of order at index 1", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class OrderInParallel {
+        private final List<Integer> elements = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+        @Test
+        void require() {
+            assertSame(elements, requireDistinctInParallel(elements, "argument"));
+
+            List<Integer> argument = new ArrayList<>(elements);
+            argument.set(65_432, 65_000);
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireDistinctInParallel(argument, "argument"));
+            assertEquals("Argument argument contained a duplicate element at index 65432", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            List<Integer> state = new ArrayList<>(elements);
+            state.set(50_000, 0);
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkSortedInParallel(state, Comparator.naturalOrder(), "state"));
+            assertEquals("State state contained an element out of order at index 50000", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            Collection<Integer> result = new LinkedList<>(elements);
+            result.add(99_999);
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureDistinctInParallel(result, "result"));
+            assertEquals("Result result contained a duplicate element at index 100000", throwable.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ContractConfigurationTest {
+
+    @Nested
+    class StacklessExceptions {
+        @AfterEach
+        void resetConfiguration() {
+            ContractConfiguration.setStacklessExceptions(false);
+        }
+
+        @Test
+        void disabledByDefault() {
+            assertFalse(ContractConfiguration.isStacklessExceptions());
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> BaseContracts.require(false, "condition"));
+            assertSame(IllegalArgumentException.class, throwable.getClass());
+            assertTrue(throwable.getStackTrace().length > 0);
+        }
+
+        @Test
+        void require() {
+            ContractConfiguration.setStacklessExceptions(true);
+            IllegalArgumentException throwable = assertThrows(ArgumentContractViolationException.class, () -> BaseContracts.require(false, "condition"));
+            assertEquals("Argument did not meet condition: condition", throwable.getMessage());
+            assertEquals(0, throwable.getStackTrace().length);
+        }
+
+        @Test
+        void requireMaxLength() {
+            ContractConfiguration.setStacklessExceptions(true);
+            IllegalArgumentException throwable = assertThrows(ArgumentContractViolationException.class, () -> StringContracts.requireMaxLength("too long", 3, "argument"));
+            assertEquals("Length of argument was > 3", throwable.getMessage());
+            assertEquals(0, throwable.getStackTrace().length);
+        }
+
+        @Test
+        void check() {
+            ContractConfiguration.setStacklessExceptions(true);
+            IllegalStateException throwable = assertThrows(StateContractViolationException.class, () -> BaseContracts.checkNotNull(null, "state"));
+            assertEquals("State object state was null", throwable.getMessage());
+            assertEquals(0, throwable.getStackTrace().length);
+        }
+
+        @Test
+        void ensure() {
+            ContractConfiguration.setStacklessExceptions(true);
+            IllegalStateException throwable = assertThrows(StateContractViolationException.class, () -> CollectionContracts.ensureNotEmpty(List.of(), "result"));
+            assertEquals("Result result was empty", throwable.getMessage());
+            assertEquals(0, throwable.getStackTrace().length);
+        }
+    }
+}
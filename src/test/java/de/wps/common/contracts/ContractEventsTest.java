@@ -0,0 +1,82 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class ContractEventsTest {
+
+    @Test
+    void violationEvent() throws IOException {
+        List<RecordedEvent> events = record(ContractViolationEvent.NAME,
+                () -> assertThrows(IllegalArgumentException.class, () -> BaseContracts.requireNotNull(null, "argument")));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("REQUIRE", event.getString("kind"));
+        assertEquals("argument", event.getString("key"));
+        assertEquals("Argument argument was null", event.getString("message"));
+    }
+
+    @Test
+    void evaluationEvent() throws IOException {
+        List<RecordedEvent> events = record(ContractEvaluationEvent.NAME,
+                () -> BaseContracts.ensure("result", r -> true, "testCondition"));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("ENSURE", event.getString("kind"));
+        assertEquals("testCondition", event.getString("description"));
+        assertTrue(event.getBoolean("passed"));
+    }
+
+    @Test
+    void noEventIfPassed() throws IOException {
+        List<RecordedEvent> events = record(ContractViolationEvent.NAME,
+                () -> StringContracts.requireHasText("text", "argument"));
+
+        assertTrue(events.isEmpty());
+    }
+
+    private static List<RecordedEvent> record(String eventName, Runnable contracts) throws IOException {
+        Path file = Files.createTempFile("contracts", ".jfr");
+        try(Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            contracts.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
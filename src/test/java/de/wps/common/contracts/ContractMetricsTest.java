@@ -0,0 +1,77 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.wps.common.contracts.ContractMetrics.Entry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ContractMetricsTest {
+
+    @AfterEach
+    void resetMetrics() {
+        ContractMetrics.reset();
+    }
+
+    @Test
+    void disabledByDefault() {
+        assertFalse(ContractMetrics.isEnabled());
+        BaseContracts.requireNotNull("argument", "argument");
+        assertThrows(IllegalArgumentException.class, () -> BaseContracts.require(false, "condition"));
+        assertTrue(ContractMetrics.snapshot().isEmpty());
+    }
+
+    @Test
+    void countsPerKindAndKey() {
+        ContractMetrics.count(ContractKind.REQUIRE, "argument", true);
+        ContractMetrics.count(ContractKind.REQUIRE, "argument", true);
+        ContractMetrics.count(ContractKind.REQUIRE, "argument", false);
+        ContractMetrics.count(ContractKind.ENSURE, "argument", false);
+        ContractMetrics.count(ContractKind.CHECK, "state", true);
+
+        assertEquals(List.of(
+                new Entry(ContractKind.REQUIRE, "argument", 2, 1),
+                new Entry(ContractKind.CHECK, "state", 1, 0),
+                new Entry(ContractKind.ENSURE, "argument", 0, 1)), ContractMetrics.snapshot());
+    }
+
+    @Test
+    void limitsNumberOfKeys() {
+        for(int i = 0; i < ContractMetrics.MAX_KEYS + 10; i++) {
+            ContractMetrics.count(ContractKind.CHECK, "state" + i, false);
+        }
+
+        List<Entry> snapshot = ContractMetrics.snapshot();
+        assertEquals(ContractMetrics.MAX_KEYS + 1, snapshot.size());
+        assertTrue(snapshot.contains(new Entry(ContractKind.CHECK, ContractMetrics.OTHER_KEY, 0, 10)));
+    }
+
+    @Test
+    void reset() {
+        ContractMetrics.count(ContractKind.REQUIRE, "argument", true);
+        ContractMetrics.reset();
+        assertTrue(ContractMetrics.snapshot().isEmpty());
+    }
+}
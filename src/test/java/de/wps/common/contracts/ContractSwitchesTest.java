@@ -0,0 +1,160 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ContractSwitchesTest {
+
+    private static ContractSwitches switches(String... keysAndValues) {
+        Properties properties = new Properties();
+        for(int i = 0; i < keysAndValues.length; i += 2) {
+            properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return new ContractSwitches(properties);
+    }
+
+    @Nested
+    class Global {
+        @Test
+        void enabledByDefault() {
+            ContractSwitches switches = switches();
+            for(ContractKind kind : ContractKind.values()) {
+                assertTrue(switches.isEnabled(kind));
+                assertTrue(switches.isEnabled(kind, String.class));
+            }
+        }
+
+        @Test
+        void disabledKind() {
+            ContractSwitches switches = switches("de.wps.common.contracts.ensure.enabled", "false");
+            assertTrue(switches.isEnabled(ContractKind.REQUIRE));
+            assertTrue(switches.isEnabled(ContractKind.CHECK));
+            assertFalse(switches.isEnabled(ContractKind.ENSURE));
+            assertFalse(switches.isEnabled(ContractKind.ENSURE, String.class));
+        }
+
+        @Test
+        void enabledOnlyInPackage() throws Exception {
+            ContractSwitches switches = switches(
+                    "de.wps.common.contracts.check.enabled", "false",
+                    "de.wps.common.contracts.check.enabledIn", "de.wps");
+            assertFalse(switches.isEnabled(ContractKind.CHECK));
+            assertTrue(switches.isEnabled(ContractKind.CHECK, ContractSwitchesTest.class));
+            assertFalse(switches.isEnabled(ContractKind.CHECK, String.class));
+
+            String output = run(GuardedCheck.class,
+                    "-Dde.wps.common.contracts.check.enabled=false",
+                    "-Dde.wps.common.contracts.check.enabledIn=" + GuardedCheck.class.getName());
+            assertEquals("guarded check failed, unguarded check skipped", output);
+        }
+
+        @Test
+        void disabledContractDoesNotRun() throws Exception {
+            String output = run(GuardedCheck.class, "-Dde.wps.common.contracts.check.enabled=false");
+            assertEquals("guarded check skipped, unguarded check skipped", output);
+        }
+
+        @Test
+        void disabledInPackageSkipsOnlyGuardedContracts() throws Exception {
+            String output = run(GuardedCheck.class, "-Dde.wps.common.contracts.check.disabledIn=" + GuardedCheck.class.getName());
+            assertEquals("guarded check skipped, unguarded check failed", output);
+        }
+    }
+
+    @Nested
+    class PerClass {
+        @Test
+        void disabledInPackageAndSubpackages() {
+            ContractSwitches switches = switches("de.wps.common.contracts.check.disabledIn", "de.wps.common");
+            assertFalse(switches.isEnabled(ContractKind.CHECK, ContractSwitchesTest.class));
+            assertTrue(switches.isEnabled(ContractKind.REQUIRE, ContractSwitchesTest.class));
+            assertTrue(switches.isEnabled(ContractKind.CHECK, String.class));
+        }
+
+        @Test
+        void disabledInClassAndNestedClasses() {
+            ContractSwitches switches = switches("de.wps.common.contracts.ensure.disabledIn", " java.util.Map , de.wps.common.contracts.ContractSwitchesTest");
+            assertFalse(switches.isEnabled(ContractKind.ENSURE, ContractSwitchesTest.class));
+            assertFalse(switches.isEnabled(ContractKind.ENSURE, PerClass.class));
+            assertFalse(switches.isEnabled(ContractKind.ENSURE, Map.Entry.class));
+            assertTrue(switches.isEnabled(ContractKind.ENSURE, ContractSwitches.class));
+        }
+
+        @Test
+        void prefixOfNameDoesNotMatch() {
+            ContractSwitches switches = switches("de.wps.common.contracts.require.disabledIn", "de.wps.common.contracts.Contract");
+            assertTrue(switches.isEnabled(ContractKind.REQUIRE, ContractSwitches.class));
+        }
+
+        @Test
+        void mostSpecificWins() {
+            ContractSwitches switches = switches(
+                    "de.wps.common.contracts.check.disabledIn", "de.wps",
+                    "de.wps.common.contracts.check.enabledIn", "de.wps.common.contracts.ContractSwitchesTest");
+            assertTrue(switches.isEnabled(ContractKind.CHECK, ContractSwitchesTest.class));
+            assertFalse(switches.isEnabled(ContractKind.CHECK, ContractSwitches.class));
+        }
+    }
+
+    /**
+     * <p>Runs the main class in a separate JVM, because the switches are read once per JVM, and returns its output.</p>
+     */
+    private static String run(Class<?> mainClass, String... systemProperties) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(systemProperties));
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), mainClass.getName()));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), UTF_8);
+        process.waitFor();
+        return output;
+    }
+
+    static final class GuardedCheck {
+        private static final boolean CHECKS = ContractConfiguration.isEnabled(ContractKind.CHECK, GuardedCheck.class);
+
+        public static void main(String[] args) {
+            String guarded = "skipped";
+            if(CHECKS) {
+                // Tests its (violated) condition itself, because the contract methods follow the global switch
+                guarded = "failed";
+            }
+            String unguarded = "skipped";
+            try {
+                BaseContracts.check(false, "unguarded check");
+            } catch(IllegalStateException e) {
+                unguarded = "failed";
+            }
+            System.out.print("guarded check " + guarded + ", unguarded check " + unguarded);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DenyListTest {
+
+    private static String randomToken(Random random) {
+        char[] chars = new char[1 + random.nextInt(12)];
+        for(int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    @Nested
+    class Filter {
+        @Test
+        void noFalseNegatives() {
+            BloomFilter filter = new BloomFilter(10_000);
+            for(int i = 0; i < 10_000; i++) {
+                filter.add("entry" + i);
+            }
+            for(int i = 0; i < 10_000; i++) {
+                assertTrue(filter.mightContain("entry" + i));
+            }
+        }
+
+        @Test
+        void falsePositiveRate() {
+            BloomFilter filter = new BloomFilter(100_000);
+            for(int i = 0; i < 100_000; i++) {
+                filter.add("entry" + i);
+            }
+            int falsePositives = 0;
+            for(int i = 0; i < 100_000; i++) {
+                if(filter.mightContain("other" + i)) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+            assertEquals(125_056, filter.sizeInBytes());
+        }
+    }
+
+    @Nested
+    class InMemory {
+        @Test
+        void sameAsHashSet() {
+            Random random = new Random(42);
+            Set<String> denied = new HashSet<>();
+            for(int i = 0; i < 5_000; i++) {
+                denied.add(randomToken(random));
+            }
+            DenyList denyList = DenyList.of(denied);
+
+            for(String value : denied) {
+                assertTrue(denyList.contains(value), value);
+            }
+            for(int i = 0; i < 50_000; i++) {
+                String value = randomToken(random);
+                assertEquals(denied.contains(value), denyList.contains(value), value);
+            }
+            assertFalse(denyList.contains(null));
+            assertEquals(denied.size(), denyList.size());
+        }
+
+        @Test
+        void nullValue() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> DenyList.of(Arrays.asList("a", null)));
+            assertEquals("Argument deniedValues contained a null element at index 1", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class SortedFile {
+        private Path file;
+
+        @BeforeEach
+        void createFile() throws IOException {
+            file = Files.createTempFile("deny-list", ".txt");
+        }
+
+        @AfterEach
+        void deleteFile() throws IOException {
+            Files.delete(file);
+        }
+
+        @Test
+        void sameAsTreeSet() throws IOException {
+            Random random = new Random(4711);
+            TreeSet<String> denied = new TreeSet<>();
+            for(int i = 0; i < 20_000; i++) {
+                denied.add(randomToken(random));
+            }
+            denied.add("x".repeat(1000));
+            denied.add("ärger");
+            Files.write(file, denied, StandardCharsets.UTF_8);
+
+            try(DenyList denyList = DenyList.load(file)) {
+                assertEquals(denied.size(), denyList.size());
+                for(String value : denied) {
+                    assertTrue(denyList.contains(value), value);
+                }
+                for(int i = 0; i < 50_000; i++) {
+                    String value = randomToken(random);
+                    assertEquals(denied.contains(value), denyList.contains(value), value);
+                }
+                assertFalse(denyList.contains("x".repeat(999)));
+            }
+        }
+
+        @Test
+        void probableHitsAreConfirmed() throws IOException {
+            List<String> denied = new ArrayList<>(new TreeSet<>(List.of("alice", "bob", "carol")));
+            Files.write(file, denied, StandardCharsets.UTF_8);
+
+            try(DenyList denyList = DenyList.load(file); SortedLines lines = new SortedLines(file)) {
+                for(String value : List.of("", "a", "alice", "alicf", "bob", "bobby", "carol", "zed")) {
+                    assertEquals(denied.contains(value), lines.contains(value), value);
+                    assertEquals(denied.contains(value), denyList.contains(value), value);
+                }
+            }
+        }
+
+        @Test
+        void windowsLineEndings() throws IOException {
+            Files.writeString(file, "alice\r\nbob\r\ncarol", StandardCharsets.UTF_8);
+
+            try(SortedLines lines = new SortedLines(file)) {
+                assertTrue(lines.contains("alice"));
+                assertTrue(lines.contains("bob"));
+                assertTrue(lines.contains("carol"));
+                assertFalse(lines.contains("bob\r"));
+            }
+            try(DenyList denyList = DenyList.load(file)) {
+                assertTrue(denyList.contains("bob"));
+                assertEquals(3, denyList.size());
+            }
+        }
+
+        @Test
+        void loneCarriageReturn() throws IOException {
+            Files.writeString(file, "alice\r\nbob\rcarol\n", StandardCharsets.UTF_8);
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> DenyList.load(file));
+            assertEquals("sortedFile must end lines with \\n or \\r\\n, but line 2 contains a single \\r", throwable.getMessage());
+        }
+
+        @Test
+        void emptyFile() throws IOException {
+            try(DenyList denyList = DenyList.load(file); SortedLines lines = new SortedLines(file)) {
+                assertFalse(denyList.contains(""));
+                assertFalse(lines.contains(""));
+                assertEquals(0, denyList.size());
+            }
+        }
+
+        @Test
+        void notSorted() throws IOException {
+            Files.writeString(file, "alice\ncarol\nbob\n", StandardCharsets.UTF_8);
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> DenyList.load(file));
+            assertEquals("sortedFile must be sorted, but line 3 is out of order", throwable.getMessage());
+        }
+
+        @Test
+        void closed() throws IOException {
+            Files.writeString(file, "alice\n", StandardCharsets.UTF_8);
+            DenyList denyList = DenyList.load(file);
+            denyList.close();
+
+            assertFalse(denyList.contains("bob"));
+            assertThrows(UncheckedIOException.class, () -> denyList.contains("alice"));
+        }
+    }
+
+    @Nested
+    class Contracts {
+        private final DenyList denyList = DenyList.of(List.of("admin", "root"));
+
+        @Test
+        void require() {
+            assertEquals("jane", StringContracts.requireNotIn("jane", denyList, "userName"));
+        }
+
+        @Test
+        void requireDenied() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> StringContracts.requireNotIn("root", denyList, "userName"));
+            assertEquals("Argument userName was on the deny-list", throwable.getMessage());
+        }
+
+        @Test
+        void requireNull() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> StringContracts.requireNotIn(null, denyList, "userName"));
+            assertEquals("Argument userName was null", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> StringContracts.checkNotIn("admin", denyList, "state"));
+            assertEquals("State state was on the deny-list", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> StringContracts.ensureNotIn("admin", denyList, "result"));
+            assertEquals("Result result was on the deny-list", throwable.getMessage());
+        }
+    }
+}
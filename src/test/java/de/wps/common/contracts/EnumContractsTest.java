@@ -0,0 +1,85 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static de.wps.common.contracts.EnumContracts.checkOneOf;
+import static de.wps.common.contracts.EnumContracts.ensureOneOf;
+import static de.wps.common.contracts.EnumContracts.requireOneOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class EnumContractsTest {
+    private static final AllowedEnumValues<Status> CANCELABLE = AllowedEnumValues.of(Status.OPEN, Status.PENDING);
+
+    enum Status {
+        OPEN, PENDING, CLOSED
+    }
+
+    enum Large {
+        C0, C1, C2, C3, C4, C5, C6, C7, C8, C9, C10, C11, C12, C13, C14, C15, C16, C17, C18, C19, C20, C21, C22, C23, C24, C25, C26, C27, C28, C29, C30, C31, C32, C33, C34, C35, C36, C37, C38, C39, C40, C41, C42, C43, C44, C45, C46, C47, C48, C49, C50, C51, C52, C53, C54, C55, C56, C57, C58, C59, C60, C61, C62, C63, C64, C65, C66, C67, C68, C69
+    }
+
+    @Test
+    void require() {
+        assertSame(Status.PENDING, requireOneOf(Status.PENDING, CANCELABLE, "status"));
+    }
+
+    @Test
+    void requireOther() {
+        IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireOneOf(Status.CLOSED, CANCELABLE, "status"));
+        assertEquals("Argument status was not one of [OPEN, PENDING]", throwable.getMessage());
+    }
+
+    @Test
+    void requireNull() {
+        IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireOneOf(null, CANCELABLE, "status"));
+        assertEquals("Argument status was null", throwable.getMessage());
+    }
+
+    @Test
+    void check() {
+        IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkOneOf(Status.OPEN, AllowedEnumValues.of(Status.CLOSED), "state"));
+        assertEquals("State state was not one of [CLOSED]", throwable.getMessage());
+    }
+
+    @Test
+    void ensure() {
+        IllegalStateException throwable = assertThrows(IllegalStateException.class,
+                () -> ensureOneOf(Status.OPEN, AllowedEnumValues.copyOf(Set.of(), Status.class), "result"));
+        assertEquals("Result result was not one of []", throwable.getMessage());
+    }
+
+    @Test
+    void moreThan64Constants() {
+        AllowedEnumValues<Large> allowedValues = AllowedEnumValues.copyOf(EnumSet.of(Large.C0, Large.C63, Large.C64, Large.C69), Large.class);
+        for(Large value : Large.values()) {
+            assertEquals(EnumSet.of(Large.C0, Large.C63, Large.C64, Large.C69).contains(value), allowedValues.contains(value), value.name());
+        }
+        assertFalse(AllowedEnumValues.of(Large.C1).contains(Large.C65));
+        assertTrue(AllowedEnumValues.of(Large.C69).contains(Large.C69));
+        assertEquals(4, allowedValues.size());
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static de.wps.common.contracts.FormatContracts.checkIpv4;
+import static de.wps.common.contracts.FormatContracts.checkUuid;
+import static de.wps.common.contracts.FormatContracts.ensureEmailLike;
+import static de.wps.common.contracts.FormatContracts.ensureIsoInstant;
+import static de.wps.common.contracts.FormatContracts.requireEmailLike;
+import static de.wps.common.contracts.FormatContracts.requireIpv4;
+import static de.wps.common.contracts.FormatContracts.requireIpv6;
+import static de.wps.common.contracts.FormatContracts.requireIsoInstant;
+import static de.wps.common.contracts.FormatContracts.requireUuid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FormatContractsTest {
+
+    /**
+     * <p>Checks a format against a reference on strings derived from the seeds by random edits, so that most of them
+     * are almost, but not quite well-formed.</p>
+     */
+    private static void assertSameAsReference(Predicate<CharSequence> format, Predicate<String> reference, String alphabet, String... seeds) {
+        Random random = new Random(4711);
+        for(int run = 0; run < 20_000; run++) {
+            StringBuilder builder = new StringBuilder(seeds[random.nextInt(seeds.length)]);
+            for(int edits = random.nextInt(3); edits > 0; edits--) {
+                int index = random.nextInt(builder.length() + 1);
+                char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                switch(random.nextInt(3)) {
+                    case 0:
+                        builder.insert(index, c);
+                        break;
+                    case 1:
+                        if(index < builder.length()) {
+                            builder.deleteCharAt(index);
+                        }
+                        break;
+                    default:
+                        if(index < builder.length()) {
+                            builder.setCharAt(index, c);
+                        }
+                }
+            }
+            String text = builder.toString();
+            assertEquals(reference.test(text), format.test(text), text);
+            assertEquals(reference.test(text), format.test(new StringBuilder(text)), text);
+        }
+    }
+
+    @Nested
+    class Uuid {
+        private final Pattern canonical = Pattern.compile("\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}");
+
+        @ParameterizedTest
+        @ValueSource(strings = {"123e4567-e89b-12d3-a456-426614174000", "00000000-0000-0000-0000-000000000000", "FFFFFFFF-FFFF-FFFF-FFFF-FFFFFFFFFFFF"})
+        void valid(String text) {
+            assertSame(text, requireUuid(text, "id"));
+            assertTrue(UUID.fromString(text).toString().equalsIgnoreCase(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "1-2-3-4-5", "123e4567e89b12d3a456426614174000", "123e4567-e89b-12d3-a456-42661417400", "123e4567-e89b-12d3-a456-4266141740000",
+                "123e4567-e89b-12d3-a456_426614174000", "123e4567-e89b-12d3-a456-42661417400g", "{123e4567-e89b-12d3-a456-426614174000}"})
+        void invalid(String text) {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireUuid(text, "id"));
+            assertEquals("Argument id was not a UUID", throwable.getMessage());
+        }
+
+        @Test
+        void sameAsReference() {
+            assertSameAsReference(Formats::isUuid, text -> canonical.matcher(text).matches(), "0aF-g ", UUID.randomUUID().toString(),
+                    "123E4567-E89B-12D3-A456-426614174000");
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkUuid("x", "state"));
+            assertEquals("State state was not a UUID", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class IsoInstant {
+        private final Pattern rfc3339 = Pattern.compile("\\d{4}-\\d{2}-\\d{2}[Tt]([01]\\d|2[0-3]):\\d{2}:\\d{2}(\\.\\d{1,9})?([Zz]|[+-]\\d{2}:\\d{2})");
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2024-01-01T00:00:00Z", "2024-02-29T12:30:00.5+01:00", "1999-12-31t23:59:59.123456789z", "2016-12-31T23:59:60Z",
+                "0000-01-01T00:00:00-18:00", "9999-12-31T23:59:59+18:00", "2000-02-29T00:00:00Z"})
+        void valid(String text) {
+            assertSame(text, requireIsoInstant(text, "timestamp"));
+            Instant.parse(text);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "2024-01-01", "2024-01-01T00:00:00", "2024-01-01 00:00:00Z", "2023-02-29T00:00:00Z", "1900-02-29T00:00:00Z",
+                "2024-04-31T00:00:00Z", "2024-13-01T00:00:00Z", "2024-00-01T00:00:00Z", "2024-01-00T00:00:00Z", "2024-01-01T24:00:00Z",
+                "2024-01-01T12:59:60Z", "2024-01-01T00:60:00Z", "2024-01-01T00:00:00.Z", "2024-01-01T00:00:00.1234567890Z",
+                "2024-01-01T00:00:00+18:01", "2024-01-01T00:00:00+0100", "2024-01-01T00:00:00+01", "2024-01-01T00:00:00,5Z",
+                "+12024-01-01T00:00:00Z", "2024-1-01T00:00:00Z", "2024-01-01T00:00:00Zx"})
+        void invalid(String text) {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireIsoInstant(text, "timestamp"));
+            assertEquals("Argument timestamp was not an ISO-8601 instant", throwable.getMessage());
+        }
+
+        @Test
+        void sameAsReference() {
+            assertSameAsReference(Formats::isIsoInstant, text -> rfc3339.matcher(text).matches() && parses(text), "0123456789-:.T+Zz",
+                    "2024-02-29T12:30:00.5+01:00", "2023-12-31T23:59:60Z", "1970-01-01T00:00:00.000000001-18:00");
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureIsoInstant("now", "result"));
+            assertEquals("Result result was not an ISO-8601 instant", throwable.getMessage());
+        }
+
+        private boolean parses(String text) {
+            try {
+                Instant.parse(text);
+                return true;
+            } catch(DateTimeParseException e) {
+                return false;
+            }
+        }
+    }
+
+    @Nested
+    class Ipv4 {
+        private final Pattern dottedDecimal = Pattern.compile("((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)");
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0.0.0.0", "127.0.0.1", "192.168.100.1", "255.255.255.255", "10.9.99.199"})
+        void valid(String text) throws UnknownHostException {
+            assertSame(text, requireIpv4(text, "address"));
+            assertEquals(text, InetAddress.getByName(text).getHostAddress());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "127.1", "127.0.0", "127.0.0.1.", ".127.0.0.1", "127.0.0.1.1", "256.0.0.1", "1.2.3.1000", "010.0.0.1", "00.0.0.1",
+                "1..2.3", "1.2.3.4/24", "1.2.3.-4", "localhost"})
+        void invalid(String text) {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireIpv4(text, "address"));
+            assertEquals("Argument address was not an IPv4 address", throwable.getMessage());
+        }
+
+        @Test
+        void sameAsReference() {
+            assertSameAsReference(Formats::isIpv4, text -> dottedDecimal.matcher(text).matches(), "0125.", "192.168.0.1", "255.255.255.255", "1.20.30.4");
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkIpv4("::1", "state"));
+            assertEquals("State state was not an IPv4 address", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Ipv6 {
+        /**
+         * <p>{@link InetAddress} also accepts groups with more than 4 digits if they have leading zeros, and IPv4
+         * numbers with leading zeros.</p>
+         */
+        private final Pattern lenient = Pattern.compile("\\p{XDigit}{5}|:0\\d+\\.|\\.0\\d");
+
+        @ParameterizedTest
+        @ValueSource(strings = {"::", "::1", "1::", "2001:db8::1", "2001:0DB8:0000:0000:0000:ff00:0042:8329", "1:2:3:4:5:6:7::", "::2:3:4:5:6:7:8",
+                "fe80::1:2", "::ffff:192.168.0.1", "64:ff9b::192.0.2.33", "1:2:3:4:5:6:1.2.3.4"})
+        void valid(String text) throws UnknownHostException {
+            assertSame(text, requireIpv6(text, "address"));
+            InetAddress.getByName(text);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", ":", ":::", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1::2::3", ":1::", "1::2:", "12345::", "g::1", "[::1]", "fe80::1%eth0",
+                "2001:db8::/32", "::1.2.3", "::1.2.3.04", "1:2:3:4:5:6:7:1.2.3.4", "1.2.3.4", "::1.2.3.4:5", "::1:1.2.3.4.5"})
+        void invalid(String text) {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireIpv6(text, "address"));
+            assertEquals("Argument address was not an IPv6 address", throwable.getMessage());
+        }
+
+        @Test
+        void sameAsReference() {
+            assertSameAsReference(Formats::isIpv6, text -> text.indexOf(':') >= 0 && !lenient.matcher(text).find() && isInetAddress(text), "0aF:.",
+                    "2001:db8::1", "1:2:3:4:5:6:7:8", "::ffff:192.168.0.1", "1:2:3:4:5:6:1.2.3.4", "fe80::", "::");
+        }
+
+        private boolean isInetAddress(String text) {
+            try {
+                InetAddress.getByName(text);
+                return true;
+            } catch(UnknownHostException e) {
+                return false;
+            }
+        }
+    }
+
+    @Nested
+    class EmailLike {
+        private final Pattern dotAtomAddress = Pattern.compile("[\\w!#$%&'*+/=?^`{|}~-]+(\\.[\\w!#$%&'*+/=?^`{|}~-]+)*"
+                + "@(\\p{Alnum}([\\p{Alnum}-]{0,61}\\p{Alnum})?\\.)+\\p{Alnum}([\\p{Alnum}-]{0,61}\\p{Alnum})?");
+
+        @ParameterizedTest
+        @ValueSource(strings = {"jane.doe@example.com", "a@b.co", "x+tag@sub.example.org", "o'brien@example.ie", "!#$%&'*+-/=?^_`{|}~@example.com",
+                "user@123.example", "user@xn--bcher-kva.example"})
+        void valid(String text) {
+            assertSame(text, requireEmailLike(text, "email"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "@example.com", "jane@", "jane", "jane@localhost", "jane.@example.com", ".jane@example.com", "ja..ne@example.com",
+                "jane@example..com", "jane@.example.com", "jane@example.com.", "jane@-example.com", "jane@example-.com", "jane doe@example.com",
+                "jane@exa_mple.com", "\"jane\"@example.com", "jane@[127.0.0.1]", "jäne@example.com", "jane@bücher.example", "a@b@example.com"})
+        void invalid(String text) {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireEmailLike(text, "email"));
+            assertEquals("Argument email was not an e-mail address", throwable.getMessage());
+        }
+
+        @Test
+        void lengths() {
+            String local = "l".repeat(64);
+            String label = "d".repeat(63);
+            assertTrue(Formats.isEmailLike(local + "@" + label + ".com"));
+            assertFalse(Formats.isEmailLike(local + "l@" + label + ".com"));
+            assertFalse(Formats.isEmailLike(local + "@" + label + "d.com"));
+            assertTrue(Formats.isEmailLike(local + "@" + label + "." + label + "." + "d".repeat(61)));
+            assertFalse(Formats.isEmailLike(local + "@" + label + "." + label + "." + "d".repeat(62)));
+        }
+
+        @Test
+        void sameAsReference() {
+            assertSameAsReference(Formats::isEmailLike, text -> text.length() <= 254 && text.indexOf('@') <= 64 && dotAtomAddress.matcher(text).matches(),
+                    "a.-@_+ \"", "jane.doe@example.com", "a+b@sub-1.example.org", "x@y.z");
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureEmailLike("nobody", "result"));
+            assertEquals("Result result was not an e-mail address", throwable.getMessage());
+        }
+    }
+}
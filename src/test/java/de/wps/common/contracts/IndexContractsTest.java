@@ -0,0 +1,135 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static de.wps.common.contracts.IndexContracts.checkFromToIndex;
+import static de.wps.common.contracts.IndexContracts.checkIndex;
+import static de.wps.common.contracts.IndexContracts.checkRemaining;
+import static de.wps.common.contracts.IndexContracts.ensureFromIndexSize;
+import static de.wps.common.contracts.IndexContracts.ensureIndex;
+import static de.wps.common.contracts.IndexContracts.requireFromIndexSize;
+import static de.wps.common.contracts.IndexContracts.requireFromToIndex;
+import static de.wps.common.contracts.IndexContracts.requireIndex;
+import static de.wps.common.contracts.IndexContracts.requireRemaining;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class IndexContractsTest {
+
+    @Nested
+    class Index {
+        @Test
+        void require() {
+            assertEquals(0, requireIndex(0, 1, "index"));
+            assertEquals(9L, requireIndex(9L, 10L, "index"));
+        }
+
+        @ParameterizedTest
+        @CsvSource({"-1, 10", "10, 10", "0, 0", "0, -1"})
+        void requireOutOfBounds(int index, int length) {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireIndex(index, length, "index"));
+            assertEquals("Argument index was " + index + ", expected an index in [0, " + length + ")", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkIndex(5_000_000_000L, 5_000_000_000L, "state"));
+            assertEquals("State state was 5000000000, expected an index in [0, 5000000000)", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureIndex(-1, 3, "result"));
+            assertEquals("Result result was -1, expected an index in [0, 3)", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class FromIndexSize {
+        @Test
+        void require() {
+            assertEquals(6, requireFromIndexSize(6, 4, 10, "offset"));
+            assertEquals(10, requireFromIndexSize(10, 0, 10, "offset"));
+        }
+
+        @ParameterizedTest
+        @CsvSource({"7, 4, 10", "-1, 4, 10", "0, -1, 10", "2147483647, 1, 10"})
+        void requireOutOfBounds(int fromIndex, int size, int length) {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireFromIndexSize(fromIndex, size, length, "offset"));
+            assertEquals("Argument offset was the range [" + fromIndex + ", " + fromIndex + " + " + size + "), expected a range in [0, " + length + ")", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureFromIndexSize(1L, 3L, 3L, "result"));
+            assertEquals("Result result was the range [1, 1 + 3), expected a range in [0, 3)", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class FromToIndex {
+        @Test
+        void require() {
+            assertEquals(2, requireFromToIndex(2, 2, 2, "range"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireFromToIndex(3, 2, 5, "range"));
+            assertEquals("Argument range was the range [3, 2), expected a range in [0, 5)", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkFromToIndex(0, 6, 5, "state"));
+            assertEquals("State state was the range [0, 6), expected a range in [0, 5)", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Remaining {
+        @Test
+        void require() {
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+            buffer.position(4);
+            assertSame(buffer, requireRemaining(buffer, 4, "buffer"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireRemaining(buffer, 5, "buffer"));
+            assertEquals("Argument buffer had 4 elements remaining, expected at least 5", throwable.getMessage());
+        }
+
+        @Test
+        void requireNull() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireRemaining((ByteBuffer) null, 1, "buffer"));
+            assertEquals("Argument buffer was null", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            CharBuffer buffer = CharBuffer.wrap("abc");
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkRemaining(buffer, 4, "state"));
+            assertEquals("State state had 3 elements remaining, expected at least 4", throwable.getMessage());
+        }
+    }
+}
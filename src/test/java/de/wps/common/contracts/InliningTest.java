@@ -0,0 +1,99 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs {@link CallSite} in a separate JVM with <code>-XX:+PrintInlining</code> and asserts that C2 inlines every contract
+ * into the hot call site.
+ */
+class InliningTest {
+    private static final List<String> INLINED_CONTRACTS = List.of(
+            "BaseContracts::requireNotNull",
+            "BaseContracts::require",
+            "BaseContracts::requirePresent",
+            "BaseContracts::ensure",
+            "StringContracts::requireHasText",
+            "StringContracts::requireMaxLength",
+            "CollectionContracts::requireNotEmpty",
+            "NumberContracts::requireInRange",
+            "NumberContracts::requireNonNegative");
+
+    @Test
+    void contractsAreInlinedAtHotCallSite() throws Exception {
+        assumeTrue(System.getProperty("java.vm.name").contains("Server VM"), "Requires the HotSpot server compiler");
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java,
+                "-cp", System.getProperty("java.class.path"),
+                "-XX:+UnlockDiagnosticVMOptions",
+                "-XX:+PrintInlining",
+                "-XX:-TieredCompilation",
+                "-Xbatch",
+                "-XX:CompileCommand=quiet",
+                "-XX:CompileCommand=dontinline," + CallSite.class.getName() + "::validate",
+                CallSite.class.getName())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), UTF_8);
+        assertEquals(0, process.waitFor(), output);
+
+        for(String contract : INLINED_CONTRACTS) {
+            boolean inlined = output.lines()
+                    .filter(line -> line.contains("de.wps.common.contracts." + contract + " "))
+                    .anyMatch(line -> line.contains("inline (hot)"));
+            assertTrue(inlined, () -> contract + " was not inlined:\n" + output);
+        }
+    }
+
+    static final class CallSite {
+        private static final Predicate<String> NOT_EMPTY = s -> !s.isEmpty();
+        private static int sink;
+
+        static int validate(String text, List<String> list, Optional<String> optional, int index) {
+            BaseContracts.requireNotNull(text, "text");
+            BaseContracts.require(index >= 0, "index >= 0");
+            NumberContracts.requireNonNegative(index, "index");
+            NumberContracts.requireInRange(index, 0, 200_000, "index");
+            StringContracts.requireHasText(text, "text");
+            StringContracts.requireMaxLength(text, 100, "text");
+            CollectionContracts.requireNotEmpty(list, "list");
+            String value = BaseContracts.requirePresent(optional, "optional");
+            return BaseContracts.ensure(value, NOT_EMPTY, "value not empty").length() + index;
+        }
+
+        public static void main(String[] args) {
+            List<String> list = List.of("element");
+            Optional<String> optional = Optional.of("value");
+            for(int i = 0; i < 200_000; i++) {
+                sink += validate("text", list, optional, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class KeySpecTest {
+    private final KeySpec spec = KeySpec.of("host", "port", "timeout");
+
+    @Test
+    void contains() {
+        assertTrue(spec.contains("port"));
+        assertFalse(spec.contains("Port"));
+        assertFalse(spec.contains(null));
+        assertFalse(spec.contains(42));
+        assertEquals(3, spec.size());
+    }
+
+    @Test
+    void missingKeyInSpecOrder() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("port", 80);
+        assertEquals("host", spec.missingKey(map));
+
+        map.put("host", "localhost");
+        map.put("timeout", null);
+        assertNull(spec.missingKey(map));
+    }
+
+    @Test
+    void unexpectedKeyInIterationOrder() {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("host", "localhost");
+        map.put(1, "one");
+        map.put("user", "admin");
+        assertEquals(1, spec.indexOfUnexpectedKey(map));
+
+        map.remove(1);
+        map.remove("user");
+        assertEquals(-1, spec.indexOfUnexpectedKey(map));
+    }
+
+    @Test
+    void smallMapStopsEarly() {
+        KeySpec manyKeys = KeySpec.of("a", "b", "c", "d", "e");
+        CountingMap map = new CountingMap();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        assertEquals("c", manyKeys.missingKey(map));
+        assertEquals(3, map.lookups);
+    }
+
+    @Test
+    void nullKey() {
+        IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> KeySpec.copyOf(Arrays.asList("host", null)));
+        assertEquals("Argument keys contained a null element at index 1", throwable.getMessage());
+    }
+
+    @Test
+    void toStringListsFirstKeys() {
+        assertEquals("[host, port, timeout]", spec.toString());
+    }
+
+    private static final class CountingMap extends HashMap<String, Object> {
+        private static final long serialVersionUID = 1L;
+
+        private int lookups;
+
+        @Override
+        public boolean containsKey(Object key) {
+            lookups++;
+            return super.containsKey(key);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static de.wps.common.contracts.NumberContracts.checkFinite;
+import static de.wps.common.contracts.NumberContracts.checkInRange;
+import static de.wps.common.contracts.NumberContracts.checkNonNegative;
+import static de.wps.common.contracts.NumberContracts.ensureInRange;
+import static de.wps.common.contracts.NumberContracts.ensurePositive;
+import static de.wps.common.contracts.NumberContracts.requireFinite;
+import static de.wps.common.contracts.NumberContracts.requireInRange;
+import static de.wps.common.contracts.NumberContracts.requireNonNegative;
+import static de.wps.common.contracts.NumberContracts.requirePositive;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NumberContractsTest {
+
+    @Nested
+    class InRange {
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 65535})
+        void requireInt(int port) {
+            assertEquals(port, requireInRange(port, 0, 65536, "port"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 65536, Integer.MIN_VALUE, Integer.MAX_VALUE})
+        void requireIntOutOfRange(int port) {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireInRange(port, 0, 65536, "port"));
+            assertEquals("Argument port was " + port + ", expected in [0, 65536)", throwable.getMessage());
+        }
+
+        @Test
+        void emptyRange() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireInRange(5, 10, 0, "value"));
+            assertEquals("Argument value was 5, expected in [10, 0)", throwable.getMessage());
+        }
+
+        @Test
+        void checkLong() {
+            assertEquals(-5L, checkInRange(-5L, Long.MIN_VALUE, 0L, "state"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkInRange(0L, Long.MIN_VALUE, 0L, "state"));
+            assertEquals("State state was 0, expected in [-9223372036854775808, 0)", throwable.getMessage());
+        }
+
+        @Test
+        void ensureDouble() {
+            assertEquals(0.5, ensureInRange(0.5, 0.0, 1.0, "result"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureInRange(1.0, 0.0, 1.0, "result"));
+            assertEquals("Result result was 1.0, expected in [0.0, 1.0)", throwable.getMessage());
+            IllegalStateException nan = assertThrows(IllegalStateException.class, () -> ensureInRange(Double.NaN, 0.0, 1.0, "result"));
+            assertEquals("Result result was NaN, expected in [0.0, 1.0)", nan.getMessage());
+        }
+    }
+
+    @Nested
+    class Positive {
+        @Test
+        void require() {
+            assertEquals(1, requirePositive(1, "argument"));
+            assertEquals(1L, requirePositive(1L, "argument"));
+            assertEquals(Double.MIN_VALUE, requirePositive(Double.MIN_VALUE, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requirePositive(0, "argument"));
+            assertEquals("Argument argument was 0, expected > 0", throwable.getMessage());
+            IllegalArgumentException nan = assertThrows(IllegalArgumentException.class, () -> requirePositive(Double.NaN, "argument"));
+            assertEquals("Argument argument was NaN, expected > 0", nan.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensurePositive(-1L, "result"));
+            assertEquals("Result result was -1, expected > 0", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class NonNegative {
+        @Test
+        void require() {
+            assertEquals(0, requireNonNegative(0, "argument"));
+            assertEquals(0.0, requireNonNegative(0.0, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNonNegative(-1L, "argument"));
+            assertEquals("Argument argument was -1, expected >= 0", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkNonNegative(-0.5, "state"));
+            assertEquals("State state was -0.5, expected >= 0", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Finite {
+        @Test
+        void require() {
+            assertEquals(Double.MAX_VALUE, requireFinite(Double.MAX_VALUE, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireFinite(Double.POSITIVE_INFINITY, "argument"));
+            assertEquals("Argument argument was Infinity, expected a finite number", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkFinite(Double.NaN, "state"));
+            assertEquals("State state was NaN, expected a finite number", throwable.getMessage());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelScanTest {
+    private static final int SIZE = 200_000;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1023, 1024, 50_000, 100_000, SIZE - 1})
+    void lowestNullInArray(int index) throws Exception {
+        Integer[] array = elements();
+        array[index] = null;
+        array[SIZE - 1] = null;
+        array[(index + SIZE) / 2] = null;
+
+        assertEquals(index, inPool(() -> ParallelScan.indexOfNull(array)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 4711, 100_000, SIZE - 1})
+    void lowestMismatchInLists(int index) throws Exception {
+        Predicate<Integer> belowIndex = element -> element < index;
+        List<Integer> arrayList = new ArrayList<>(Arrays.asList(elements()));
+        List<Integer> linkedList = new LinkedList<>(arrayList);
+        Collection<Integer> linkedSet = new LinkedHashSet<>(arrayList);
+
+        assertEquals(index, inPool(() -> ParallelScan.indexOfMismatch(arrayList, belowIndex)));
+        assertEquals(index, inPool(() -> ParallelScan.indexOfMismatch(linkedList, belowIndex)));
+        assertEquals(index, inPool(() -> ParallelScan.indexOfMismatch(linkedSet, belowIndex)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 4711, 100_000, SIZE - 1})
+    void lowestMismatchInUnorderedCollection(int index) throws Exception {
+        Predicate<Integer> belowIndex = element -> element < index;
+        Collection<Integer> suffixSplitting = new SuffixSplittingCollection(elements());
+
+        assertEquals(index, inPool(() -> ParallelScan.indexOfMismatch(suffixSplitting, belowIndex)));
+    }
+
+    @Test
+    void noViolation() throws Exception {
+        Integer[] array = elements();
+
+        assertEquals(-1, inPool(() -> ParallelScan.indexOfNull(array)));
+        assertEquals(-1, inPool(() -> ParallelScan.indexOfNull(new LinkedList<>(Arrays.asList(array)))));
+        assertEquals(-1, ParallelScan.indexOfMismatch(array, element -> element >= 0));
+        assertEquals(-1, inPool(() -> ParallelScan.indexOfDuplicate(array)));
+        assertEquals(-1, inPool(() -> ParallelScan.indexOfInversion(array, Comparator.naturalOrder())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1023, 1024, 50_000, 100_000, SIZE - 1})
+    void lowestDuplicate(int index) throws Exception {
+        Integer[] array = elements();
+        array[SIZE - 1] = SIZE - 2;
+        array[index] = index - 1;
+        int[] ints = Arrays.stream(array).mapToInt(Integer::intValue).toArray();
+        long[] longs = Arrays.stream(array).mapToLong(Integer::longValue).toArray();
+
+        assertEquals(index, inPool(() -> ParallelScan.indexOfDuplicate(array)));
+        assertEquals(index, inPool(() -> ParallelScan.indexOfDuplicate(Arrays.asList(array))));
+        assertEquals(index, inPool(() -> ParallelScan.indexOfDuplicate(ints)));
+        assertEquals(index, inPool(() -> ParallelScan.indexOfDuplicate(longs)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1023, 1024, 1025, 50_000, 100_000, SIZE - 1})
+    void lowestInversion(int index) throws Exception {
+        Integer[] array = elements();
+        array[SIZE - 1] = 0;
+        array[index] = index - 2;
+        int[] ints = Arrays.stream(array).mapToInt(Integer::intValue).toArray();
+        long[] longs = Arrays.stream(array).mapToLong(Integer::longValue).toArray();
+
+        assertEquals(index, inPool(() -> ParallelScan.indexOfInversion(array, Comparator.naturalOrder())));
+        assertEquals(index, inPool(() -> ParallelScan.indexOfInversion(Arrays.asList(array), Comparator.naturalOrder())));
+        assertEquals(index, inPool(() -> ParallelScan.indexOfInversion(ints)));
+        assertEquals(index, inPool(() -> ParallelScan.indexOfInversion(longs)));
+    }
+
+    @Test
+    void belowThreshold() throws Exception {
+        Integer[] array = {1, 2, null, 4};
+
+        assertEquals(2, inPool(() -> ParallelScan.indexOfNull(array)));
+        assertEquals(2, inPool(() -> ParallelScan.indexOfNull(Arrays.asList(array))));
+    }
+
+    private int inPool(Callable<Integer> scan) throws Exception {
+        return pool.submit(scan).get();
+    }
+
+    /**
+     * <p>A collection whose spliterator is {@link Spliterator#SUBSIZED}, but not {@link Spliterator#ORDERED}, and splits
+     * off suffixes instead of prefixes.</p>
+     */
+    private static final class SuffixSplittingCollection extends AbstractCollection<Integer> {
+        private final Integer[] array;
+
+        SuffixSplittingCollection(Integer[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return Arrays.asList(array).iterator();
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+
+        @Override
+        public Spliterator<Integer> spliterator() {
+            return new SuffixSplitting(0, array.length);
+        }
+
+        private final class SuffixSplitting implements Spliterator<Integer> {
+            private int from;
+            private int to;
+
+            SuffixSplitting(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Integer> action) {
+                if(from == to) {
+                    return false;
+                }
+                action.accept(array[from++]);
+                return true;
+            }
+
+            @Override
+            public Spliterator<Integer> trySplit() {
+                int middle = (from + to) >>> 1;
+                if(middle == from) {
+                    return null;
+                }
+                Spliterator<Integer> suffix = new SuffixSplitting(middle, to);
+                to = middle;
+                return suffix;
+            }
+
+            @Override
+            public long estimateSize() {
+                return to - from;
+            }
+
+            @Override
+            public int characteristics() {
+                return SIZED | SUBSIZED;
+            }
+        }
+    }
+
+    private static Integer[] elements() {
+        Integer[] array = new Integer[SIZE];
+        for(int i = 0; i < SIZE; i++) {
+            array[i] = i;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+class PatternCacheTest {
+
+    @Test
+    void countsHitsAndMisses() {
+        PatternCache cache = new PatternCache(4);
+        Pattern pattern = cache.get("a+");
+
+        assertSame(pattern, cache.get("a+"));
+        assertSame(pattern, cache.get("a+"));
+        assertEquals(new PatternCache.Stats(2, 1, 0), cache.stats());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void evictsUnreferencedPatternsFirst() {
+        PatternCache cache = new PatternCache(3);
+        Pattern a = cache.get("a");
+        cache.get("b");
+        cache.get("c");
+        cache.get("a");
+
+        cache.get("d");
+        cache.get("e");
+
+        assertSame(a, cache.get("a"));
+        assertEquals(3, cache.size());
+        assertEquals(2, cache.stats().evictions());
+    }
+
+    @Test
+    void staysBounded() {
+        PatternCache cache = new PatternCache(16);
+        for(int i = 0; i < 1000; i++) {
+            cache.get("x{" + i + "}");
+            cache.get("x{" + i % 8 + "}");
+        }
+
+        assertEquals(16, cache.size());
+        assertEquals(cache.stats().misses() - 16, cache.stats().evictions());
+    }
+
+    @Test
+    void disabled() {
+        PatternCache cache = new PatternCache(0);
+
+        assertNotSame(cache.get("a"), cache.get("a"));
+        assertEquals(new PatternCache.Stats(0, 2, 0), cache.stats());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void doesNotCacheInvalidRegex() {
+        PatternCache cache = new PatternCache(4);
+
+        assertThrows(PatternSyntaxException.class, () -> cache.get("("));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void reset() {
+        PatternCache cache = new PatternCache(2);
+        cache.get("a");
+        cache.get("b");
+        cache.get("c");
+
+        cache.reset();
+
+        assertEquals(0, cache.size());
+        assertEquals(new PatternCache.Stats(0, 0, 0), cache.stats());
+        assertEquals("PatternCache[capacity=2, size=0, hits=0, misses=0, evictions=0]", cache.toString());
+    }
+
+    @Test
+    void concurrentLookups() throws Exception {
+        PatternCache cache = new PatternCache(8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for(int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for(int i = 0; i < 10_000; i++) {
+                        String regex = "\\d{" + (i + offset) % 12 + "}";
+                        assertEquals(regex, cache.get(regex).pattern());
+                    }
+                }));
+            }
+            for(Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        PatternCache.Stats stats = cache.stats();
+        assertEquals(40_000, stats.hits() + stats.misses());
+        assertTrue(cache.size() <= 8);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PostconditionSamplerTest {
+
+    @Test
+    void invalidRate() {
+        IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> PostconditionSampler.oneIn(0));
+        assertEquals("rate 0 must be at least 1", throwable.getMessage());
+    }
+
+    @Nested
+    class EveryCall {
+        private final PostconditionSampler sampler = PostconditionSampler.oneIn(1);
+
+        @Test
+        void truePredicate() {
+            String result = "result";
+            assertSame(result, sampler.ensure(result, r -> true, "testCondition"));
+            assertEquals(1, sampler.sampledCount());
+            assertEquals(0, sampler.skippedCount());
+        }
+
+        @Test
+        void falsePredicate() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class,
+                    () -> sampler.ensure("result", r -> false, "testCondition"));
+            assertEquals("Result did not meet condition: testCondition", throwable.getMessage());
+        }
+
+        @Test
+        void falseWithSupplier() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class,
+                    () -> sampler.ensure("result", r -> false, () -> "testCondition"));
+            assertEquals("Result did not meet condition: testCondition", throwable.getMessage());
+        }
+
+        @Test
+        void nullResult() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class,
+                    () -> sampler.ensure(null, r -> true, "testCondition"));
+            assertEquals("Result did not meet condition: testCondition, it was null instead", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Sampled {
+        private final PostconditionSampler sampler = PostconditionSampler.oneIn(10);
+
+        @Test
+        void evaluatesSampleOfCalls() {
+            AtomicInteger evaluations = new AtomicInteger();
+            for(int i = 0; i < 10_000; i++) {
+                sampler.ensure("result", r -> evaluations.incrementAndGet() > 0, "testCondition");
+            }
+            assertEquals(evaluations.get(), sampler.sampledCount());
+            assertEquals(10_000, sampler.sampledCount() + sampler.skippedCount());
+            assertTrue(sampler.sampledCount() > 500 && sampler.sampledCount() < 1_500, sampler::toString);
+        }
+
+        @Test
+        void nullResultIsNeverSkipped() {
+            for(int i = 0; i < 100; i++) {
+                assertThrows(IllegalStateException.class, () -> sampler.ensure(null, r -> true, "testCondition"));
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SizesTest {
+
+    @Test
+    void classification() {
+        TreeMap<Integer, Integer> treeMap = new TreeMap<>();
+        ConcurrentSkipListMap<Integer, Integer> skipListMap = new ConcurrentSkipListMap<>();
+
+        assertTrue(Sizes.countsOnSize(ConcurrentLinkedQueue.class));
+        assertTrue(Sizes.countsOnSize(ConcurrentLinkedDeque.class));
+        assertTrue(Sizes.countsOnSize(treeMap.subMap(1, 5).getClass()));
+        assertTrue(Sizes.countsOnSize(treeMap.subMap(1, 5).entrySet().getClass()));
+        assertTrue(Sizes.countsOnSize(skipListMap.subMap(1, 5).getClass()));
+        assertTrue(Sizes.countsOnSize(skipListMap.subMap(1, 5).keySet().getClass()));
+
+        assertFalse(Sizes.countsOnSize(ArrayList.class));
+        assertFalse(Sizes.countsOnSize(ConcurrentHashMap.class));
+        assertFalse(Sizes.countsOnSize(new ConcurrentHashMap<>().keySet().getClass()));
+        assertFalse(Sizes.countsOnSize(treeMap.getClass()));
+    }
+
+    @Test
+    void boundedIteration() {
+        CountingQueue queue = new CountingQueue();
+        IntStream.range(0, 1000).forEach(queue::add);
+
+        assertEquals(-1, Sizes.sizeUpTo(queue, 10));
+        assertEquals(10, queue.iterated);
+        assertEquals(1000, Sizes.sizeUpTo(queue, 1000));
+        assertEquals(1000, Sizes.sizeUpTo(queue, Integer.MAX_VALUE));
+        assertEquals(-1, Sizes.sizeUpTo(queue, 0));
+        assertEquals(-1, Sizes.sizeUpTo(new CountingQueue(), -1));
+    }
+
+    @Test
+    void subMap() {
+        ConcurrentSkipListMap<Integer, Integer> map = new ConcurrentSkipListMap<>();
+        IntStream.range(0, 100).forEach(i -> map.put(i, i));
+
+        assertEquals(4, Sizes.sizeUpTo(map.subMap(10, 14), 10));
+        assertEquals(-1, Sizes.sizeUpTo(map.headMap(50), 5));
+        assertEquals(-1, Sizes.sizeUpTo(map, 5));
+        assertEquals(100, Sizes.sizeUpTo(map, Integer.MAX_VALUE));
+    }
+
+    /**
+     * <p>A queue whose size must not be asked, and which counts the iterated elements.</p>
+     */
+    private static final class CountingQueue extends ConcurrentLinkedQueue<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private int iterated;
+
+        @Override
+        public int size() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            Iterator<Integer> iterator = super.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Integer next() {
+                    iterated++;
+                    return iterator.next();
+                }
+            };
+        }
+    }
+}
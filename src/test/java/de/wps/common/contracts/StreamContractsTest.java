@@ -0,0 +1,233 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static de.wps.common.contracts.StreamContracts.checkAllMatch;
+import static de.wps.common.contracts.StreamContracts.checkNotEmpty;
+import static de.wps.common.contracts.StreamContracts.ensureNoNullElements;
+import static de.wps.common.contracts.StreamContracts.ensureNotEmpty;
+import static de.wps.common.contracts.StreamContracts.requireAllMatch;
+import static de.wps.common.contracts.StreamContracts.requireNoNullElements;
+import static de.wps.common.contracts.StreamContracts.requireNotEmpty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class StreamContractsTest {
+
+    @Nested
+    class NotEmpty {
+        @Test
+        void streamKeepsAllElements() {
+            Stream<String> checked = requireNotEmpty(Stream.of("a", "b", "c"), "argument");
+            assertEquals(List.of("a", "b", "c"), checked.collect(Collectors.toList()));
+        }
+
+        @Test
+        void streamIsConsumedLazily() {
+            Stream<Integer> checked = requireNotEmpty(Stream.iterate(0, i -> i + 1), "argument");
+            assertEquals(List.of(0, 1, 2), checked.limit(3).collect(Collectors.toList()));
+        }
+
+        @Test
+        void streamKeepsCharacteristicsAndSize() {
+            List<Integer> source = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+            Stream<Integer> checked = checkNotEmpty(source.parallelStream(), "state");
+
+            assertTrue(checked.isParallel());
+            Spliterator<Integer> spliterator = checked.spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertEquals(10_000, spliterator.estimateSize());
+        }
+
+        @Test
+        void parallelStreamKeepsAllElementsInOrder() {
+            List<Integer> source = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+            List<Integer> elements = requireNotEmpty(source.parallelStream(), "argument").map(i -> i).collect(Collectors.toList());
+
+            assertEquals(source, elements);
+        }
+
+        @Test
+        void streamIsClosed() {
+            AtomicBoolean closed = new AtomicBoolean();
+
+            requireNotEmpty(Stream.of("a").onClose(() -> closed.set(true)), "argument").close();
+
+            assertTrue(closed.get());
+        }
+
+        @Test
+        void emptyStream() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNotEmpty(Stream.empty(), "argument"));
+            assertEquals("Argument argument was empty", throwable.getMessage());
+        }
+
+        @Test
+        void nullStream() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureNotEmpty((Stream<?>) null, "result"));
+            assertEquals("Result result was null", throwable.getMessage());
+        }
+
+        @Test
+        void iterable() {
+            Iterable<String> iterable = () -> List.of("a").iterator();
+            assertSame(iterable, requireNotEmpty(iterable, "argument"));
+
+            Iterable<String> emptyIterable = () -> List.<String>of().iterator();
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkNotEmpty(emptyIterable, "state"));
+            assertEquals("State state was empty", throwable.getMessage());
+        }
+
+        @Test
+        void iteratorKeepsAllElements() {
+            Iterator<String> iterator = List.of("a", "b").iterator();
+
+            Iterator<String> checked = ensureNotEmpty(iterator, "result");
+
+            assertSame(iterator, checked);
+            assertEquals("a", checked.next());
+            assertEquals("b", checked.next());
+            assertFalse(checked.hasNext());
+        }
+
+        @Test
+        void emptyIterator() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireNotEmpty(List.of().iterator(), "argument"));
+            assertEquals("Argument argument was empty", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class StreamElements {
+        @Test
+        void validStream() {
+            List<String> elements = requireNoNullElements(Stream.of("a", "b"), "argument").collect(Collectors.toList());
+            assertEquals(List.of("a", "b"), elements);
+        }
+
+        @Test
+        void violationIsReportedWhenConsumed() {
+            Stream<String> checked = requireNoNullElements(Stream.of("a", null, "c"), "argument");
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> checked.forEach(element -> { }));
+            assertEquals("Argument argument contained a null element at index 1", throwable.getMessage());
+        }
+
+        @Test
+        void elementsAreCheckedLazily() {
+            Stream<Integer> checked = requireAllMatch(Stream.iterate(0, i -> i + 1), i -> i < 5, "argument");
+
+            assertEquals(List.of(0, 1, 2, 3, 4), checked.limit(5).collect(Collectors.toList()));
+        }
+
+        @Test
+        void parallelStreamReportsIndex() {
+            List<Integer> source = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+            Stream<Integer> checked = checkAllMatch(source.parallelStream(), i -> i != 76_543, "state");
+
+            assertTrue(checked.isParallel());
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checked.mapToLong(i -> i).sum());
+            // A worker thread's exception is rethrown as a new exception of the same type, with the original as cause
+            Throwable violation = throwable.getCause() instanceof IllegalStateException ? throwable.getCause() : throwable;
+            assertEquals("State state contained an element not meeting the condition at index 76543", violation.getMessage());
+        }
+
+        @Test
+        void spliteratorKeepsCharacteristics() {
+            List<Integer> source = new ArrayList<>(List.of(3, 1, 2));
+
+            Spliterator<Integer> checked = requireAllMatch(source.spliterator(), i -> i > 0, "argument");
+
+            assertEquals(source.spliterator().characteristics(), checked.characteristics());
+            assertEquals(3, checked.getExactSizeIfKnown());
+        }
+
+        @Test
+        void splitSpliteratorReportsIndex() {
+            List<Integer> source = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+            source.set(10, null);
+            source.set(900, null);
+
+            Spliterator<Integer> suffix = ensureNoNullElements(source.spliterator(), "result");
+            Spliterator<Integer> prefix = suffix.trySplit();
+
+            IllegalStateException suffixThrowable = assertThrows(IllegalStateException.class, () -> suffix.forEachRemaining(element -> { }));
+            assertEquals("Result result contained a null element at index 900", suffixThrowable.getMessage());
+            IllegalStateException prefixThrowable = assertThrows(IllegalStateException.class, () -> prefix.forEachRemaining(element -> { }));
+            assertEquals("Result result contained a null element at index 10", prefixThrowable.getMessage());
+        }
+    }
+
+    @Nested
+    class IteratorElements {
+        @Test
+        void validIterator() {
+            Iterator<String> checked = requireAllMatch(List.of("a", "b").iterator(), element -> element.length() == 1, "argument");
+
+            assertEquals("a", checked.next());
+            assertEquals("b", checked.next());
+            assertFalse(checked.hasNext());
+        }
+
+        @Test
+        void violationIsReportedByNext() {
+            Iterator<String> checked = requireNoNullElements(Arrays.asList("a", "b", null).iterator(), "argument");
+            checked.next();
+            checked.next();
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, checked::next);
+            assertEquals("Argument argument contained a null element at index 2", throwable.getMessage());
+        }
+
+        @Test
+        void remove() {
+            List<String> source = new ArrayList<>(List.of("a", "b"));
+            Iterator<String> checked = requireNoNullElements(source.iterator(), "argument");
+            checked.next();
+
+            checked.remove();
+
+            assertEquals(List.of("b"), source);
+        }
+
+        @Test
+        void nullIterator() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkAllMatch((Iterator<String>) null, element -> true, "state"));
+            assertEquals("State state was null", throwable.getMessage());
+        }
+    }
+}
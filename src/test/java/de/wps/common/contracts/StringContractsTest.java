@@ -2,19 +2,37 @@ package de.wps.common.contracts;
 
 import static de.wps.common.contracts.StringContracts.checkHasLength;
 import static de.wps.common.contracts.StringContracts.checkHasText;
+import static de.wps.common.contracts.StringContracts.checkMatches;
 import static de.wps.common.contracts.StringContracts.checkMaxLength;
+import static de.wps.common.contracts.StringContracts.checkMaxUtf8Length;
+import static de.wps.common.contracts.StringContracts.checkOneOf;
 import static de.wps.common.contracts.StringContracts.ensureHasLength;
 import static de.wps.common.contracts.StringContracts.ensureHasText;
+import static de.wps.common.contracts.StringContracts.ensureMatches;
 import static de.wps.common.contracts.StringContracts.ensureMaxLength;
+import static de.wps.common.contracts.StringContracts.ensureMaxUtf8Length;
+import static de.wps.common.contracts.StringContracts.ensureOneOf;
 import static de.wps.common.contracts.StringContracts.requireHasLength;
 import static de.wps.common.contracts.StringContracts.requireHasText;
+import static de.wps.common.contracts.StringContracts.requireMatches;
 import static de.wps.common.contracts.StringContracts.requireMaxLength;
+import static de.wps.common.contracts.StringContracts.requireMaxUtf8Length;
+import static de.wps.common.contracts.StringContracts.requireOneOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class StringContractsTest {
 
@@ -263,4 +281,193 @@ class StringContractsTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class CharSequenceOverloads {
+        @Test
+        void hasLength() {
+            StringBuilder argument = new StringBuilder("text");
+            assertSame(argument, requireHasLength(argument, "argument"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkHasLength(new StringBuilder(), "state"));
+            assertEquals("State state was empty", throwable.getMessage());
+            IllegalStateException nullThrowable = assertThrows(IllegalStateException.class, () -> ensureHasLength((StringBuilder) null, "result"));
+            assertEquals("Result result was null", nullThrowable.getMessage());
+        }
+
+        @Test
+        void hasText() {
+            CharBuffer argument = CharBuffer.wrap(" \ttext\n");
+            assertSame(argument, requireHasText(argument, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireHasText(CharBuffer.wrap(" \t\n\u2003"), "argument"));
+            assertEquals("Argument argument was blank", throwable.getMessage());
+            IllegalStateException stateThrowable = assertThrows(IllegalStateException.class, () -> checkHasText(new StringBuilder(), "state"));
+            assertEquals("State state was blank", stateThrowable.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", " ", "\t\n\u000B\f\r", "\u001C\u001D\u001E\u001F", "\u2003\u3000", "\u00A0", "\u2007", "\u202F", "\uFEFF", "x", " x ", "\uD83D\uDE00", "\uD83D", "\u0085", "\u200B"})
+        void blankLikeString(String text) {
+            assertEquals(text.isBlank(), CharSequences.isBlank(new StringBuilder(text)), () -> "Blankness differs for " + text.codePoints().boxed().toList());
+        }
+
+        @Test
+        void blankForAllChars() {
+            for(char c = 0; c < Character.MAX_VALUE; c++) {
+                String text = String.valueOf(c);
+                assertEquals(text.isBlank(), CharSequences.isBlank(new StringBuilder(text)), "Blankness differs for " + (int) c);
+            }
+        }
+
+        @Test
+        void maxLength() {
+            CharBuffer result = CharBuffer.wrap("12345");
+            assertSame(result, ensureMaxLength(result, 5, "result"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureMaxLength(CharBuffer.wrap("123456"), 5, "result"));
+            assertEquals("Length of result was > 5", throwable.getMessage());
+            IllegalArgumentException argumentThrowable = assertThrows(IllegalArgumentException.class, () -> requireMaxLength(new StringBuilder("123"), 2, "argument"));
+            assertEquals("Length of argument was > 2", argumentThrowable.getMessage());
+        }
+    }
+
+    @Nested
+    class MaxUtf8Length {
+        @ParameterizedTest
+        @ValueSource(strings = {"", "ascii", "\u00E4\u00F6\u00FC", "\u65E5\u672C\u8A9E", "\uD83D\uDE00", "\uD83D", "\uDE00x", "x\uD83D", "a\u00E4\u65E5\uD83D\uDE00"})
+        void countsLikeGetBytes(String text) {
+            int bytes = text.getBytes(StandardCharsets.UTF_8).length;
+
+            assertTrue(CharSequences.hasMaxUtf8Length(text, bytes));
+            assertFalse(CharSequences.hasMaxUtf8Length(new StringBuilder(text), bytes - 1));
+        }
+
+        @Test
+        void countsLikeGetBytesForRandomText() {
+            Random random = new Random(4711);
+            char[] alphabet = {'a', 'Z', '0', '\u007F', '\u0080', '\u00E4', '\u07FF', '\u0800', '\u65E5', '\uFFFF', '\uD800', '\uDBFF', '\uDC00', '\uDFFF'};
+            for(int run = 0; run < 10_000; run++) {
+                char[] chars = new char[random.nextInt(20)];
+                for(int i = 0; i < chars.length; i++) {
+                    chars[i] = alphabet[random.nextInt(alphabet.length)];
+                }
+                String text = new String(chars);
+                int bytes = text.getBytes(StandardCharsets.UTF_8).length;
+
+                assertTrue(CharSequences.hasMaxUtf8Length(text, bytes), text);
+                assertFalse(CharSequences.hasMaxUtf8Length(text, bytes - 1), text);
+            }
+        }
+
+        @Test
+        void require() {
+            String argument = "\u65E5\u672C";
+            assertSame(argument, requireMaxUtf8Length(argument, 6, "argument"));
+
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireMaxUtf8Length(argument, 5, "argument"));
+            assertEquals("UTF-8 length of argument was > 5", throwable.getMessage());
+            IllegalArgumentException nullThrowable = assertThrows(IllegalArgumentException.class, () -> requireMaxUtf8Length((String) null, 5, "argument"));
+            assertEquals("Argument argument was null", nullThrowable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkMaxUtf8Length(new StringBuilder("\u00E4"), 1, "state"));
+            assertEquals("UTF-8 length of state was > 1", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            CharBuffer result = CharBuffer.wrap("\uD83D\uDE00");
+            assertSame(result, ensureMaxUtf8Length(result, 4, "result"));
+
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureMaxUtf8Length(result, 3, "result"));
+            assertEquals("UTF-8 length of result was > 3", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class Matches {
+        @Test
+        void require() {
+            String argument = "DE-1234";
+            assertSame(argument, requireMatches(argument, "[A-Z]{2}-\\d{4}", "argument"));
+            StringBuilder builder = new StringBuilder("de-1234");
+            assertSame(builder, requireMatches(builder, Pattern.compile("[a-z]{2}-\\d{4}"), "argument"));
+        }
+
+        @Test
+        void requireMatchesAsAWhole() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireMatches("DE-12345", "[A-Z]{2}-\\d{4}", "code"));
+            assertEquals("Argument code did not match [A-Z]{2}-\\d{4}", throwable.getMessage());
+        }
+
+        @Test
+        void requireNull() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireMatches(null, "x", "code"));
+            assertEquals("Argument code was null", throwable.getMessage());
+        }
+
+        @Test
+        void requireInvalidRegex() {
+            assertThrows(PatternSyntaxException.class, () -> requireMatches("x", "[x", "code"));
+        }
+
+        @Test
+        void cachesRegex() {
+            String regex = "cached-\\d+";
+            requireMatches("cached-1", regex, "argument");
+            long hits = PatternCache.shared().stats().hits();
+            requireMatches("cached-2", regex, "argument");
+            assertTrue(PatternCache.shared().stats().hits() > hits);
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkMatches("abc", Pattern.compile("\\d*"), "state"));
+            assertEquals("State state did not match \\d*", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureMatches("", ".+", "result"));
+            assertEquals("Result result did not match .+", throwable.getMessage());
+        }
+    }
+
+    @Nested
+    class OneOf {
+        private final AllowedValues currencies = AllowedValues.of("EUR", "USD", "GBP");
+
+        @Test
+        void require() {
+            String argument = new String("USD");
+            assertSame(argument, requireOneOf(argument, currencies, "currency"));
+        }
+
+        @Test
+        void requireOther() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireOneOf("usd", currencies, "currency"));
+            assertEquals("Argument currency was not one of [EUR, USD, GBP]", throwable.getMessage());
+        }
+
+        @Test
+        void requireNull() {
+            IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> requireOneOf(null, currencies, "currency"));
+            assertEquals("Argument currency was null", throwable.getMessage());
+        }
+
+        @Test
+        void check() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> checkOneOf("CHF", currencies, "state"));
+            assertEquals("State state was not one of [EUR, USD, GBP]", throwable.getMessage());
+        }
+
+        @Test
+        void ensure() {
+            IllegalStateException throwable = assertThrows(IllegalStateException.class, () -> ensureOneOf("", currencies, "result"));
+            assertEquals("Result result was not one of [EUR, USD, GBP]", throwable.getMessage());
+        }
+    }
+}
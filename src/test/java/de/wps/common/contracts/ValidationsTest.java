@@ -0,0 +1,127 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ValidationsTest {
+
+    @Test
+    void notNull() {
+        assertSame(Violation.NONE, Validations.notNull(new Object()));
+        assertSame(Violation.NULL, Validations.notNull(null));
+    }
+
+    @Test
+    @SuppressWarnings("OptionalAssignedToNull")
+    void present() {
+        assertSame(Violation.NONE, Validations.present(Optional.of("value")));
+        assertSame(Violation.EMPTY, Validations.present(Optional.empty()));
+        assertSame(Violation.NULL, Validations.present(null));
+    }
+
+    @Test
+    void condition() {
+        assertSame(Violation.NONE, Validations.condition(true));
+        assertSame(Violation.UNMET_CONDITION, Validations.condition(false));
+        assertSame(Violation.NONE, Validations.condition(Boolean.TRUE));
+        assertSame(Violation.UNMET_CONDITION, Validations.condition(Boolean.FALSE));
+        assertSame(Violation.UNMET_CONDITION, Validations.condition((Boolean) null));
+    }
+
+    @Test
+    void hasLength() {
+        assertSame(Violation.NONE, Validations.hasLength(" "));
+        assertSame(Violation.EMPTY, Validations.hasLength(""));
+        assertSame(Violation.NULL, Validations.hasLength(null));
+    }
+
+    @Test
+    void hasText() {
+        assertSame(Violation.NONE, Validations.hasText(" text "));
+        assertSame(Violation.BLANK, Validations.hasText(" \t"));
+        assertSame(Violation.BLANK, Validations.hasText(""));
+        assertSame(Violation.NULL, Validations.hasText(null));
+    }
+
+    @Test
+    void maxLength() {
+        assertSame(Violation.NONE, Validations.maxLength("12345", 5));
+        assertSame(Violation.TOO_LONG, Validations.maxLength("123456", 5));
+        assertSame(Violation.NULL, Validations.maxLength(null, 5));
+    }
+
+    @Test
+    void notEmpty() {
+        assertSame(Violation.NONE, Validations.notEmpty(List.of("element")));
+        assertSame(Violation.EMPTY, Validations.notEmpty(List.of()));
+        assertSame(Violation.NULL, Validations.notEmpty((List<?>) null));
+        assertSame(Violation.NONE, Validations.notEmpty(Map.of("key", "value")));
+        assertSame(Violation.EMPTY, Validations.notEmpty(Map.of()));
+        assertSame(Violation.NULL, Validations.notEmpty((Map<?, ?>) null));
+    }
+
+    @Nested
+    class ViolationTest {
+        @Test
+        void validity() {
+            assertTrue(Violation.NONE.isValid());
+            assertFalse(Violation.NONE.isViolated());
+            assertFalse(Violation.NULL.isValid());
+            assertTrue(Violation.NULL.isViolated());
+        }
+
+        @Test
+        void describe() {
+            assertEquals("name was null", Violation.NULL.describe("name"));
+            assertEquals("name was too long", Violation.TOO_LONG.describe("name"));
+            assertEquals("x > 0 did not meet condition", Violation.UNMET_CONDITION.describe("x > 0"));
+        }
+    }
+
+    @Nested
+    class Allocation {
+        @Test
+        void noAllocationOnEitherPath() {
+            String[] values = {"text", null, "", " ", "too long text"};
+            Allocations.assertNoAllocation(iterations -> runValidations(iterations, values));
+        }
+
+        private int runValidations(int iterations, String[] values) {
+            int violations = 0;
+            for(int i = 0; i < iterations; i++) {
+                String value = values[i % values.length];
+                violations += Validations.notNull(value).ordinal();
+                violations += Validations.hasText(value).ordinal();
+                violations += Validations.maxLength(value, 8).ordinal();
+                violations += Validations.condition(i % 2 == 0).ordinal();
+            }
+            return violations;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the WPS - Workplace Solutions GmbH (WPS) under
+ * one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information
+ * regarding copyright ownership. The WPS licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package de.wps.common.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ValidatorTest {
+    private final Validator validator = new Validator();
+
+    @Test
+    void valid() {
+        validate("name", "short", List.of("element"), 42);
+
+        assertTrue(validator.isValid());
+        assertEquals(0, validator.violationCount());
+        assertEquals(List.of(), validator.messages());
+        assertDoesNotThrow(validator::throwIfInvalid);
+    }
+
+    @Test
+    void collectsAllViolations() {
+        validate(" ", "too long text", List.of(), -1);
+
+        assertFalse(validator.isValid());
+        assertEquals(4, validator.violationCount());
+        assertSame(Violation.BLANK, validator.violation(0));
+        assertEquals("name", validator.name(0));
+        assertSame(Violation.TOO_LONG, validator.violation(1));
+        assertSame(Violation.EMPTY, validator.violation(2));
+        assertSame(Violation.UNMET_CONDITION, validator.violation(3));
+        assertEquals(List.of(
+                "Argument name was blank",
+                "Length of description was > 5",
+                "Argument elements was empty",
+                "Argument did not meet condition: count is positive"
+        ), validator.messages());
+    }
+
+    @Test
+    void throwIfInvalid() {
+        validate(null, null, null, 1);
+
+        IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, validator::throwIfInvalid);
+        assertEquals("Argument name was null; Argument description was null; Argument elements was null", throwable.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("OptionalAssignedToNull")
+    void allChecks() {
+        validator.notNull(null, "object")
+                .present(Optional.empty(), "optional")
+                .present(null, "nullOptional")
+                .notEmpty(Map.of(), "map")
+                .hasLength("", "string")
+                .condition(false, "condition")
+                .condition((Boolean) null, "boxed condition")
+                .matches(null, value -> true, "null never matches")
+                .matches("value", String::isEmpty, "value is empty")
+                .notNull("value", "valid");
+
+        assertEquals(List.of(
+                "Argument object was null",
+                "Argument optional was empty",
+                "Argument nullOptional was null",
+                "Argument map was empty",
+                "Argument string was empty",
+                "Argument did not meet condition: condition",
+                "Argument did not meet condition: boxed condition",
+                "Argument did not meet condition: null never matches",
+                "Argument did not meet condition: value is empty"
+        ), validator.messages());
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        Validator smallValidator = new Validator(1);
+        for(int i = 0; i < 20; i++) {
+            smallValidator.notNull(null, "argument" + i);
+        }
+
+        assertEquals(20, smallValidator.violationCount());
+        assertEquals("argument19", smallValidator.name(19));
+    }
+
+    @Test
+    void reset() {
+        validate(null, null, null, -1);
+
+        validator.reset();
+
+        assertTrue(validator.isValid());
+        assertThrows(IndexOutOfBoundsException.class, () -> validator.violation(0));
+    }
+
+    @Test
+    void invalidCapacity() {
+        IllegalArgumentException throwable = assertThrows(IllegalArgumentException.class, () -> new Validator(0));
+        assertEquals("initialCapacity 0 must be at least 1", throwable.getMessage());
+    }
+
+    private void validate(String name, String description, List<String> elements, int count) {
+        validator.hasText(name, "name")
+                .maxLength(description, 5, "description")
+                .notEmpty(elements, "elements")
+                .condition(count > 0, "count is positive");
+    }
+
+    @Nested
+    class Allocation {
+        @Test
+        void noAllocationForValidObjects() {
+            List<String> elements = List.of("element");
+            Allocations.assertNoAllocation(iterations -> runValidations(iterations, elements));
+        }
+
+        private void runValidations(int iterations, List<String> elements) {
+            for(int i = 0; i < iterations; i++) {
+                validator.reset();
+                validate("name", "short", elements, i + 1);
+                validator.throwIfInvalid();
+            }
+        }
+    }
+}